@@ -0,0 +1,37 @@
+package com.sentinovo.carbuildervin.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * In-process Caffeine caches, sized and expired by spring.cache.caffeine.spec. Each node has
+ * its own copy, so services that change cached data go through CacheInvalidationPublisher,
+ * which evicts on every node via Postgres NOTIFY.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PART_CATEGORIES = "partCategories";
+    public static final String PART_TIERS = "partTiers";
+    public static final String UPGRADE_CATEGORIES = "upgradeCategories";
+    public static final String MCP_API_KEY_USERS = "mcpApiKeyUsers";
+    public static final String OAUTH_BEARER_USERS = "oauthBearerUsers";
+
+    public static final List<String> CACHE_NAMES = List.of(
+            PART_CATEGORIES, PART_TIERS, UPGRADE_CATEGORIES, MCP_API_KEY_USERS, OAUTH_BEARER_USERS);
+
+    /**
+     * Creates every cache up front (no dynamic caches), so they all show up in the cache
+     * metrics from startup.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheNamesCustomizer() {
+        return cacheManager -> cacheManager.setCacheNames(CACHE_NAMES);
+    }
+}
@@ -1,10 +1,6 @@
 package com.sentinovo.carbuildervin.config;
 
-import com.sentinovo.carbuildervin.service.oauth.OAuthClientInitService;
-import com.sentinovo.carbuildervin.service.parts.PartCategoryService;
-import com.sentinovo.carbuildervin.service.parts.PartTierService;
-import com.sentinovo.carbuildervin.service.user.RoleService;
-import com.sentinovo.carbuildervin.service.vehicle.UpgradeCategoryService;
+import com.sentinovo.carbuildervin.service.seed.ReferenceDataSeedService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -17,11 +13,7 @@ import org.springframework.core.annotation.Order;
 @Slf4j
 public class DataInitializationConfig {
 
-    private final RoleService roleService;
-    private final UpgradeCategoryService upgradeCategoryService;
-    private final PartCategoryService partCategoryService;
-    private final PartTierService partTierService;
-    private final OAuthClientInitService oAuthClientInitService;
+    private final ReferenceDataSeedService referenceDataSeedService;
 
     @Bean
     @Order(1)
@@ -30,25 +22,9 @@ public class DataInitializationConfig {
             log.info("Initializing default application data...");
             
             try {
-                // Initialize default roles
-                roleService.ensureDefaultRoles();
-                log.info("✓ Default roles initialized");
-                
-                // Initialize default upgrade categories
-                upgradeCategoryService.ensureDefaultCategories();
-                log.info("✓ Default upgrade categories initialized");
-                
-                // Initialize default part categories
-                partCategoryService.ensureDefaultCategories();
-                log.info("✓ Default part categories initialized");
-                
-                // Initialize default part tiers
-                partTierService.ensureDefaultTiers();
-                log.info("✓ Default part tiers initialized");
-
-                // Initialize default OAuth clients (ChatGPT Desktop, Claude Desktop, etc.)
-                oAuthClientInitService.ensureDefaultClients();
-                log.info("✓ Default OAuth clients initialized");
+                // Roles, upgrade/part categories, part tiers and OAuth clients (ChatGPT Desktop,
+                // Claude Desktop, etc.); skipped when the seed definitions are unchanged
+                referenceDataSeedService.seedIfChanged();
 
                 log.info("Default application data initialization completed successfully");
                 
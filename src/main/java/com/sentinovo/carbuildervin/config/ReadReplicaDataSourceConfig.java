@@ -0,0 +1,78 @@
+package com.sentinovo.carbuildervin.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to the primary. Only
+ * active when app.datasource.replica.jdbc-url is set; otherwise Boot's single auto-configured
+ * pool is used as before.
+ *
+ * The connection is fetched lazily, at the first statement, by which point the transaction
+ * manager has marked it read-only; that flag picks the pool. Both pools are Hikari beans, so
+ * they report hikaricp.* metrics tagged pool=primary and pool=replica.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${app.datasource.replica.jdbc-url:}'.isEmpty()")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Bound from app.datasource.replica.* (jdbc-url, username, password and any Hikari setting).
+     * The defaults let the pool start while the replica is down and give up on it quickly.
+     */
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(2_000);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 @Value("${app.datasource.replica.retry-interval:30s}") Duration retryInterval,
+                                 MeterRegistry meterRegistry) {
+        log.info("Routing read-only transactions to the read replica");
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primaryDataSource);
+        routing.setReadOnlyDataSource(
+                new ReplicaFallbackDataSource(replicaDataSource, primaryDataSource, retryInterval, meterRegistry));
+        return routing;
+    }
+
+    /**
+     * Reads fall back to the primary, so a replica outage must not mark the application down.
+     * Replaces Boot's "db" indicator, which would check every DataSource bean.
+     */
+    @Bean
+    public DataSourceHealthIndicator dbHealthIndicator(@Qualifier("primaryDataSource") DataSource primaryDataSource) {
+        return new DataSourceHealthIndicator(primaryDataSource);
+    }
+}
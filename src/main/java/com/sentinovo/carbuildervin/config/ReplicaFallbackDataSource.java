@@ -0,0 +1,74 @@
+package com.sentinovo.carbuildervin.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Read replica with the primary as a fallback. When the replica can't hand out a connection,
+ * reads go to the primary until the retry interval has passed, so an outage costs one
+ * connection timeout rather than one per request.
+ */
+@Slf4j
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final long retryIntervalNanos;
+    private final Counter fallbacks;
+
+    private volatile long replicaDownUntil;
+    private volatile boolean replicaDown;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryInterval, MeterRegistry meterRegistry) {
+        super(replica);
+        this.primary = primary;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.fallbacks = Counter.builder("app.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because the replica was unavailable")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (replicaDown && System.nanoTime() - replicaDownUntil < 0) {
+            fallbacks.increment();
+            return opener.open(primary);
+        }
+
+        try {
+            Connection connection = opener.open(obtainTargetDataSource());
+            if (replicaDown) {
+                replicaDown = false;
+                log.info("Read replica is available again");
+            }
+            return connection;
+        } catch (SQLException e) {
+            replicaDownUntil = System.nanoTime() + retryIntervalNanos;
+            replicaDown = true;
+            log.warn("Read replica unavailable, using the primary for reads for the next {} ms: {}",
+                    Duration.ofNanos(retryIntervalNanos).toMillis(), e.getMessage());
+            fallbacks.increment();
+            return opener.open(primary);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
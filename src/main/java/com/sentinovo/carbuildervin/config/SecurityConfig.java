@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.config;
 
+import com.sentinovo.carbuildervin.mcp.ratelimit.McpRateLimitFilter;
 import com.sentinovo.carbuildervin.mcp.security.McpApiKeyAuthenticationFilter;
 import com.sentinovo.carbuildervin.mcp.security.OAuthBearerTokenFilter;
 import com.sentinovo.carbuildervin.service.user.CustomUserDetailsService;
@@ -11,6 +12,7 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -25,6 +27,8 @@ public class SecurityConfig {
     private final PasswordEncoder passwordEncoder;
     private final McpApiKeyAuthenticationFilter mcpApiKeyAuthenticationFilter;
     private final OAuthBearerTokenFilter oAuthBearerTokenFilter;
+    private final McpRateLimitFilter mcpRateLimitFilter;
+    private final SessionRegistry sessionRegistry;
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
@@ -51,6 +55,8 @@ public class SecurityConfig {
             .addFilterBefore(oAuthBearerTokenFilter, UsernamePasswordAuthenticationFilter.class)
             // Add MCP API key filter second (fallback if no Bearer token)
             .addFilterBefore(mcpApiKeyAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // Rate limit MCP callers once one of the two filters above has identified them
+            .addFilterAfter(mcpRateLimitFilter, McpApiKeyAuthenticationFilter.class)
             .authorizeHttpRequests(authz -> authz
                 // API endpoints
                 .requestMatchers("/api/v1/auth/**").permitAll()
@@ -108,6 +114,7 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .maximumSessions(1)
                 .maxSessionsPreventsLogin(false)
+                .sessionRegistry(sessionRegistry)
             )
             .csrf(csrf -> csrf
                 .csrfTokenRequestHandler(requestHandler)
@@ -0,0 +1,66 @@
+package com.sentinovo.carbuildervin.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.PostgreSqlJdbcIndexedSessionRepositoryCustomizer;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+
+import java.time.Duration;
+
+/**
+ * HTTP sessions are stored in PostgreSQL by Spring Session JDBC (tables from V12), so any node
+ * can serve any request and a restart doesn't log anyone out.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SessionConfig {
+
+    /**
+     * Backs the one-session-per-user limit with the shared session table instead of a
+     * per-node in-memory registry.
+     */
+    @Bean
+    public <S extends Session> SpringSessionBackedSessionRegistry<S> sessionRegistry(
+            FindByIndexNameSessionRepository<S> sessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
+    /**
+     * Writes attributes with INSERT ... ON CONFLICT instead of trying an update first.
+     */
+    @Bean
+    public PostgreSqlJdbcIndexedSessionRepositoryCustomizer postgreSqlSessionRepositoryCustomizer() {
+        return new PostgreSqlJdbcIndexedSessionRepositoryCustomizer();
+    }
+
+    /**
+     * Spring Session rewrites the session row on every request because the last access time
+     * changes. This update only goes through when the id, timeout or principal changed, or the
+     * stored access time is older than the touch interval; expiry is at most that much early.
+     * The parameters arrive in the same order as in the stock query; %TABLE_NAME% is filled in
+     * by the repository.
+     */
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> sessionTouchIntervalCustomizer(
+            @Value("${app.session.touch-interval:60s}") Duration touchInterval) {
+        String updateSessionQuery = """
+                UPDATE %%TABLE_NAME%% AS s
+                SET SESSION_ID = v.session_id, LAST_ACCESS_TIME = v.last_access_time,
+                    MAX_INACTIVE_INTERVAL = v.max_inactive_interval, EXPIRY_TIME = v.expiry_time,
+                    PRINCIPAL_NAME = v.principal_name
+                FROM (SELECT CAST(? AS VARCHAR(36)) AS session_id, CAST(? AS BIGINT) AS last_access_time,
+                             CAST(? AS INT) AS max_inactive_interval, CAST(? AS BIGINT) AS expiry_time,
+                             CAST(? AS VARCHAR(100)) AS principal_name, CAST(? AS VARCHAR(36)) AS primary_id) AS v
+                WHERE s.PRIMARY_ID = v.primary_id
+                  AND (s.SESSION_ID <> v.session_id
+                       OR s.MAX_INACTIVE_INTERVAL <> v.max_inactive_interval
+                       OR s.PRINCIPAL_NAME IS DISTINCT FROM v.principal_name
+                       OR v.last_access_time - s.LAST_ACCESS_TIME >= %d)
+                """.formatted(touchInterval.toMillis());
+        return repository -> repository.setUpdateSessionQuery(updateSessionQuery);
+    }
+}
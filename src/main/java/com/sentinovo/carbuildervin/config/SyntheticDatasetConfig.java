@@ -0,0 +1,37 @@
+package com.sentinovo.carbuildervin.config;
+
+import com.sentinovo.carbuildervin.service.dataset.SyntheticDatasetGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Generates the synthetic dataset on startup when the dataset profile is active, after the
+ * reference data has been seeded, and then shuts down (see application-dataset.properties).
+ */
+@Configuration
+@Profile("dataset")
+@RequiredArgsConstructor
+public class SyntheticDatasetConfig {
+
+    private final SyntheticDatasetGenerator syntheticDatasetGenerator;
+    private final SyntheticDatasetProperties syntheticDatasetProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Bean
+    @Order(2)
+    public CommandLineRunner generateSyntheticDataset() {
+        return args -> {
+            syntheticDatasetGenerator.generate(syntheticDatasetProperties);
+
+            if (syntheticDatasetProperties.isExitWhenDone()) {
+                System.exit(SpringApplication.exit(applicationContext, () -> 0));
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.sentinovo.carbuildervin.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Configuration properties for the synthetic dataset generator (dataset profile).
+ * Per-parent counts are averages; actual counts vary between 0 and twice the average.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.dataset")
+public class SyntheticDatasetProperties {
+
+    /**
+     * Random seed. The same seed, counts and as-of date produce the same rows and ids.
+     */
+    private long seed = 42;
+
+    /**
+     * Number of users to create.
+     */
+    private int users = 100;
+
+    /**
+     * Average vehicles per user.
+     */
+    private int vehiclesPerUser = 3;
+
+    /**
+     * Average builds per vehicle.
+     */
+    private int buildsPerVehicle = 4;
+
+    /**
+     * Average parts per build.
+     */
+    private int partsPerBuild = 25;
+
+    /**
+     * Average sub-parts per part.
+     */
+    private int subPartsPerPart = 1;
+
+    /**
+     * Creation dates are spread over this many days before the as-of date, weighted
+     * towards recent days.
+     */
+    private int historyDays = 730;
+
+    /**
+     * Date the generated history ends on.
+     */
+    private LocalDate asOf = LocalDate.of(2026, 1, 1);
+
+    /**
+     * Password for every generated user (usernames are synth-{seed}-{n}).
+     */
+    private String password = "synthetic-password";
+
+    /**
+     * Users written and committed per COPY round.
+     */
+    private int usersPerBatch = 50;
+
+    /**
+     * Delete users from an earlier run with the same seed (and everything they own) first.
+     */
+    private boolean replace = true;
+
+    /**
+     * Shut the application down once the dataset is written.
+     */
+    private boolean exitWhenDone = true;
+}
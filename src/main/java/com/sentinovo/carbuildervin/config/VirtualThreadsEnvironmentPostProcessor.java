@@ -0,0 +1,34 @@
+package com.sentinovo.carbuildervin.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Moves Reactor's default boundedElastic scheduler onto virtual threads when
+ * spring.threads.virtual.enabled is set.
+ *
+ * The SYNC MCP server runs tool handlers on boundedElastic, which is otherwise capped at
+ * 10 platform threads per core. Reactor reads this flag once, when the Schedulers class is
+ * initialised, so it has to be set as a system property before anything touches Reactor.
+ * Runs right after application properties are loaded; an explicit -D on the command line wins.
+ */
+public class VirtualThreadsEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String BOUNDED_ELASTIC_ON_VIRTUAL_THREADS = "reactor.schedulers.defaultBoundedElasticOnVirtualThreads";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (Threading.VIRTUAL.isActive(environment) && System.getProperty(BOUNDED_ELASTIC_ON_VIRTUAL_THREADS) == null) {
+            System.setProperty(BOUNDED_ELASTIC_ON_VIRTUAL_THREADS, "true");
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sentinovo.carbuildervin.controller.common;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Conditional GET support for build reads. The ETag is derived from a data version stamp
+ * plus the request parameters, so a matching If-None-Match is answered with 304 before any
+ * parts are loaded or aggregated.
+ */
+public final class ConditionalRequests {
+
+    // Browsers (and HTMX requests through them) may store the response but must revalidate it
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Sets the ETag and Cache-Control headers and returns true when the client copy is still
+     * current; the handler should then return null without rendering anything.
+     */
+    public static boolean checkNotModified(WebRequest request, String version) {
+        if (version == null) {
+            return false;
+        }
+
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            }
+        }
+
+        return request.checkNotModified(etag(request, version));
+    }
+
+    private static String etag(WebRequest request, String version) {
+        StringBuilder key = new StringBuilder(version);
+
+        // Filters and paging change the representation, so they are part of the tag
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> {
+            key.append('|').append(name).append('=');
+            key.append(String.join(",", values));
+        });
+
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
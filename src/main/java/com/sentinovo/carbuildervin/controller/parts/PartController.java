@@ -1,16 +1,28 @@
 package com.sentinovo.carbuildervin.controller.parts;
 
+import com.sentinovo.carbuildervin.controller.common.ConditionalRequests;
 import com.sentinovo.carbuildervin.controller.common.StandardApiResponse;
 import com.sentinovo.carbuildervin.controller.common.BaseController;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.common.CursorPageResponseDto;
 import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateResultDto;
 import com.sentinovo.carbuildervin.dto.parts.PartCreateDto;
 import com.sentinovo.carbuildervin.dto.parts.PartDto;
+import com.sentinovo.carbuildervin.dto.parts.PartSearchResultDto;
 import com.sentinovo.carbuildervin.dto.parts.PartUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchRequestDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchResultDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.PartBatchUpdateItemDto;
 import com.sentinovo.carbuildervin.dto.parts.csv.CsvImportResultDto;
 import com.sentinovo.carbuildervin.exception.ValidationException;
+import com.sentinovo.carbuildervin.service.parts.PartBatchService;
+import com.sentinovo.carbuildervin.service.parts.PartSearchService;
 import com.sentinovo.carbuildervin.service.parts.PartService;
+import com.sentinovo.carbuildervin.service.parts.PartStatusService;
 import com.sentinovo.carbuildervin.service.parts.csv.PartCsvImportService;
+import com.sentinovo.carbuildervin.service.vehicle.BuildVersionService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,6 +42,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.UUID;
@@ -46,6 +59,10 @@ public class PartController extends BaseController {
     private final PartCsvImportService partCsvImportService;
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
+    private final BuildVersionService buildVersionService;
+    private final PartSearchService partSearchService;
+    private final PartStatusService partStatusService;
+    private final PartBatchService partBatchService;
 
     @Operation(
         summary = "List parts in build", 
@@ -71,10 +88,15 @@ public class PartController extends BaseController {
     public ResponseEntity<StandardApiResponse<PageResponseDto<PartDto>>> getBuildParts(
             @PathVariable UUID buildId,
             @Parameter(description = "Pagination parameters") Pageable pageable,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         
         String username = authentication.getName();
         log.info("Getting parts for build {} for user: {}", buildId, username);
+
+        if (ConditionalRequests.checkNotModified(webRequest, buildVersionService.getBuildVersion(buildId))) {
+            return null;
+        }
         
         VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(buildId);
         vehicleService.verifyOwnership(build.getVehicleId(), username);
@@ -84,6 +106,72 @@ public class PartController extends BaseController {
         return successPage(parts);
     }
 
+    @Operation(
+        summary = "List parts in build by cursor", 
+        description = "Get a keyset-paginated list of parts ordered by sort order, name and id. " +
+                      "Pass the returned nextCursor to fetch the following page; the total is only counted when includeTotal=true"
+    )
+    @ApiResponse(
+        responseCode = "200", 
+        description = "Parts retrieved successfully",
+        content = @Content(schema = @Schema(implementation = CursorPageResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = "400", 
+        description = "Invalid cursor",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @ApiResponse(
+        responseCode = "404", 
+        description = "Build not found",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @GetMapping("/builds/{buildId}/parts/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<CursorPageResponseDto<PartDto>>> getBuildPartsByCursor(
+            @PathVariable UUID buildId,
+            @Parameter(description = "Opaque cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Whether to count all parts in the build") @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication,
+            WebRequest webRequest) {
+        
+        String username = authentication.getName();
+        log.info("Getting parts by cursor for build {} for user: {}", buildId, username);
+
+        if (ConditionalRequests.checkNotModified(webRequest, buildVersionService.getBuildVersion(buildId))) {
+            return null;
+        }
+        
+        CursorPageResponseDto<PartDto> parts = partService.getPartsByUpgradeIdKeyset(buildId, cursor, limit, includeTotal);
+        
+        return success(parts);
+    }
+
+    @Operation(
+        summary = "Search parts", 
+        description = "Search the current user's parts and sub-parts by name, brand and notes. " +
+                      "Results are ranked by relevance; matches in nameHighlight and snippet are wrapped in <mark>"
+    )
+    @ApiResponse(
+        responseCode = "200", 
+        description = "Search results retrieved successfully",
+        content = @Content(schema = @Schema(implementation = PageResponseDto.class))
+    )
+    @GetMapping("/parts/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<PageResponseDto<PartSearchResultDto>>> searchParts(
+            @Parameter(description = "Search text; supports quoted phrases, OR and -exclusions") @RequestParam("q") String query,
+            @Parameter(description = "Pagination parameters") Pageable pageable,
+            Authentication authentication) {
+        
+        log.info("Searching parts for user: {}", authentication.getName());
+        
+        PageResponseDto<PartSearchResultDto> results = partSearchService.searchParts(query, pageable);
+        
+        return successPage(results);
+    }
+
     @Operation(summary = "Get part by ID", description = "Get a specific part by its ID with sub-parts")
     @ApiResponse(
         responseCode = "200", 
@@ -306,6 +394,104 @@ public class PartController extends BaseController {
         return success(part, "Part status updated successfully");
     }
 
+    @Operation(
+        summary = "Bulk update part statuses",
+        description = "Move many parts and sub-parts to new statuses in one transaction. Items that are not owned " +
+                      "or whose current status does not allow the move are returned as skipped. The response " +
+                      "contains the refreshed status counts of every build that changed."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Statuses updated",
+        content = @Content(schema = @Schema(implementation = BulkStatusUpdateResultDto.class))
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "Invalid request",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @PatchMapping("/parts/status")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BulkStatusUpdateResultDto>> updatePartStatuses(
+            @Valid @RequestBody BulkStatusUpdateDto request) {
+
+        log.info("Bulk updating {} part statuses", request.getChanges().size());
+
+        BulkStatusUpdateResultDto result = partStatusService.updateStatuses(request);
+
+        String message = String.format("Updated %d item(s), skipped %d",
+                result.getUpdatedCount(), result.getSkippedIds().size());
+        return success(result, message);
+    }
+
+    @Operation(
+        summary = "Create parts in batch",
+        description = "Create up to 200 parts in a build in one transaction. Each item is validated on its own; " +
+                      "invalid items are reported in the per-item results and the rest are created."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(schema = @Schema(implementation = BatchResultDto.class))
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "Build not found",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @PostMapping("/builds/{buildId}/parts/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BatchResultDto<PartDto>>> createParts(
+            @PathVariable UUID buildId,
+            @Valid @RequestBody BatchRequestDto<PartCreateDto> request) {
+
+        log.info("Batch creating {} parts in build {}", request.getItems().size(), buildId);
+
+        BatchResultDto<PartDto> result = partBatchService.createParts(buildId, request.getItems());
+        return success(result, batchMessage("Created", result));
+    }
+
+    @Operation(
+        summary = "Update parts in batch",
+        description = "Apply up to 200 part updates in one transaction. Only provided fields are changed; " +
+                      "items for unknown or not owned parts are reported as failed."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(schema = @Schema(implementation = BatchResultDto.class))
+    )
+    @PatchMapping("/parts/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BatchResultDto<PartDto>>> updateParts(
+            @Valid @RequestBody BatchRequestDto<PartBatchUpdateItemDto> request) {
+
+        log.info("Batch updating {} parts", request.getItems().size());
+
+        BatchResultDto<PartDto> result = partBatchService.updateParts(request.getItems());
+        return success(result, batchMessage("Updated", result));
+    }
+
+    @Operation(
+        summary = "Delete parts in batch",
+        description = "Delete up to 200 parts (and their sub-parts) in one transaction"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(schema = @Schema(implementation = BatchResultDto.class))
+    )
+    @PostMapping("/parts/batch-delete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BatchResultDto<Void>>> deleteParts(
+            @Valid @RequestBody BatchRequestDto<UUID> request) {
+
+        log.info("Batch deleting {} parts", request.getItems().size());
+
+        BatchResultDto<Void> result = partBatchService.deleteParts(request.getItems());
+        return success(result, batchMessage("Deleted", result));
+    }
+
     @Operation(summary = "Delete part", description = "Delete a part and all associated sub-parts")
     @ApiResponse(
         responseCode = "204", 
@@ -340,6 +526,10 @@ public class PartController extends BaseController {
         return noContent();
     }
 
+    private String batchMessage(String action, BatchResultDto<?> result) {
+        return String.format("%s %d of %d item(s)", action, result.getSuccessCount(), result.getTotalCount());
+    }
+
     @Schema(description = "Status update request")
     public static class StatusUpdateRequest {
         @jakarta.validation.constraints.NotNull(message = "Status cannot be null")
@@ -0,0 +1,107 @@
+package com.sentinovo.carbuildervin.controller.parts;
+
+import com.sentinovo.carbuildervin.exception.ValidationException;
+import com.sentinovo.carbuildervin.service.parts.export.PartExportService;
+import com.sentinovo.carbuildervin.service.parts.export.PartExportService.ExportScope;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Streaming exports. The scope is resolved (and ownership checked) first, then rows are
+ * written straight to the response output stream.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Export", description = "Streaming CSV and NDJSON export of parts")
+public class PartExportController {
+
+    private static final String CSV = "csv";
+    private static final String NDJSON = "ndjson";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private final PartExportService partExportService;
+
+    @Operation(
+        summary = "Export build",
+        description = "Stream all parts of a build as CSV (import template columns, parts only) or NDJSON (parts and sub-parts)"
+    )
+    @GetMapping("/builds/{buildId}/export")
+    @PreAuthorize("isAuthenticated()")
+    public void exportBuild(
+            @PathVariable UUID buildId,
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = CSV) String format,
+            HttpServletResponse response) throws IOException {
+
+        log.info("Exporting build {} as {}", buildId, format);
+        String type = normalizeFormat(format);
+        export(partExportService.buildScope(buildId), type, response);
+    }
+
+    @Operation(
+        summary = "Export vehicle",
+        description = "Stream the parts of every build of a vehicle as CSV or NDJSON"
+    )
+    @GetMapping("/vehicles/{vehicleId}/export")
+    @PreAuthorize("isAuthenticated()")
+    public void exportVehicle(
+            @PathVariable UUID vehicleId,
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = CSV) String format,
+            HttpServletResponse response) throws IOException {
+
+        log.info("Exporting vehicle {} as {}", vehicleId, format);
+        String type = normalizeFormat(format);
+        export(partExportService.vehicleScope(vehicleId), type, response);
+    }
+
+    @Operation(
+        summary = "Export everything",
+        description = "Stream the parts of all of the current user's builds as CSV or NDJSON"
+    )
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    public void exportAll(
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = CSV) String format,
+            HttpServletResponse response) throws IOException {
+
+        log.info("Exporting all parts as {}", format);
+        String type = normalizeFormat(format);
+        export(partExportService.userScope(), type, response);
+    }
+
+    private String normalizeFormat(String format) {
+        String normalized = format.trim().toLowerCase();
+        if (!CSV.equals(normalized) && !NDJSON.equals(normalized)) {
+            throw new ValidationException("format", "Format must be csv or ndjson");
+        }
+        return normalized;
+    }
+
+    private void export(ExportScope scope, String normalized, HttpServletResponse response) throws IOException {
+        response.setContentType(CSV.equals(normalized) ? "text/csv;charset=UTF-8" : NDJSON_CONTENT_TYPE + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(scope.label() + "." + normalized)
+                .build()
+                .toString());
+
+        if (CSV.equals(normalized)) {
+            partExportService.writeCsv(scope, response.getOutputStream());
+        } else {
+            partExportService.writeNdjson(scope, response.getOutputStream());
+        }
+    }
+}
@@ -3,15 +3,21 @@ package com.sentinovo.carbuildervin.controller.parts;
 import com.sentinovo.carbuildervin.controller.common.StandardApiResponse;
 import com.sentinovo.carbuildervin.controller.common.BaseController;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.common.CursorPageResponseDto;
 import com.sentinovo.carbuildervin.dto.parts.PartDto;
 import com.sentinovo.carbuildervin.dto.parts.SubPartCreateDto;
 import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
 import com.sentinovo.carbuildervin.dto.parts.SubPartUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchRequestDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchResultDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.SubPartBatchUpdateItemDto;
+import com.sentinovo.carbuildervin.service.parts.PartBatchService;
 import com.sentinovo.carbuildervin.service.parts.PartService;
 import com.sentinovo.carbuildervin.service.parts.SubPartService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -41,6 +47,7 @@ public class SubPartController extends BaseController {
     private final PartService partService;
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
+    private final PartBatchService partBatchService;
 
     @Operation(
         summary = "List sub-parts for part", 
@@ -79,6 +86,43 @@ public class SubPartController extends BaseController {
         return success(subParts);
     }
 
+    @Operation(
+        summary = "List sub-parts for part by cursor", 
+        description = "Get a keyset-paginated list of sub-parts ordered by sort order, name and id. " +
+                      "Pass the returned nextCursor to fetch the following page; the total is only counted when includeTotal=true"
+    )
+    @ApiResponse(
+        responseCode = "200", 
+        description = "Sub-parts retrieved successfully",
+        content = @Content(schema = @Schema(implementation = CursorPageResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = "400", 
+        description = "Invalid cursor",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @ApiResponse(
+        responseCode = "404", 
+        description = "Part not found",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @GetMapping("/parts/{partId}/sub-parts/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<CursorPageResponseDto<SubPartDto>>> getPartSubPartsByCursor(
+            @PathVariable UUID partId,
+            @Parameter(description = "Opaque cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Whether to count all sub-parts of the part") @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
+        
+        String username = authentication.getName();
+        log.info("Getting sub-parts by cursor for part {} for user: {}", partId, username);
+        
+        CursorPageResponseDto<SubPartDto> subParts = subPartService.getSubPartsByParentPartIdKeyset(partId, cursor, limit, includeTotal);
+        
+        return success(subParts);
+    }
+
     @Operation(summary = "Get sub-part by ID", description = "Get a specific sub-part by its ID")
     @ApiResponse(
         responseCode = "200", 
@@ -232,6 +276,74 @@ public class SubPartController extends BaseController {
         return success(subPart, "Sub-part status updated successfully");
     }
 
+    @Operation(
+        summary = "Create sub-parts in batch",
+        description = "Create up to 200 sub-parts under a part in one transaction. Each item is validated on its own; " +
+                      "invalid items are reported in the per-item results and the rest are created."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(schema = @Schema(implementation = BatchResultDto.class))
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "Parent part not found",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @PostMapping("/parts/{partId}/sub-parts/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BatchResultDto<SubPartDto>>> createSubParts(
+            @PathVariable UUID partId,
+            @Valid @RequestBody BatchRequestDto<SubPartCreateDto> request) {
+
+        log.info("Batch creating {} sub-parts under part {}", request.getItems().size(), partId);
+
+        BatchResultDto<SubPartDto> result = partBatchService.createSubParts(partId, request.getItems());
+        return success(result, batchMessage("Created", result));
+    }
+
+    @Operation(
+        summary = "Update sub-parts in batch",
+        description = "Apply up to 200 sub-part updates in one transaction. Only provided fields are changed; " +
+                      "items for unknown or not owned sub-parts are reported as failed."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(schema = @Schema(implementation = BatchResultDto.class))
+    )
+    @PatchMapping("/sub-parts/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BatchResultDto<SubPartDto>>> updateSubParts(
+            @Valid @RequestBody BatchRequestDto<SubPartBatchUpdateItemDto> request) {
+
+        log.info("Batch updating {} sub-parts", request.getItems().size());
+
+        BatchResultDto<SubPartDto> result = partBatchService.updateSubParts(request.getItems());
+        return success(result, batchMessage("Updated", result));
+    }
+
+    @Operation(
+        summary = "Delete sub-parts in batch",
+        description = "Delete up to 200 sub-parts in one transaction"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(schema = @Schema(implementation = BatchResultDto.class))
+    )
+    @PostMapping("/sub-parts/batch-delete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BatchResultDto<Void>>> deleteSubParts(
+            @Valid @RequestBody BatchRequestDto<UUID> request) {
+
+        log.info("Batch deleting {} sub-parts", request.getItems().size());
+
+        BatchResultDto<Void> result = partBatchService.deleteSubParts(request.getItems());
+        return success(result, batchMessage("Deleted", result));
+    }
+
     @Operation(summary = "Delete sub-part", description = "Delete a sub-part")
     @ApiResponse(
         responseCode = "204", 
@@ -267,6 +379,10 @@ public class SubPartController extends BaseController {
         return noContent();
     }
 
+    private String batchMessage(String action, BatchResultDto<?> result) {
+        return String.format("%s %d of %d item(s)", action, result.getSuccessCount(), result.getTotalCount());
+    }
+
     @Schema(description = "Status update request")
     public static class StatusUpdateRequest {
         @jakarta.validation.constraints.NotNull(message = "Status cannot be null")
@@ -286,4 +402,4 @@ public class SubPartController extends BaseController {
             this.status = status;
         }
     }
-}
\ No newline at end of file
+}
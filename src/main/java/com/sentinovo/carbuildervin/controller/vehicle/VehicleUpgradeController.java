@@ -2,6 +2,8 @@ package com.sentinovo.carbuildervin.controller.vehicle;
 
 import com.sentinovo.carbuildervin.controller.common.StandardApiResponse;
 import com.sentinovo.carbuildervin.controller.common.BaseController;
+import com.sentinovo.carbuildervin.dto.build.BuildCloneDto;
+import com.sentinovo.carbuildervin.dto.build.BuildCloneResultDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeCreateDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeSummaryDto;
@@ -10,6 +12,7 @@ import com.sentinovo.carbuildervin.dto.auth.UserDto;
 import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
 import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
 import com.sentinovo.carbuildervin.service.user.UserService;
+import com.sentinovo.carbuildervin.service.vehicle.BuildCloneService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,6 +46,7 @@ public class VehicleUpgradeController extends BaseController {
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
     private final UserService userService;
+    private final BuildCloneService buildCloneService;
 
     @Operation(
         summary = "List builds for vehicle", 
@@ -147,6 +151,36 @@ public class VehicleUpgradeController extends BaseController {
         return created(build, "Build created successfully");
     }
 
+    @Operation(
+        summary = "Clone build",
+        description = "Copy a build with all its parts and sub-parts, optionally to another vehicle you own. " +
+                      "By default the copy and its parts start again as PLANNED."
+    )
+    @ApiResponse(
+        responseCode = "201",
+        description = "Build cloned successfully",
+        content = @Content(schema = @Schema(implementation = BuildCloneResultDto.class))
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "Build or target vehicle not found",
+        content = @Content(schema = @Schema(implementation = StandardApiResponse.class))
+    )
+    @PostMapping("/builds/{buildId}/clone")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StandardApiResponse<BuildCloneResultDto>> cloneBuild(
+            @PathVariable UUID buildId,
+            @Valid @RequestBody(required = false) BuildCloneDto cloneDto) {
+
+        log.info("Cloning build {}", buildId);
+
+        BuildCloneResultDto result = buildCloneService.cloneBuild(buildId, cloneDto);
+
+        log.info("Build cloned successfully with ID: {}", result.getBuild().getId());
+        return created(result, String.format("Build cloned with %d part(s) and %d sub-part(s)",
+                result.getPartCount(), result.getSubPartCount()));
+    }
+
     @Operation(summary = "Update build", description = "Update an existing build")
     @ApiResponse(
         responseCode = "200", 
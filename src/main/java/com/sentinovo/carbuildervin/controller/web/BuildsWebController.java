@@ -1,9 +1,10 @@
 package com.sentinovo.carbuildervin.controller.web;
 
+import com.sentinovo.carbuildervin.controller.common.ConditionalRequests;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeCreateDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeUpdateDto;
-import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
+import com.sentinovo.carbuildervin.dto.common.CursorPageResponseDto;
 import com.sentinovo.carbuildervin.dto.parts.PartCreateDto;
 import com.sentinovo.carbuildervin.dto.parts.PartDto;
 import com.sentinovo.carbuildervin.dto.parts.PartUpdateDto;
@@ -19,6 +20,7 @@ import com.sentinovo.carbuildervin.service.parts.PartService;
 import com.sentinovo.carbuildervin.service.parts.PartTierService;
 import com.sentinovo.carbuildervin.service.parts.csv.PartCsvImportService;
 import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import com.sentinovo.carbuildervin.service.vehicle.BuildVersionService;
 import com.sentinovo.carbuildervin.service.vehicle.UpgradeCategoryService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
@@ -27,14 +29,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.security.web.csrf.CsrfToken;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -57,6 +57,9 @@ public class BuildsWebController {
     private final PartCsvImportService partCsvImportService;
     private final UpgradeCategoryService upgradeCategoryService;
     private final AuthenticationService authenticationService;
+    private final BuildVersionService buildVersionService;
+
+    private static final int PARTS_TABLE_PAGE_SIZE = 100;
 
     /**
      * Main builds page - accordion-based vehicle build management
@@ -90,18 +93,30 @@ public class BuildsWebController {
     }
 
     /**
-     * Get parts table for a build (HTMX fragment for accordion)
+     * Get parts table for a build (HTMX fragment for accordion).
+     * With a cursor, only the next page of rows is returned to replace the "load more" row.
      */
     @GetMapping("/{buildId}/parts-table")
-    public String getPartsTableFragment(@PathVariable UUID buildId, Model model) {
-        log.debug("Loading parts table for build: {}", buildId);
+    public String getPartsTableFragment(@PathVariable UUID buildId,
+                                        @RequestParam(required = false) String cursor,
+                                        Model model,
+                                        WebRequest webRequest) {
+        if (ConditionalRequests.checkNotModified(webRequest, buildVersionService.getBuildVersion(buildId))) {
+            return null;
+        }
 
-        // Get parts for this build
-        Pageable pageable = PageRequest.of(0, 100, Sort.by("priorityValue", "createdAt"));
-        PageResponseDto<PartDto> partsPage = partService.getPartsByUpgradeIdPaged(buildId, pageable);
+        log.debug("Loading parts table for build: {}, cursor: {}", buildId, cursor);
+
+        // Get one keyset page of parts for this build
+        CursorPageResponseDto<PartDto> partsPage = partService.getPartsByUpgradeIdKeyset(
+                buildId, cursor, PARTS_TABLE_PAGE_SIZE, false);
         model.addAttribute("parts", partsPage.getItems());
+        model.addAttribute("nextCursor", partsPage.getNextCursor());
         model.addAttribute("buildId", buildId);
 
+        if (cursor != null) {
+            return "builds/fragments/parts-table :: parts-rows";
+        }
         return "builds/fragments/parts-table :: parts-table";
     }
 
@@ -1,7 +1,10 @@
 package com.sentinovo.carbuildervin.controller.web;
 
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateResultDto;
 import com.sentinovo.carbuildervin.dto.parts.PartDto;
 import com.sentinovo.carbuildervin.service.parts.PartService;
+import com.sentinovo.carbuildervin.service.parts.PartStatusService;
 import com.sentinovo.carbuildervin.service.user.AuthenticationService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
@@ -25,6 +28,7 @@ import java.util.UUID;
 public class PartsWebController {
 
     private final PartService partService;
+    private final PartStatusService partStatusService;
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
     private final AuthenticationService authenticationService;
@@ -69,6 +73,26 @@ public class PartsWebController {
         }
     }
 
+    /**
+     * Bulk status update (Kanban)
+     * Called when several cards are dropped at once. Applies all moves in one transaction
+     * and returns the refreshed per-build column counts as JSON.
+     */
+    @PatchMapping("/status")
+    @ResponseBody
+    public BulkStatusUpdateResultDto updatePartStatuses(@RequestBody BulkStatusUpdateDto request,
+                                                        HttpServletResponse response) {
+        log.info("Bulk updating part statuses: {} change(s)",
+                request.getChanges() != null ? request.getChanges().size() : 0);
+
+        // Validation and ownership errors are answered by GlobalExceptionHandler
+        BulkStatusUpdateResultDto result = partStatusService.updateStatuses(request);
+
+        // Set HX-Trigger header for any listeners
+        response.setHeader("HX-Trigger", "partUpdated");
+        return result;
+    }
+
     /**
      * Delete part (HTMX)
      * Returns empty response for outerHTML swap (removes the row).
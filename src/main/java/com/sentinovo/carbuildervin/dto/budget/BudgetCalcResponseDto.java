@@ -36,4 +36,7 @@ public class BudgetCalcResponseDto {
     private long totalItemsCount;
     private long requiredItemsCount;
     private long optionalItemsCount;
+
+    // Line items the totals were calculated from
+    private List<BudgetLineItemDto> lineItems;
 }
@@ -0,0 +1,28 @@
+package com.sentinovo.carbuildervin.dto.build;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to clone a build with all its parts and sub-parts")
+public class BuildCloneDto {
+
+    @Schema(description = "Vehicle to clone the build to; defaults to the source build's vehicle")
+    private UUID targetVehicleId;
+
+    @Size(max = 150, message = "Name cannot exceed 150 characters")
+    @Schema(description = "Name of the new build; defaults to the source name with \" (copy)\"", example = "Overland Build v2")
+    private String name;
+
+    @Schema(description = "Reset the build and all cloned parts to PLANNED (default true)", example = "true")
+    private Boolean resetStatuses;
+}
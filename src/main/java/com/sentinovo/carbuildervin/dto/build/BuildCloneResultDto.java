@@ -0,0 +1,29 @@
+package com.sentinovo.carbuildervin.dto.build;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of cloning a build")
+public class BuildCloneResultDto {
+
+    @Schema(description = "Id of the build that was cloned")
+    private UUID sourceBuildId;
+
+    @Schema(description = "The new build")
+    private VehicleUpgradeDto build;
+
+    @Schema(description = "Number of parts copied", example = "42")
+    private int partCount;
+
+    @Schema(description = "Number of sub-parts copied", example = "17")
+    private int subPartCount;
+}
@@ -0,0 +1,39 @@
+package com.sentinovo.carbuildervin.dto.build;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cost rollup over all parts and sub-parts of a build")
+public class BuildCostRollupDto {
+
+    @Schema(description = "Currency code", example = "USD")
+    private String currencyCode;
+
+    @Schema(description = "Cost of required parts and sub-parts", example = "2450.00")
+    private BigDecimal requiredCost;
+
+    @Schema(description = "Cost of optional parts and sub-parts", example = "380.00")
+    private BigDecimal optionalCost;
+
+    @Schema(description = "Required plus optional cost", example = "2830.00")
+    private BigDecimal combinedCost;
+
+    @Schema(description = "Number of parts in the build", example = "12")
+    private long partCount;
+
+    @Schema(description = "Number of sub-parts in the build", example = "30")
+    private long subPartCount;
+
+    @Schema(description = "Number of parts per status")
+    private Map<String, Long> partsByStatus;
+}
@@ -0,0 +1,29 @@
+package com.sentinovo.carbuildervin.dto.build;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Build with its vehicle label, parts, sub-parts and cost rollup")
+public class FullBuildDto {
+
+    @Schema(description = "The build")
+    private VehicleUpgradeDto build;
+
+    @Schema(description = "Vehicle nickname, or year, make and model", example = "Trail Rig")
+    private String vehicleLabel;
+
+    @Schema(description = "Cost rollup over the whole build, whatever the requested depth")
+    private BuildCostRollupDto costs;
+
+    @Schema(description = "Parts of the build, omitted at depth 0")
+    private List<FullBuildPartDto> parts;
+}
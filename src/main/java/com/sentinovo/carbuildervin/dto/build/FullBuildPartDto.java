@@ -0,0 +1,26 @@
+package com.sentinovo.carbuildervin.dto.build;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.sentinovo.carbuildervin.dto.parts.PartDto;
+import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Part of a build with its sub-parts nested")
+public class FullBuildPartDto {
+
+    @JsonUnwrapped
+    private PartDto part;
+
+    @Schema(description = "Sub-parts of this part, omitted below depth 2")
+    private List<SubPartDto> subParts;
+}
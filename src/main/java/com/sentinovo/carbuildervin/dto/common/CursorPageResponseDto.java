@@ -0,0 +1,34 @@
+package com.sentinovo.carbuildervin.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor-paginated response wrapper")
+public class CursorPageResponseDto<T> {
+
+    @Schema(description = "Items in current page")
+    private List<T> items;
+
+    @Schema(description = "Maximum number of items requested", example = "50")
+    private int pageSize;
+
+    @Schema(description = "Opaque cursor for the next page, absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Whether there are more elements", example = "true")
+    private boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Total number of elements, only present when requested", example = "150")
+    private Long totalElements;
+}
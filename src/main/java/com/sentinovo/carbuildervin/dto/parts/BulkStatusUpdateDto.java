@@ -0,0 +1,26 @@
+package com.sentinovo.carbuildervin.dto.parts;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to change the status of many parts and sub-parts at once")
+public class BulkStatusUpdateDto {
+
+    @NotEmpty(message = "At least one status change is required")
+    @Size(max = 500, message = "No more than 500 status changes per request")
+    @Valid
+    @Schema(description = "Status changes to apply")
+    private List<StatusChangeDto> changes;
+}
@@ -0,0 +1,28 @@
+package com.sentinovo.carbuildervin.dto.parts;
+
+import com.sentinovo.carbuildervin.dto.status.BuildStatusCountsDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk status change")
+public class BulkStatusUpdateResultDto {
+
+    @Schema(description = "Number of parts and sub-parts whose status was changed", example = "3")
+    private int updatedCount;
+
+    @Schema(description = "IDs left unchanged: not found, not owned, or not allowed to move to the target status")
+    private List<UUID> skippedIds;
+
+    @Schema(description = "Refreshed Kanban counts for every build touched by the change")
+    private List<BuildStatusCountsDto> builds;
+}
@@ -0,0 +1,54 @@
+package com.sentinovo.carbuildervin.dto.parts;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Part or sub-part matching a search, ranked by relevance")
+public class PartSearchResultDto {
+
+    @Schema(description = "Item type", example = "PART", allowableValues = {"PART", "SUB_PART"})
+    private String type;
+
+    @Schema(description = "Part or sub-part ID", example = "f2d9b6c3-8713-4fca-b33e-9c38e8d897aa")
+    private UUID id;
+
+    @Schema(description = "Parent part ID (sub-parts only)", example = "f2d9b6c3-8713-4fca-b33e-9c38e8d897aa")
+    private UUID parentPartId;
+
+    @Schema(description = "Build (vehicle upgrade) ID", example = "f2d9b6c3-8713-4fca-b33e-9c38e8d897aa")
+    private UUID buildId;
+
+    @Schema(description = "Name", example = "Fox 2.5 Coilover")
+    private String name;
+
+    @Schema(description = "Brand", example = "Fox")
+    private String brand;
+
+    @Schema(description = "Part category code", example = "SUSPENSION")
+    private String categoryCode;
+
+    @Schema(description = "Status", example = "PLANNED")
+    private String status;
+
+    @Schema(description = "Price", example = "1299.99")
+    private BigDecimal price;
+
+    @Schema(description = "Relevance score, higher is better", example = "0.82")
+    private Double rank;
+
+    @Schema(description = "HTML-escaped name with matches wrapped in <mark>", example = "Fox 2.5 <mark>Coilover</mark>")
+    private String nameHighlight;
+
+    @Schema(description = "HTML-escaped notes excerpt with matches wrapped in <mark>")
+    private String snippet;
+}
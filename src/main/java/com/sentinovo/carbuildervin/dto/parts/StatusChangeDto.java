@@ -0,0 +1,36 @@
+package com.sentinovo.carbuildervin.dto.parts;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Target status for a single part or sub-part")
+public class StatusChangeDto {
+
+    @NotNull(message = "ID is required")
+    @Schema(description = "Part or sub-part ID", example = "f2d9b6c3-8713-4fca-b33e-9c38e8d897aa")
+    private UUID id;
+
+    @Builder.Default
+    @Pattern(regexp = "^(PART|SUB_PART)$", message = "Type must be PART or SUB_PART")
+    @Schema(description = "Item type", example = "PART", allowableValues = {"PART", "SUB_PART"}, defaultValue = "PART")
+    private String type = "PART";
+
+    @NotBlank(message = "Status is required")
+    @Pattern(
+        regexp = "^(PLANNED|RESEARCHING|ORDERED|DELIVERED|INSTALLED|CANCELLED)$",
+        message = "Status must be one of: PLANNED, RESEARCHING, ORDERED, DELIVERED, INSTALLED, CANCELLED"
+    )
+    @Schema(description = "New status", example = "ORDERED",
+            allowableValues = {"PLANNED", "RESEARCHING", "ORDERED", "DELIVERED", "INSTALLED", "CANCELLED"})
+    private String status;
+}
@@ -0,0 +1,33 @@
+package com.sentinovo.carbuildervin.dto.parts.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single item in a batch request")
+public class BatchItemResultDto<T> {
+
+    @Schema(description = "Position of the item in the request (0-based)", example = "0")
+    private int index;
+
+    @Schema(description = "Id of the created, updated or deleted entity, if known")
+    private UUID id;
+
+    @Schema(description = "Whether the item was applied", example = "true")
+    private boolean success;
+
+    @Schema(description = "Resulting entity (create and update only)")
+    private T data;
+
+    @Schema(description = "Validation or processing errors for this item")
+    private List<String> errors;
+}
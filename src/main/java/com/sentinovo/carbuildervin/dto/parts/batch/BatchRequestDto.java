@@ -0,0 +1,26 @@
+package com.sentinovo.carbuildervin.dto.parts.batch;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch request wrapper; items are validated one by one and reported per item")
+public class BatchRequestDto<T> {
+
+    public static final int MAX_ITEMS = 200;
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = MAX_ITEMS, message = "No more than 200 items per batch")
+    @Schema(description = "Items to process, in order")
+    private List<T> items;
+}
@@ -0,0 +1,29 @@
+package com.sentinovo.carbuildervin.dto.parts.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a batch create, update or delete")
+public class BatchResultDto<T> {
+
+    @Schema(description = "Number of items in the request", example = "60")
+    private int totalCount;
+
+    @Schema(description = "Number of items applied", example = "58")
+    private int successCount;
+
+    @Schema(description = "Number of items rejected", example = "2")
+    private int failureCount;
+
+    @Schema(description = "Per-item results, in request order")
+    private List<BatchItemResultDto<T>> items;
+}
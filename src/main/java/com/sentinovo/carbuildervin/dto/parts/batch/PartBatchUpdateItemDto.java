@@ -0,0 +1,29 @@
+package com.sentinovo.carbuildervin.dto.parts.batch;
+
+import com.sentinovo.carbuildervin.dto.parts.PartUpdateDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One part update in a batch")
+public class PartBatchUpdateItemDto {
+
+    @NotNull(message = "Part id is required")
+    @Schema(description = "Part id", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @NotNull(message = "Changes are required")
+    @Valid
+    @Schema(description = "Fields to change; omitted fields are left as they are")
+    private PartUpdateDto changes;
+}
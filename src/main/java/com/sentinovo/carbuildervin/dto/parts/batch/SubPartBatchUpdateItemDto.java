@@ -0,0 +1,29 @@
+package com.sentinovo.carbuildervin.dto.parts.batch;
+
+import com.sentinovo.carbuildervin.dto.parts.SubPartUpdateDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One sub-part update in a batch")
+public class SubPartBatchUpdateItemDto {
+
+    @NotNull(message = "Sub-part id is required")
+    @Schema(description = "Sub-part id", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @NotNull(message = "Changes are required")
+    @Valid
+    @Schema(description = "Fields to change; omitted fields are left as they are")
+    private SubPartUpdateDto changes;
+}
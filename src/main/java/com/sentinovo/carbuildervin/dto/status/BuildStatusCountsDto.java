@@ -0,0 +1,27 @@
+package com.sentinovo.carbuildervin.dto.status;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Kanban column counts for a build")
+public class BuildStatusCountsDto {
+
+    @Schema(description = "Build (vehicle upgrade) ID", example = "f2d9b6c3-8713-4fca-b33e-9c38e8d897aa")
+    private UUID buildId;
+
+    @Schema(description = "Number of parts per status, in Kanban column order")
+    private Map<String, Long> statusCounts;
+
+    @Schema(description = "Total number of parts in the build", example = "12")
+    private long totalParts;
+}
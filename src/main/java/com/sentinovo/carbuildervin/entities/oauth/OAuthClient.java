@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.entities.oauth;
 
+import com.sentinovo.carbuildervin.entities.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -24,7 +25,7 @@ import java.util.UUID;
 public class OAuthClient {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @NotBlank(message = "Client ID is required")
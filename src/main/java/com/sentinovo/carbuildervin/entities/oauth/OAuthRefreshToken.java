@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.entities.oauth;
 
+import com.sentinovo.carbuildervin.entities.UuidV7;
 import com.sentinovo.carbuildervin.entities.user.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class OAuthRefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @NotBlank(message = "Token hash is required")
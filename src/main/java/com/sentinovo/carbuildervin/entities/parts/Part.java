@@ -10,9 +10,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 @Entity
 @Table(name = "part")
+@NamedEntityGraph(name = "Part.lookups", attributeNodes = {
+        @NamedAttributeNode("partCategory"),
+        @NamedAttributeNode("partTier")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Builder
@@ -24,6 +29,10 @@ public class Part extends BaseEntity {
     @JoinColumn(name = "vehicle_upgrade_id", nullable = false)
     private VehicleUpgrade vehicleUpgrade;
 
+    // Denormalized from the build's vehicle and maintained by database triggers
+    @Column(name = "owner_id", insertable = false, updatable = false)
+    private UUID ownerId;
+
     @NotBlank(message = "Part name is required")
     @Size(max = 200, message = "Part name must not exceed 200 characters")
     @Column(name = "name", length = 200, nullable = false)
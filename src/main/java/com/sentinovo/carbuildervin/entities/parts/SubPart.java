@@ -7,9 +7,14 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.UUID;
 
 @Entity
 @Table(name = "sub_part")
+@NamedEntityGraph(name = "SubPart.lookups", attributeNodes = {
+        @NamedAttributeNode("partCategory"),
+        @NamedAttributeNode("partTier")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Builder
@@ -21,6 +26,10 @@ public class SubPart extends BaseEntity {
     @JoinColumn(name = "parent_part_id", nullable = false)
     private Part parentPart;
 
+    // Denormalized from the parent part and maintained by database triggers
+    @Column(name = "owner_id", insertable = false, updatable = false)
+    private UUID ownerId;
+
     @NotBlank(message = "Sub-part name is required")
     @Size(max = 200, message = "Sub-part name must not exceed 200 characters")
     @Column(name = "name", length = 200, nullable = false)
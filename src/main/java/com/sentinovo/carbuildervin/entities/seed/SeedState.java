@@ -0,0 +1,28 @@
+package com.sentinovo.carbuildervin.entities.seed;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Checksum of a set of seed definitions as of the last time they were applied.
+ */
+@Entity
+@Table(name = "seed_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedState {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "checksum", length = 64, nullable = false)
+    private String checksum;
+
+    @Column(name = "applied_at", nullable = false)
+    private OffsetDateTime appliedAt;
+}
@@ -15,6 +15,9 @@ import java.util.Set;
 
 @Entity
 @Table(name = "vehicle_upgrade")
+@NamedEntityGraph(name = "VehicleUpgrade.category", attributeNodes = {
+        @NamedAttributeNode("upgradeCategory")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Builder
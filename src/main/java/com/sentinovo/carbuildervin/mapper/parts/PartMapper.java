@@ -25,6 +25,7 @@ public interface PartMapper {
     List<PartDto> toDtoList(List<Part> entities);
 
     @Mapping(target = "vehicleUpgrade", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "partCategory", ignore = true)
     @Mapping(target = "partTier", ignore = true)
     @Mapping(target = "productUrl", source = "productUrl")
@@ -33,6 +34,7 @@ public interface PartMapper {
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "vehicleUpgrade", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "partCategory", ignore = true)
     @Mapping(target = "partTier", ignore = true)
     @Mapping(target = "productUrl", source = "productUrl")
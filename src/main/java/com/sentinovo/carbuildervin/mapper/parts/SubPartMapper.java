@@ -24,6 +24,7 @@ public interface SubPartMapper {
     List<SubPartDto> toDtoList(List<SubPart> entities);
 
     @Mapping(target = "parentPart", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "partCategory", ignore = true)
     @Mapping(target = "partTier", ignore = true)
     @Mapping(target = "productUrl", source = "productUrl")
@@ -31,6 +32,7 @@ public interface SubPartMapper {
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "parentPart", ignore = true)
+    @Mapping(target = "ownerId", ignore = true)
     @Mapping(target = "partCategory", ignore = true)
     @Mapping(target = "partTier", ignore = true)
     @Mapping(target = "productUrl", source = "productUrl")
@@ -0,0 +1,31 @@
+package com.sentinovo.carbuildervin.mapper.vehicle;
+
+import com.sentinovo.carbuildervin.dto.vehicle.VehicleDto;
+import com.sentinovo.carbuildervin.entities.vehicle.Vehicle;
+
+/**
+ * Display label of a vehicle: its nickname, or year, make and model when it has none.
+ */
+public final class VehicleLabels {
+
+    private VehicleLabels() {
+    }
+
+    public static String of(VehicleDto vehicle) {
+        return of(vehicle.getNickname(), vehicle.getYear(), vehicle.getMake(), vehicle.getModel());
+    }
+
+    public static String of(Vehicle vehicle) {
+        return of(vehicle.getNickname(), vehicle.getYear(), vehicle.getMake(), vehicle.getModel());
+    }
+
+    private static String of(String nickname, Integer year, String make, String model) {
+        if (nickname != null && !nickname.isEmpty()) {
+            return nickname;
+        }
+        return String.format("%d %s %s",
+                year != null ? year : 0,
+                make != null ? make : "",
+                model != null ? model : "").trim();
+    }
+}
@@ -1,19 +1,66 @@
 package com.sentinovo.carbuildervin.mcp.config;
 
+import com.sentinovo.carbuildervin.mcp.execution.McpToolExecutor;
+import com.sentinovo.carbuildervin.mcp.resources.BuildResourceProvider;
+import com.sentinovo.carbuildervin.mcp.resources.VehicleResourceProvider;
+import com.sentinovo.carbuildervin.mcp.tools.BuildMcpTools;
+import com.sentinovo.carbuildervin.mcp.tools.LookupMcpTools;
+import com.sentinovo.carbuildervin.mcp.tools.PartMcpTools;
+import com.sentinovo.carbuildervin.mcp.tools.SubPartMcpTools;
+import com.sentinovo.carbuildervin.mcp.tools.VehicleMcpTools;
+import com.sentinovo.carbuildervin.mcp.tools.VinDecodeMcpTools;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import lombok.extern.slf4j.Slf4j;
+import org.springaicommunity.mcp.provider.tool.SyncMcpToolProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
  * MCP Server configuration.
  *
  * Tool registration is handled automatically by the Spring AI MCP annotation scanner (fixed in 1.1.1).
  * All @McpTool annotated methods in @Component beans are auto-discovered.
  *
+ * In ASYNC mode the scanner only registers tools returning Mono/Flux, so the (blocking) tools
+ * are registered here instead, each call handed to {@link McpToolExecutor} to run within the
+ * app.mcp.execution limits. The transport's request thread still waits for the result.
+ *
  * Configuration:
  * - spring.ai.mcp.server.annotation-scanner.enabled=true (in application.properties)
+ * - spring.ai.mcp.server.type=SYNC|ASYNC
  */
 @Slf4j
 @Configuration
 public class McpServerConfig {
-    // Tool registration is handled by McpServerAnnotationScannerAutoConfiguration
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public List<McpServerFeatures.AsyncToolSpecification> offloadedToolSpecifications(
+            BuildMcpTools buildMcpTools,
+            LookupMcpTools lookupMcpTools,
+            PartMcpTools partMcpTools,
+            SubPartMcpTools subPartMcpTools,
+            VehicleMcpTools vehicleMcpTools,
+            VinDecodeMcpTools vinDecodeMcpTools,
+            BuildResourceProvider buildResourceProvider,
+            VehicleResourceProvider vehicleResourceProvider,
+            McpToolExecutor mcpToolExecutor) {
+
+        List<McpServerFeatures.SyncToolSpecification> tools = new SyncMcpToolProvider(List.of(
+                buildMcpTools, lookupMcpTools, partMcpTools, subPartMcpTools, vehicleMcpTools,
+                vinDecodeMcpTools, buildResourceProvider, vehicleResourceProvider)).getToolSpecifications();
+        log.info("Registering {} MCP tools with off-thread execution", tools.size());
+
+        return tools.stream()
+                .map(tool -> McpServerFeatures.AsyncToolSpecification.builder()
+                        .tool(tool.tool())
+                        .callHandler((exchange, request) -> mcpToolExecutor.submit(tool.tool().name(),
+                                () -> tool.callHandler().apply(new McpSyncServerExchange(exchange), request)))
+                        .build())
+                .toList();
+    }
 }
@@ -0,0 +1,42 @@
+package com.sentinovo.carbuildervin.mcp.execution;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for running MCP tool calls off the transport thread
+ * (spring.ai.mcp.server.type=ASYNC).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.mcp.execution")
+public class McpExecutionProperties {
+
+    /**
+     * Tool calls running at the same time across all sessions. Keep it near the connection
+     * pool size; the calls are mostly database work.
+     */
+    private int maxConcurrent = 16;
+
+    /**
+     * Tool calls running at the same time for one MCP session (or user, when the transport
+     * has no session id).
+     */
+    private int maxConcurrentPerSession = 4;
+
+    /**
+     * Tool calls waiting for a slot across all sessions; calls beyond this are rejected
+     * straight away.
+     */
+    private int maxQueued = 200;
+
+    /**
+     * How long a tool call may wait for a slot before it is rejected.
+     */
+    private Duration queueTimeout = Duration.ofSeconds(30);
+}
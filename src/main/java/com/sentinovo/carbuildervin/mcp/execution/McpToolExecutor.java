@@ -0,0 +1,208 @@
+package com.sentinovo.carbuildervin.mcp.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking MCP tool calls on virtual threads within a server-wide and a per-session
+ * concurrency limit. A call over a limit waits (queued) up to the queue timeout, and calls
+ * beyond the queue capacity are rejected straight away with an error result the client can
+ * retry on.
+ * <p>
+ * This does not free the request thread: the WebMvc SSE transport blocks on the returned Mono
+ * until the call completes. What it adds is bounded tool concurrency (so a burst of tool calls
+ * cannot take every database connection), fairness between sessions, fast rejection under
+ * overload and the queue/running metrics.
+ * <p>
+ * The caller's security context and MCP session are captured on the transport thread, where
+ * the authentication filters put them, and the context is restored on the worker thread.
+ */
+@Slf4j
+@Component
+public class McpToolExecutor implements DisposableBean {
+
+    private static final String SSE_SESSION_PARAMETER = "sessionId";
+    private static final String STREAMABLE_SESSION_HEADER = "Mcp-Session-Id";
+
+    private final McpExecutionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mcp-tool-", 0).factory());
+    private final Semaphore serverPermits;
+    private final Map<String, SessionPermits> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Timer queueWait;
+
+    public McpToolExecutor(McpExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.serverPermits = new Semaphore(properties.getMaxConcurrent(), true);
+        Gauge.builder("app.mcp.tool.calls.queued", queued, AtomicInteger::get)
+                .description("MCP tool calls waiting for a concurrency slot")
+                .register(meterRegistry);
+        Gauge.builder("app.mcp.tool.calls.running", running, AtomicInteger::get)
+                .description("MCP tool calls currently running")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("app.mcp.tool.calls.queue.wait")
+                .description("Time MCP tool calls waited for a concurrency slot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a tool call within the concurrency limits. Must be called on the transport thread.
+     */
+    public Mono<CallToolResult> submit(String toolName, Callable<CallToolResult> call) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        String sessionKey = sessionKey(securityContext);
+
+        if (queued.incrementAndGet() > properties.getMaxQueued()) {
+            queued.decrementAndGet();
+            return Mono.just(reject(toolName, "queue_full",
+                    "The server is busy with other tool calls. Retry shortly."));
+        }
+
+        return Mono.fromFuture(CompletableFuture.supplyAsync(
+                () -> run(toolName, sessionKey, securityContext, call), executor));
+    }
+
+    private CallToolResult run(String toolName, String sessionKey, SecurityContext securityContext,
+                               Callable<CallToolResult> call) {
+        long queuedAt = System.nanoTime();
+        long deadline = queuedAt + properties.getQueueTimeout().toNanos();
+        SessionPermits session = sessions.compute(sessionKey, (key, permits) -> {
+            SessionPermits current = permits != null ? permits : new SessionPermits(properties.getMaxConcurrentPerSession());
+            current.users++;
+            return current;
+        });
+        boolean sessionAcquired = false;
+        boolean serverAcquired = false;
+        boolean dequeued = false;
+        try {
+            sessionAcquired = session.permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (!sessionAcquired) {
+                return reject(toolName, "session_limit",
+                        "Too many tool calls in progress for this session. Wait for earlier calls to finish.");
+            }
+            serverAcquired = serverPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (!serverAcquired) {
+                return reject(toolName, "server_limit", "The server is busy with other tool calls. Retry shortly.");
+            }
+
+            queued.decrementAndGet();
+            dequeued = true;
+            queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            return invoke(toolName, securityContext, call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject(toolName, "interrupted", "The tool call was cancelled.");
+        } finally {
+            if (!dequeued) {
+                queued.decrementAndGet();
+            }
+            if (serverAcquired) {
+                serverPermits.release();
+            }
+            if (sessionAcquired) {
+                session.permits.release();
+            }
+            sessions.computeIfPresent(sessionKey, (key, permits) -> --permits.users == 0 ? null : permits);
+        }
+    }
+
+    private CallToolResult invoke(String toolName, SecurityContext securityContext, Callable<CallToolResult> call) {
+        running.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            CallToolResult result = call.call();
+            outcome = Boolean.TRUE.equals(result.isError()) ? "error" : "success";
+            return result;
+        } catch (Exception e) {
+            log.error("MCP tool {} failed: {}", toolName, e.getMessage(), e);
+            return CallToolResult.builder()
+                    .addTextContent("Error: " + e.getMessage())
+                    .isError(true)
+                    .build();
+        } finally {
+            SecurityContextHolder.clearContext();
+            running.decrementAndGet();
+            sample.stop(Timer.builder("app.mcp.tool.calls")
+                    .description("MCP tool call execution time")
+                    .tag("tool", toolName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private CallToolResult reject(String toolName, String reason, String message) {
+        log.warn("MCP tool call {} rejected: {}", toolName, reason);
+        Counter.builder("app.mcp.tool.calls.rejected")
+                .description("MCP tool calls rejected by the concurrency limits")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return CallToolResult.builder()
+                .addTextContent(message)
+                .isError(true)
+                .build();
+    }
+
+    /**
+     * The MCP session from the current transport request, falling back to the user when the
+     * transport has no session id.
+     */
+    private String sessionKey(SecurityContext securityContext) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String sessionId = request.getParameter(SSE_SESSION_PARAMETER);
+            if (sessionId == null) {
+                sessionId = request.getHeader(STREAMABLE_SESSION_HEADER);
+            }
+            if (sessionId != null) {
+                return "session:" + sessionId;
+            }
+        }
+
+        Authentication authentication = securityContext.getAuthentication();
+        return authentication != null ? "user:" + authentication.getName() : "anonymous";
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static final class SessionPermits {
+
+        private final Semaphore permits;
+        private int users;
+
+        private SessionPermits(int limit) {
+            this.permits = new Semaphore(limit, true);
+        }
+    }
+}
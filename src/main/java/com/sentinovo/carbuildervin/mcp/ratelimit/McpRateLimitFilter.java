@@ -0,0 +1,108 @@
+package com.sentinovo.carbuildervin.mcp.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sentinovo.carbuildervin.mcp.security.McpApiKeyAuthentication;
+import com.sentinovo.carbuildervin.mcp.security.OAuthBearerTokenAuthentication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits MCP requests (/mcp/** and /api/v1/mcp/**) with a token bucket per API key user
+ * and per OAuth client and user, so one client looping on a tool cannot starve the others.
+ * Runs after the Bearer token and API key filters have identified the caller; throttled
+ * requests get a 429 with Retry-After.
+ */
+@Slf4j
+@Component
+public class McpRateLimitFilter extends OncePerRequestFilter {
+
+    static final String SCOPE_API_KEY = "api_key";
+    static final String SCOPE_OAUTH_CLIENT = "oauth_client";
+
+    private final McpRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+
+    public McpRateLimitFilter(McpRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        Gauge.builder("app.mcp.rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("MCP rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String requestPath = request.getRequestURI();
+        return !properties.isEnabled()
+                || !(requestPath.startsWith("/mcp") || requestPath.startsWith("/api/v1/mcp"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String scope;
+        String key;
+        McpRateLimitProperties.Limit limit;
+        if (authentication instanceof OAuthBearerTokenAuthentication oauth) {
+            scope = SCOPE_OAUTH_CLIENT;
+            key = "oauth:" + oauth.getClientId() + ":" + oauth.getUser().getId();
+            limit = properties.getClients().getOrDefault(oauth.getClientId(), properties.getOauthClient());
+        } else if (authentication instanceof McpApiKeyAuthentication apiKey) {
+            scope = SCOPE_API_KEY;
+            key = "api-key:" + apiKey.getUser().getId();
+            limit = properties.getApiKey();
+        } else {
+            // Not identified as an MCP caller; the authentication filters have already answered
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        long waitNanos = buckets.get(key, k -> new TokenBucket(Math.max(1, limit.getBurst()),
+                Math.max(1, limit.getRequestsPerMinute()) / 60.0, now)).tryConsume(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long oneSecond = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = (waitNanos + oneSecond - 1) / oneSecond;
+        log.warn("MCP request {} throttled for {} ({}), retry after {}s",
+                request.getRequestURI(), authentication.getName(), scope, retryAfterSeconds);
+        Counter.builder("app.mcp.rate-limit.throttled")
+                .description("MCP requests rejected by the rate limiter")
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"rate_limited\",\"message\":\"Too many MCP requests. Retry after " +
+                retryAfterSeconds + " seconds\"}");
+    }
+}
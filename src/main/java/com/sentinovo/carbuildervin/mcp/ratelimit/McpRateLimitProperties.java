@@ -0,0 +1,68 @@
+package com.sentinovo.carbuildervin.mcp.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for rate limiting MCP requests (/mcp/** and /api/v1/mcp/**)
+ * per API key user and per OAuth client and user.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.mcp.rate-limit")
+public class McpRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Limit for requests authenticated with an MCP API key, per user.
+     */
+    private Limit apiKey = new Limit(120, 30);
+
+    /**
+     * Limit for requests authenticated with an OAuth Bearer token, per client and user.
+     */
+    private Limit oauthClient = new Limit(120, 30);
+
+    /**
+     * Overrides of the OAuth limit by client id.
+     */
+    private Map<String, Limit> clients = new HashMap<>();
+
+    /**
+     * Buckets kept in memory; the least recently used are dropped beyond this, which gives
+     * their callers a full bucket again.
+     */
+    private int maxBuckets = 10_000;
+
+    /**
+     * Buckets unused for this long are dropped. Keep it above the time a bucket takes to refill.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Sustained rate the bucket refills at.
+         */
+        private int requestsPerMinute;
+
+        /**
+         * Bucket capacity: requests allowed at once before the sustained rate applies.
+         */
+        private int burst;
+    }
+}
@@ -1,12 +1,13 @@
 package com.sentinovo.carbuildervin.mcp.resources;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeSummaryDto;
 import com.sentinovo.carbuildervin.dto.parts.PartDto;
-import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.mcp.support.McpFullBuildRenderer;
+import com.sentinovo.carbuildervin.mcp.support.McpJsonWriter;
 import com.sentinovo.carbuildervin.service.parts.PartService;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +35,8 @@ public class BuildResourceProvider {
     private final VehicleService vehicleService;
     private final PartService partService;
     private final McpUserContextProvider userContextProvider;
-    private final ObjectMapper objectMapper;
+    private final McpFullBuildRenderer fullBuildRenderer;
+    private final McpJsonWriter jsonWriter;
 
     @McpTool(name = "getBuildResource",
             description = "Get a build resource by its URI (build://{buildId})",
@@ -42,7 +44,7 @@ public class BuildResourceProvider {
     public String getBuildResource(
             @McpToolParam(description = "The build ID from the URI") String buildId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP Resource: Getting build {} for user: {}", buildId, user.getUsername());
 
         try {
@@ -51,7 +53,7 @@ public class BuildResourceProvider {
             // Verify ownership
             vehicleService.verifyOwnership(build.getVehicleId(), user.getUsername());
 
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(build);
+            return jsonWriter.write(build);
         } catch (Exception e) {
             log.error("Error fetching build resource: {}", e.getMessage());
             return "{\"error\": \"" + e.getMessage() + "\"}";
@@ -64,7 +66,7 @@ public class BuildResourceProvider {
     public String getVehicleBuildsResource(
             @McpToolParam(description = "The vehicle ID") String vehicleId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP Resource: Getting builds for vehicle {} for user: {}", vehicleId, user.getUsername());
 
         try {
@@ -73,7 +75,7 @@ public class BuildResourceProvider {
 
             List<VehicleUpgradeDto> builds = vehicleUpgradeService.getVehicleUpgradesByVehicleId(
                     UUID.fromString(vehicleId));
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(builds);
+            return jsonWriter.write(builds);
         } catch (Exception e) {
             log.error("Error fetching builds resource: {}", e.getMessage());
             return "{\"error\": \"" + e.getMessage() + "\"}";
@@ -86,7 +88,7 @@ public class BuildResourceProvider {
     public String getBuildSummaryResource(
             @McpToolParam(description = "The build ID") String buildId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP Resource: Getting build summary {} for user: {}", buildId, user.getUsername());
 
         try {
@@ -133,10 +135,28 @@ public class BuildResourceProvider {
             summary.put("installedCost", installedCost);
             summary.put("partsByStatus", statusCounts);
 
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary);
+            return jsonWriter.write(summary);
         } catch (Exception e) {
             log.error("Error fetching build summary resource: {}", e.getMessage());
             return "{\"error\": \"" + e.getMessage() + "\"}";
         }
     }
+
+    @McpTool(name = "getFullBuildResource",
+            description = "Get a build with its parts, nested sub-parts and cost rollup (build://{buildId}/full)",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
+    public String getFullBuildResource(
+            @McpToolParam(description = "The build ID") String buildId,
+            @McpToolParam(description = "0 = build and costs only, 1 = with parts, 2 = with parts and sub-parts (optional, default 2)",
+                    required = false) Integer depth,
+            @McpToolParam(description = "Comma-separated build, part and sub-part fields to return (optional, default all)",
+                    required = false) String fields
+    ) {
+        try {
+            return fullBuildRenderer.render(buildId, depth, fields);
+        } catch (Exception e) {
+            log.error("Error fetching full build resource: {}", e.getMessage());
+            return "{\"error\": \"" + e.getMessage() + "\"}";
+        }
+    }
 }
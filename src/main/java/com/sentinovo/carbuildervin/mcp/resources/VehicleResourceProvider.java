@@ -1,9 +1,9 @@
 package com.sentinovo.carbuildervin.mcp.resources;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sentinovo.carbuildervin.dto.vehicle.VehicleDto;
-import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.mcp.support.McpJsonWriter;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +25,7 @@ public class VehicleResourceProvider {
 
     private final VehicleService vehicleService;
     private final McpUserContextProvider userContextProvider;
-    private final ObjectMapper objectMapper;
+    private final McpJsonWriter jsonWriter;
 
     @McpTool(name = "getVehicleResource",
             description = "Get a vehicle resource by its URI (vehicle://{vehicleId})",
@@ -33,13 +33,13 @@ public class VehicleResourceProvider {
     public String getVehicleResource(
             @McpToolParam(description = "The vehicle ID from the URI") String vehicleId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP Resource: Getting vehicle {} for user: {}", vehicleId, user.getUsername());
 
         try {
             VehicleDto vehicle = vehicleService.getVehicleByIdAndOwnerUsername(
                     UUID.fromString(vehicleId), user.getUsername());
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(vehicle);
+            return jsonWriter.write(vehicle);
         } catch (Exception e) {
             log.error("Error fetching vehicle resource: {}", e.getMessage());
             return "{\"error\": \"" + e.getMessage() + "\"}";
@@ -50,12 +50,12 @@ public class VehicleResourceProvider {
             description = "Get all vehicles for the current user (vehicles://me)",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
     public String getMyVehiclesResource() {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP Resource: Getting all vehicles for user: {}", user.getUsername());
 
         try {
             List<VehicleDto> vehicles = vehicleService.getUserVehicles(user.getId());
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(vehicles);
+            return jsonWriter.write(vehicles);
         } catch (Exception e) {
             log.error("Error fetching vehicles resource: {}", e.getMessage());
             return "{\"error\": \"" + e.getMessage() + "\"}";
@@ -1,12 +1,7 @@
 package com.sentinovo.carbuildervin.mcp.security;
 
-import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-
-import java.util.Collection;
-import java.util.stream.Collectors;
 
 /**
  * Authentication token for MCP API key authentication.
@@ -14,22 +9,16 @@ import java.util.stream.Collectors;
  */
 public class McpApiKeyAuthentication extends AbstractAuthenticationToken {
 
-    private final User user;
+    private final McpUserPrincipal user;
     private final String apiKey;
 
-    public McpApiKeyAuthentication(User user, String apiKey) {
-        super(extractAuthorities(user));
+    public McpApiKeyAuthentication(McpUserPrincipal user, String apiKey) {
+        super(user.getAuthorities());
         this.user = user;
         this.apiKey = apiKey;
         setAuthenticated(true);
     }
 
-    private static Collection<? extends GrantedAuthority> extractAuthorities(User user) {
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
-                .collect(Collectors.toList());
-    }
-
     @Override
     public Object getCredentials() {
         return apiKey;
@@ -48,7 +37,7 @@ public class McpApiKeyAuthentication extends AbstractAuthenticationToken {
     /**
      * Get the authenticated user.
      */
-    public User getUser() {
+    public McpUserPrincipal getUser() {
         return user;
     }
 }
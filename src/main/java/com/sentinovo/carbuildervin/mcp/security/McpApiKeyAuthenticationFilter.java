@@ -1,6 +1,6 @@
 package com.sentinovo.carbuildervin.mcp.security;
 
-import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import com.sentinovo.carbuildervin.service.user.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,7 +17,8 @@ import java.util.Optional;
 
 /**
  * Filter that authenticates MCP requests using API key header.
- * Only processes requests to /api/v1/mcp/** endpoints.
+ * Processes requests to /api/v1/mcp/** endpoints and to the MCP transport under /mcp/**
+ * that were not already authenticated by a Bearer token.
  */
 @Slf4j
 @Component
@@ -35,7 +36,14 @@ public class McpApiKeyAuthenticationFilter extends OncePerRequestFilter {
         String requestPath = request.getRequestURI();
 
         // Only process MCP endpoints
-        if (!requestPath.startsWith("/api/v1/mcp")) {
+        boolean mcpTransport = requestPath.startsWith("/mcp");
+        if (!requestPath.startsWith("/api/v1/mcp") && !mcpTransport) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Bearer token already accepted by OAuthBearerTokenFilter
+        if (mcpTransport && SecurityContextHolder.getContext().getAuthentication() instanceof OAuthBearerTokenAuthentication) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -53,7 +61,7 @@ public class McpApiKeyAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // Look up user by API key
-        Optional<User> userOpt = userService.findByMcpApiKey(apiKey);
+        Optional<McpUserPrincipal> userOpt = userService.findByMcpApiKey(apiKey);
 
         if (userOpt.isEmpty()) {
             log.warn("Invalid MCP API key provided for request: {}", requestPath);
@@ -63,7 +71,7 @@ public class McpApiKeyAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        User user = userOpt.get();
+        McpUserPrincipal user = userOpt.get();
         log.debug("MCP API key authenticated for user: {}", user.getUsername());
 
         // Set authentication in security context
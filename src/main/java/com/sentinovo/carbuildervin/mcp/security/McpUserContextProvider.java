@@ -1,7 +1,7 @@
 package com.sentinovo.carbuildervin.mcp.security;
 
-import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.exception.UnauthorizedException;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -16,18 +16,21 @@ import java.util.UUID;
 public class McpUserContextProvider {
 
     /**
-     * Get the current authenticated user from MCP API key authentication.
-     * @return the authenticated User
+     * Get the current authenticated user from MCP API key or OAuth Bearer token authentication.
+     * @return the authenticated user
      * @throws UnauthorizedException if no valid MCP authentication
      */
-    public User getCurrentUser() {
+    public McpUserPrincipal getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
         if (auth instanceof McpApiKeyAuthentication mcpAuth) {
             return mcpAuth.getUser();
         }
+        if (auth instanceof OAuthBearerTokenAuthentication oauth) {
+            return oauth.getUser();
+        }
 
-        throw new UnauthorizedException("No MCP API key authentication found");
+        throw new UnauthorizedException("No MCP authentication found");
     }
 
     /**
@@ -50,10 +53,10 @@ public class McpUserContextProvider {
 
     /**
      * Check if there is a valid MCP authentication in context.
-     * @return true if authenticated via MCP API key
+     * @return true if authenticated via MCP API key or OAuth Bearer token
      */
     public boolean isMcpAuthenticated() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return auth instanceof McpApiKeyAuthentication;
+        return auth instanceof McpApiKeyAuthentication || auth instanceof OAuthBearerTokenAuthentication;
     }
 }
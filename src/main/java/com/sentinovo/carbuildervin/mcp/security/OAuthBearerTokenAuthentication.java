@@ -1,37 +1,28 @@
 package com.sentinovo.carbuildervin.mcp.security;
 
-import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-
-import java.util.Collection;
-import java.util.stream.Collectors;
 
 /**
  * Authentication token for OAuth 2.0 Bearer token authentication.
- * Contains the authenticated user as the principal and the scopes granted.
+ * Contains the authenticated user as the principal, the client and the scopes granted.
  */
 public class OAuthBearerTokenAuthentication extends AbstractAuthenticationToken {
 
-    private final User user;
+    private final McpUserPrincipal user;
+    private final String clientId;
     private final String token;
     private final String scopes;
 
-    public OAuthBearerTokenAuthentication(User user, String token, String scopes) {
-        super(extractAuthorities(user));
+    public OAuthBearerTokenAuthentication(McpUserPrincipal user, String clientId, String token, String scopes) {
+        super(user.getAuthorities());
         this.user = user;
+        this.clientId = clientId;
         this.token = token;
         this.scopes = scopes;
         setAuthenticated(true);
     }
 
-    private static Collection<? extends GrantedAuthority> extractAuthorities(User user) {
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
-                .collect(Collectors.toList());
-    }
-
     @Override
     public Object getCredentials() {
         return token;
@@ -50,10 +41,17 @@ public class OAuthBearerTokenAuthentication extends AbstractAuthenticationToken
     /**
      * Get the authenticated user.
      */
-    public User getUser() {
+    public McpUserPrincipal getUser() {
         return user;
     }
 
+    /**
+     * Get the OAuth client the token was issued to.
+     */
+    public String getClientId() {
+        return clientId;
+    }
+
     /**
      * Get the OAuth scopes granted to this token.
      */
@@ -1,8 +1,8 @@
 package com.sentinovo.carbuildervin.mcp.security;
 
-import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.service.oauth.JwtTokenService;
 import com.sentinovo.carbuildervin.service.oauth.OAuthService;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -81,24 +81,26 @@ public class OAuthBearerTokenFilter extends OncePerRequestFilter {
 
         Claims claims = claimsOpt.get();
 
-        // Look up user
-        Optional<User> userOpt = oAuthService.validateBearerToken(token);
+        // Look up user; the token's client must still be authorized
+        Optional<String> clientIdOpt = jwtTokenService.extractClientId(claims);
+        Optional<McpUserPrincipal> userOpt = jwtTokenService.extractUserId(claims)
+                .flatMap(userId -> clientIdOpt.flatMap(clientId -> oAuthService.findAuthorizedUser(userId, clientId)));
 
         if (userOpt.isEmpty()) {
-            log.warn("Bearer token valid but user not found or inactive for request: {}", requestPath);
+            log.warn("Bearer token valid but user not found, inactive or no longer authorized for request: {}", requestPath);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json");
-            response.getWriter().write("{\"error\":\"invalid_token\",\"error_description\":\"User not found or inactive\"}");
+            response.getWriter().write("{\"error\":\"invalid_token\",\"error_description\":\"User not found, inactive or authorization revoked\"}");
             return;
         }
 
-        User user = userOpt.get();
+        McpUserPrincipal user = userOpt.get();
         String scopes = jwtTokenService.extractScopes(claims).orElse("");
 
         log.debug("OAuth Bearer token authenticated for user: {} with scopes: {}", user.getUsername(), scopes);
 
         // Set authentication in security context
-        OAuthBearerTokenAuthentication authentication = new OAuthBearerTokenAuthentication(user, token, scopes);
+        OAuthBearerTokenAuthentication authentication = new OAuthBearerTokenAuthentication(user, clientIdOpt.get(), token, scopes);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,39 @@
+package com.sentinovo.carbuildervin.mcp.support;
+
+import com.sentinovo.carbuildervin.dto.build.FullBuildDto;
+import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
+import com.sentinovo.carbuildervin.service.vehicle.FullBuildService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Renders the full build (build, parts with nested sub-parts and cost rollup) for the getFullBuild
+ * tool and the build://{buildId}/full resource.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class McpFullBuildRenderer {
+
+    private final FullBuildService fullBuildService;
+    private final McpUserContextProvider userContextProvider;
+    private final McpJsonWriter jsonWriter;
+
+    /**
+     * @param depth  0 = build and costs, 1 = with parts, 2 = with parts and sub-parts (default)
+     * @param fields comma-separated build, part and sub-part fields to keep; null or blank keeps all
+     */
+    public String render(String buildId, Integer depth, String fields) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Getting full build {} (depth {}, fields {}) for user: {}",
+                buildId, depth, fields, user.getUsername());
+
+        FullBuildDto fullBuild = fullBuildService.getFullBuild(UUID.fromString(buildId), user.getId(),
+                depth != null ? depth : FullBuildService.DEPTH_SUB_PARTS);
+        return jsonWriter.write(fullBuild, fields);
+    }
+}
@@ -0,0 +1,143 @@
+package com.sentinovo.carbuildervin.mcp.support;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes MCP tool and resource payloads compactly: no indentation, and null or empty
+ * values are left out. An optional comma-separated field list trims every entity in the
+ * payload (any object with an id) to those fields plus its id; wrappers such as pages, cost
+ * rollups and nested lists are never trimmed, so the selection reaches the entities inside them.
+ * <p>
+ * Writers are built once: one for full payloads and one per distinct field list, kept in a
+ * small cache so repeated selections by the same clients reuse them.
+ */
+@Component
+public class McpJsonWriter {
+
+    static final String FILTER_ID = "mcpFields";
+
+    private static final String ID_FIELD = "id";
+    private static final int MAX_CACHED_SELECTIONS = 256;
+
+    private final ObjectWriter fullWriter;
+    private final Cache<String, ObjectWriter> selectionWriters = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SELECTIONS)
+            .build();
+
+    public McpJsonWriter(ObjectMapper objectMapper) {
+        ObjectMapper compactMapper = objectMapper.copy()
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_EMPTY)
+                .disable(SerializationFeature.INDENT_OUTPUT)
+                .addMixIn(Object.class, FieldSelectionMixin.class);
+        this.fullWriter = compactMapper.writer(
+                new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    public String write(Object value) {
+        return write(fullWriter, value);
+    }
+
+    /**
+     * @param fields comma-separated fields to keep on each entity; null or blank keeps all
+     */
+    public String write(Object value, String fields) {
+        String selection = normalize(fields);
+        if (selection.isEmpty()) {
+            return write(fullWriter, value);
+        }
+        return write(selectionWriters.get(selection, this::selectionWriter), value);
+    }
+
+    private ObjectWriter selectionWriter(String selection) {
+        Set<String> fields = Set.of(selection.split(","));
+        return fullWriter.with(new SimpleFilterProvider().addFilter(FILTER_ID, new FieldSelectionFilter(fields)));
+    }
+
+    private static String write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize MCP response: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Sorted and de-duplicated, so the same selection written differently shares one writer.
+     */
+    private static String normalize(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return "";
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    @JsonFilter(FILTER_ID)
+    private interface FieldSelectionMixin {
+    }
+
+    /**
+     * Keeps the selected fields and the id of entities, and every property of other objects.
+     * Nested objects and collections are always kept so the filter applies inside them.
+     */
+    private static final class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+        private static final ClassValue<Boolean> ENTITY_TYPES = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return Arrays.stream(type.getMethods()).anyMatch(method -> method.getName().equals("getId")
+                        && method.getParameterCount() == 0);
+            }
+        };
+
+        private final Set<String> fields;
+
+        private FieldSelectionFilter(Set<String> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (include(pojo, writer)) {
+                writer.serializeAsField(pojo, gen, provider);
+            } else if (!gen.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, gen, provider);
+            }
+        }
+
+        private boolean include(Object pojo, PropertyWriter writer) {
+            return !ENTITY_TYPES.get(pojo.getClass())
+                    || ID_FIELD.equals(writer.getName())
+                    || fields.contains(writer.getName())
+                    || isStructure(writer.getType());
+        }
+
+        private static boolean isStructure(JavaType type) {
+            return type.isContainerType()
+                    || !(type.isPrimitive() || type.isEnumType() || type.getRawClass().getName().startsWith("java."));
+        }
+    }
+}
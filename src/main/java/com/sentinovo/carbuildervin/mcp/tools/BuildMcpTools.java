@@ -1,10 +1,14 @@
 package com.sentinovo.carbuildervin.mcp.tools;
 
+import com.sentinovo.carbuildervin.dto.build.BuildCloneDto;
+import com.sentinovo.carbuildervin.dto.build.BuildCloneResultDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeCreateDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeUpdateDto;
-import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.mcp.support.McpFullBuildRenderer;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
+import com.sentinovo.carbuildervin.service.vehicle.BuildCloneService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +33,8 @@ public class BuildMcpTools {
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
     private final McpUserContextProvider userContextProvider;
+    private final BuildCloneService buildCloneService;
+    private final McpFullBuildRenderer fullBuildRenderer;
 
     @McpTool(name = "listBuilds",
             description = "List all builds (upgrade plans) for a specific vehicle",
@@ -36,7 +42,7 @@ public class BuildMcpTools {
     public List<VehicleUpgradeDto> listBuilds(
             @McpToolParam(description = "The UUID of the vehicle") String vehicleId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Listing builds for vehicle {} for user: {}", vehicleId, user.getUsername());
 
         // Verify ownership
@@ -51,7 +57,7 @@ public class BuildMcpTools {
     public VehicleUpgradeDto getBuild(
             @McpToolParam(description = "The UUID of the build") String buildId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Getting build {} for user: {}", buildId, user.getUsername());
 
         VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(UUID.fromString(buildId));
@@ -62,6 +68,20 @@ public class BuildMcpTools {
         return build;
     }
 
+    @McpTool(name = "getFullBuild",
+            description = "Get a build with its vehicle, all parts with nested sub-parts and the cost rollup in one call. " +
+                    "Use this instead of chaining getBuild, listParts and listSubParts",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
+    public String getFullBuild(
+            @McpToolParam(description = "The UUID of the build") String buildId,
+            @McpToolParam(description = "0 = build and costs only, 1 = with parts, 2 = with parts and sub-parts (optional, default 2)",
+                    required = false) Integer depth,
+            @McpToolParam(description = "Comma-separated build, part and sub-part fields to return, e.g. 'name,status,price' (optional, default all; id is always returned)",
+                    required = false) String fields
+    ) {
+        return fullBuildRenderer.render(buildId, depth, fields);
+    }
+
     @McpTool(name = "createBuild",
             description = "Create a new build (upgrade plan) for a vehicle",
             annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
@@ -74,7 +94,7 @@ public class BuildMcpTools {
             @McpToolParam(description = "Target completion date (YYYY-MM-DD format, optional)") String targetCompletionDate,
             @McpToolParam(description = "Is this the primary build for this category?") Boolean isPrimaryForCategory
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Creating build for vehicle {} for user: {}", vehicleId, user.getUsername());
 
         // Verify ownership
@@ -93,6 +113,28 @@ public class BuildMcpTools {
         return vehicleUpgradeService.createVehicleUpgrade(UUID.fromString(vehicleId), createDto);
     }
 
+    @McpTool(name = "cloneBuild",
+            description = "Copy a build with all its parts and sub-parts, e.g. to use it as a template for another " +
+                    "vehicle. The copy is created on the same vehicle unless targetVehicleId is given.",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
+    public BuildCloneResultDto cloneBuild(
+            @McpToolParam(description = "The UUID of the build to copy") String buildId,
+            @McpToolParam(description = "UUID of the vehicle to copy the build to (optional, defaults to the same vehicle)", required = false) String targetVehicleId,
+            @McpToolParam(description = "Name of the new build (optional, defaults to '<name> (copy)')", required = false) String name,
+            @McpToolParam(description = "Reset the build and all parts to PLANNED (optional, default true)", required = false) Boolean resetStatuses
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Cloning build {} for user: {}", buildId, user.getUsername());
+
+        BuildCloneDto cloneDto = BuildCloneDto.builder()
+                .targetVehicleId(targetVehicleId != null && !targetVehicleId.isBlank() ? UUID.fromString(targetVehicleId) : null)
+                .name(name)
+                .resetStatuses(resetStatuses)
+                .build();
+
+        return buildCloneService.cloneBuild(UUID.fromString(buildId), cloneDto);
+    }
+
     @McpTool(name = "updateBuild",
             description = "Update an existing build's information",
             annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
@@ -106,7 +148,7 @@ public class BuildMcpTools {
             @McpToolParam(description = "New status: PLANNED, IN_PROGRESS, COMPLETED, CANCELLED (optional)") String status,
             @McpToolParam(description = "Is this the primary build for this category? (optional)") Boolean isPrimaryForCategory
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Updating build {} for user: {}", buildId, user.getUsername());
 
         // Verify ownership via the build's vehicle
@@ -133,7 +175,7 @@ public class BuildMcpTools {
     public String deleteBuild(
             @McpToolParam(description = "The UUID of the build to delete") String buildId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Deleting build {} for user: {}", buildId, user.getUsername());
 
         // Verify ownership via the build's vehicle
@@ -1,18 +1,29 @@
 package com.sentinovo.carbuildervin.mcp.tools;
 
 import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateResultDto;
 import com.sentinovo.carbuildervin.dto.parts.PartCreateDto;
 import com.sentinovo.carbuildervin.dto.parts.PartDto;
 import com.sentinovo.carbuildervin.dto.parts.PartUpdateDto;
-import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.dto.parts.StatusChangeDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchResultDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.PartBatchUpdateItemDto;
 import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.mcp.support.McpJsonWriter;
+import com.sentinovo.carbuildervin.service.parts.PartBatchService;
+import com.sentinovo.carbuildervin.service.parts.PartSearchService;
 import com.sentinovo.carbuildervin.service.parts.PartService;
+import com.sentinovo.carbuildervin.service.parts.PartStatusService;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -29,33 +40,61 @@ import java.util.UUID;
 public class PartMcpTools {
 
     private final PartService partService;
+    private final PartSearchService partSearchService;
+    private final PartStatusService partStatusService;
+    private final PartBatchService partBatchService;
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
     private final McpUserContextProvider userContextProvider;
+    private final McpJsonWriter jsonWriter;
 
     @McpTool(name = "listParts",
-            description = "List all parts in a specific build",
+            description = "List parts in a specific build, ordered by sort order and name. Results are paged: " +
+                    "when hasNext is true, call again with the returned nextCursor to get the following page",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
-    public List<PartDto> listParts(
-            @McpToolParam(description = "The UUID of the build") String buildId
+    public String listParts(
+            @McpToolParam(description = "The UUID of the build") String buildId,
+            @McpToolParam(description = "Cursor from the previous page's nextCursor (optional)", required = false) String cursor,
+            @McpToolParam(description = "Page size, default 50, max 200 (optional)", required = false) Integer limit,
+            @McpToolParam(description = "Include the total number of parts in the build (optional)", required = false) Boolean includeTotal,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. 'name,status,price' (optional, default all; id is always returned)",
+                    required = false) String fields
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Listing parts for build {} for user: {}", buildId, user.getUsername());
 
-        // Verify ownership via build's vehicle
-        VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(UUID.fromString(buildId));
-        vehicleService.verifyOwnership(build.getVehicleId(), user.getUsername());
+        // Ownership is validated by the service against the current user
+        return jsonWriter.write(partService.getPartsByUpgradeIdKeyset(UUID.fromString(buildId), cursor, limit,
+                Boolean.TRUE.equals(includeTotal)), fields);
+    }
+
+    @McpTool(name = "searchParts",
+            description = "Search all of the user's parts and sub-parts by name, brand and notes, ranked by relevance. " +
+                    "Tolerates typos and partial words; matches are wrapped in <mark> in nameHighlight and snippet",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
+    public String searchParts(
+            @McpToolParam(description = "Search text, e.g. 'coilover' or '\"lift kit\" -rear'") String query,
+            @McpToolParam(description = "Page number, 0-based (optional)", required = false) Integer page,
+            @McpToolParam(description = "Page size, default 20, max 100 (optional)", required = false) Integer size,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. 'name,status,price' (optional, default all; id is always returned)",
+                    required = false) String fields
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Searching parts for user: {}", user.getUsername());
 
-        return partService.getPartsByUpgradeId(UUID.fromString(buildId));
+        Pageable pageable = PageRequest.of(page != null && page >= 0 ? page : 0, size != null && size > 0 ? size : 20);
+        return jsonWriter.write(partSearchService.searchParts(query, pageable), fields);
     }
 
     @McpTool(name = "getPart",
             description = "Get detailed information about a specific part by its ID",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
-    public PartDto getPart(
-            @McpToolParam(description = "The UUID of the part") String partId
+    public String getPart(
+            @McpToolParam(description = "The UUID of the part") String partId,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. 'name,status,price' (optional, default all; id is always returned)",
+                    required = false) String fields
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Getting part {} for user: {}", partId, user.getUsername());
 
         PartDto part = partService.getPartById(UUID.fromString(partId));
@@ -64,7 +103,7 @@ public class PartMcpTools {
         VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(part.getVehicleUpgradeId());
         vehicleService.verifyOwnership(build.getVehicleId(), user.getUsername());
 
-        return part;
+        return jsonWriter.write(part, fields);
     }
 
     @McpTool(name = "createPart",
@@ -83,7 +122,7 @@ public class PartMcpTools {
             @McpToolParam(description = "Priority value for ordering (lower = higher priority)") Integer priorityValue,
             @McpToolParam(description = "Is this part required for the build?") Boolean isRequired
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Creating part for build {} for user: {}", buildId, user.getUsername());
 
         // Verify ownership via build's vehicle
@@ -123,7 +162,7 @@ public class PartMcpTools {
             @McpToolParam(description = "New priority value (optional)") Integer priorityValue,
             @McpToolParam(description = "Is required? (optional)") Boolean isRequired
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Updating part {} for user: {}", partId, user.getUsername());
 
         // Verify ownership via build's vehicle
@@ -148,13 +187,28 @@ public class PartMcpTools {
         return partService.updatePart(UUID.fromString(partId), updateDto);
     }
 
+    @McpTool(name = "updatePartStatuses",
+            description = "Move many parts and/or sub-parts to new statuses in one call. Each change has an id, " +
+                    "a type (PART or SUB_PART, default PART) and a status. Items that are not found or whose " +
+                    "current status does not allow the move are returned in skippedIds. Returns the refreshed " +
+                    "status counts of every affected build.",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
+    public BulkStatusUpdateResultDto updatePartStatuses(
+            @McpToolParam(description = "Status changes: [{id, type, status}] with status one of PLANNED, RESEARCHING, ORDERED, DELIVERED, INSTALLED, CANCELLED") List<StatusChangeDto> changes
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Bulk updating {} part statuses for user: {}", changes != null ? changes.size() : 0, user.getUsername());
+
+        return partStatusService.updateStatuses(BulkStatusUpdateDto.builder().changes(changes).build());
+    }
+
     @McpTool(name = "deletePart",
             description = "Delete a part and all its associated sub-parts",
             annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = true))
     public String deletePart(
             @McpToolParam(description = "The UUID of the part to delete") String partId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Deleting part {} for user: {}", partId, user.getUsername());
 
         // Verify ownership via build's vehicle
@@ -167,13 +221,53 @@ public class PartMcpTools {
         return "Part deleted successfully";
     }
 
+    @McpTool(name = "createParts",
+            description = "Create many parts in a build in one call (max 200). Each item takes the same fields as " +
+                    "createPart (name and categoryCode are required). Invalid items are reported in the per-item " +
+                    "results and the valid ones are created.",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
+    public BatchResultDto<PartDto> createParts(
+            @McpToolParam(description = "The UUID of the build to add parts to") String buildId,
+            @McpToolParam(description = "Parts to create: [{name, categoryCode, tierCode, price, status, brand, partNumber, productUrl, priorityValue, isRequired, notes}]") List<PartCreateDto> parts
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Batch creating {} parts in build {} for user: {}", parts != null ? parts.size() : 0, buildId, user.getUsername());
+
+        return partBatchService.createParts(UUID.fromString(buildId), parts);
+    }
+
+    @McpTool(name = "updateParts",
+            description = "Update many parts in one call (max 200). Each item has the part id and a changes object " +
+                    "with the fields to change; omitted fields are left as they are.",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
+    public BatchResultDto<PartDto> updateParts(
+            @McpToolParam(description = "Updates: [{id, changes: {name, categoryCode, tierCode, price, status, brand, partNumber, productUrl, priorityValue, isRequired, notes}}]") List<PartBatchUpdateItemDto> updates
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Batch updating {} parts for user: {}", updates != null ? updates.size() : 0, user.getUsername());
+
+        return partBatchService.updateParts(updates);
+    }
+
+    @McpTool(name = "deleteParts",
+            description = "Delete many parts and all their sub-parts in one call (max 200)",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = true))
+    public BatchResultDto<Void> deleteParts(
+            @McpToolParam(description = "The UUIDs of the parts to delete") List<String> partIds
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Batch deleting {} parts for user: {}", partIds != null ? partIds.size() : 0, user.getUsername());
+
+        return partBatchService.deleteParts(partIds != null ? partIds.stream().map(UUID::fromString).toList() : null);
+    }
+
     @McpTool(name = "calculateBuildCost",
             description = "Calculate the total cost of all parts in a build",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
     public String calculateBuildCost(
             @McpToolParam(description = "The UUID of the build") String buildId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Calculating cost for build {} for user: {}", buildId, user.getUsername());
 
         // Verify ownership via build's vehicle
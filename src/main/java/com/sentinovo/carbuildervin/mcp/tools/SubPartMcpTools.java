@@ -5,10 +5,14 @@ import com.sentinovo.carbuildervin.dto.parts.PartDto;
 import com.sentinovo.carbuildervin.dto.parts.SubPartCreateDto;
 import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
 import com.sentinovo.carbuildervin.dto.parts.SubPartUpdateDto;
-import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchResultDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.SubPartBatchUpdateItemDto;
 import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.mcp.support.McpJsonWriter;
+import com.sentinovo.carbuildervin.service.parts.PartBatchService;
 import com.sentinovo.carbuildervin.service.parts.PartService;
 import com.sentinovo.carbuildervin.service.parts.SubPartService;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import lombok.RequiredArgsConstructor;
@@ -36,29 +40,38 @@ public class SubPartMcpTools {
     private final VehicleUpgradeService vehicleUpgradeService;
     private final VehicleService vehicleService;
     private final McpUserContextProvider userContextProvider;
+    private final McpJsonWriter jsonWriter;
+    private final PartBatchService partBatchService;
 
     @McpTool(name = "listSubParts",
-            description = "List all sub-parts for a specific parent part",
+            description = "List sub-parts for a specific parent part, ordered by sort order and name. Results are paged: " +
+                    "when hasNext is true, call again with the returned nextCursor to get the following page",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
-    public List<SubPartDto> listSubParts(
-            @McpToolParam(description = "The UUID of the parent part") String partId
+    public String listSubParts(
+            @McpToolParam(description = "The UUID of the parent part") String partId,
+            @McpToolParam(description = "Cursor from the previous page's nextCursor (optional)", required = false) String cursor,
+            @McpToolParam(description = "Page size, default 50, max 200 (optional)", required = false) Integer limit,
+            @McpToolParam(description = "Include the total number of sub-parts (optional)", required = false) Boolean includeTotal,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. 'name,status,price' (optional, default all; id is always returned)",
+                    required = false) String fields
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Listing sub-parts for part {} for user: {}", partId, user.getUsername());
 
-        // Verify ownership via part -> build -> vehicle
-        verifyPartOwnership(UUID.fromString(partId), user.getUsername());
-
-        return subPartService.getSubPartsByParentPartId(UUID.fromString(partId));
+        // Ownership is validated by the service against the current user
+        return jsonWriter.write(subPartService.getSubPartsByParentPartIdKeyset(UUID.fromString(partId), cursor, limit,
+                Boolean.TRUE.equals(includeTotal)), fields);
     }
 
     @McpTool(name = "getSubPart",
             description = "Get detailed information about a specific sub-part by its ID",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
-    public SubPartDto getSubPart(
-            @McpToolParam(description = "The UUID of the sub-part") String subPartId
+    public String getSubPart(
+            @McpToolParam(description = "The UUID of the sub-part") String subPartId,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. 'name,status,price' (optional, default all; id is always returned)",
+                    required = false) String fields
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Getting sub-part {} for user: {}", subPartId, user.getUsername());
 
         SubPartDto subPart = subPartService.getSubPartById(UUID.fromString(subPartId));
@@ -66,7 +79,7 @@ public class SubPartMcpTools {
         // Verify ownership via part -> build -> vehicle
         verifyPartOwnership(subPart.getPartId(), user.getUsername());
 
-        return subPart;
+        return jsonWriter.write(subPart, fields);
     }
 
     @McpTool(name = "createSubPart",
@@ -82,7 +95,7 @@ public class SubPartMcpTools {
             @McpToolParam(description = "Part number (optional)") String partNumber,
             @McpToolParam(description = "Product URL link (optional)") String productUrl
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Creating sub-part for part {} for user: {}", partId, user.getUsername());
 
         // Verify ownership via part -> build -> vehicle
@@ -115,7 +128,7 @@ public class SubPartMcpTools {
             @McpToolParam(description = "New part number (optional)") String partNumber,
             @McpToolParam(description = "New product URL (optional)") String productUrl
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Updating sub-part {} for user: {}", subPartId, user.getUsername());
 
         // Verify ownership via sub-part -> part -> build -> vehicle
@@ -142,7 +155,7 @@ public class SubPartMcpTools {
     public String deleteSubPart(
             @McpToolParam(description = "The UUID of the sub-part to delete") String subPartId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Deleting sub-part {} for user: {}", subPartId, user.getUsername());
 
         // Verify ownership via sub-part -> part -> build -> vehicle
@@ -154,6 +167,46 @@ public class SubPartMcpTools {
         return "Sub-part deleted successfully";
     }
 
+    @McpTool(name = "createSubParts",
+            description = "Create many sub-parts under a parent part in one call (max 200). Each item takes the " +
+                    "same fields as createSubPart (name is required). Invalid items are reported in the per-item " +
+                    "results and the valid ones are created.",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
+    public BatchResultDto<SubPartDto> createSubParts(
+            @McpToolParam(description = "The UUID of the parent part") String partId,
+            @McpToolParam(description = "Sub-parts to create: [{name, description, price, status, brand, partNumber, productUrl}]") List<SubPartCreateDto> subParts
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Batch creating {} sub-parts for part {} for user: {}", subParts != null ? subParts.size() : 0, partId, user.getUsername());
+
+        return partBatchService.createSubParts(UUID.fromString(partId), subParts);
+    }
+
+    @McpTool(name = "updateSubParts",
+            description = "Update many sub-parts in one call (max 200). Each item has the sub-part id and a changes " +
+                    "object with the fields to change; omitted fields are left as they are.",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = false))
+    public BatchResultDto<SubPartDto> updateSubParts(
+            @McpToolParam(description = "Updates: [{id, changes: {name, description, price, status, brand, partNumber, productUrl}}]") List<SubPartBatchUpdateItemDto> updates
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Batch updating {} sub-parts for user: {}", updates != null ? updates.size() : 0, user.getUsername());
+
+        return partBatchService.updateSubParts(updates);
+    }
+
+    @McpTool(name = "deleteSubParts",
+            description = "Delete many sub-parts in one call (max 200)",
+            annotations = @McpTool.McpAnnotations(readOnlyHint = false, destructiveHint = true))
+    public BatchResultDto<Void> deleteSubParts(
+            @McpToolParam(description = "The UUIDs of the sub-parts to delete") List<String> subPartIds
+    ) {
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
+        log.info("MCP: Batch deleting {} sub-parts for user: {}", subPartIds != null ? subPartIds.size() : 0, user.getUsername());
+
+        return partBatchService.deleteSubParts(subPartIds != null ? subPartIds.stream().map(UUID::fromString).toList() : null);
+    }
+
     private void verifyPartOwnership(UUID partId, String username) {
         PartDto part = partService.getPartById(partId);
         VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(part.getVehicleUpgradeId());
@@ -3,8 +3,8 @@ package com.sentinovo.carbuildervin.mcp.tools;
 import com.sentinovo.carbuildervin.dto.vehicle.VehicleCreateDto;
 import com.sentinovo.carbuildervin.dto.vehicle.VehicleDto;
 import com.sentinovo.carbuildervin.dto.vehicle.VehicleUpdateDto;
-import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.mcp.security.McpUserContextProvider;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +31,7 @@ public class VehicleMcpTools {
             description = "List all vehicles owned by the current user",
             annotations = @McpTool.McpAnnotations(readOnlyHint = true, destructiveHint = false))
     public List<VehicleDto> listMyVehicles() {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Listing vehicles for user: {}", user.getUsername());
         return vehicleService.getUserVehicles(user.getId());
     }
@@ -42,7 +42,7 @@ public class VehicleMcpTools {
     public VehicleDto getVehicle(
             @McpToolParam(description = "The UUID of the vehicle") String vehicleId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Getting vehicle {} for user: {}", vehicleId, user.getUsername());
 
         // Verify ownership and return
@@ -63,7 +63,7 @@ public class VehicleMcpTools {
             @McpToolParam(description = "Optional nickname for easy identification") String nickname,
             @McpToolParam(description = "Optional notes about the vehicle") String notes
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Creating vehicle for user: {}", user.getUsername());
 
         VehicleCreateDto createDto = new VehicleCreateDto();
@@ -91,7 +91,7 @@ public class VehicleMcpTools {
             @McpToolParam(description = "New nickname (optional)") String nickname,
             @McpToolParam(description = "New notes (optional)") String notes
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Updating vehicle {} for user: {}", vehicleId, user.getUsername());
 
         // Verify ownership
@@ -115,7 +115,7 @@ public class VehicleMcpTools {
     public VehicleDto archiveVehicle(
             @McpToolParam(description = "The UUID of the vehicle to archive") String vehicleId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Archiving vehicle {} for user: {}", vehicleId, user.getUsername());
 
         // Verify ownership
@@ -130,7 +130,7 @@ public class VehicleMcpTools {
     public VehicleDto unarchiveVehicle(
             @McpToolParam(description = "The UUID of the vehicle to unarchive") String vehicleId
     ) {
-        User user = userContextProvider.getCurrentUser();
+        McpUserPrincipal user = userContextProvider.getCurrentUser();
         log.info("MCP: Unarchiving vehicle {} for user: {}", vehicleId, user.getUsername());
 
         // Verify ownership
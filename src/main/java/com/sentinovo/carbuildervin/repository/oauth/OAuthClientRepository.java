@@ -2,6 +2,7 @@ package com.sentinovo.carbuildervin.repository.oauth;
 
 import com.sentinovo.carbuildervin.entities.oauth.OAuthClient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,4 +23,19 @@ public interface OAuthClientRepository extends JpaRepository<OAuthClient, UUID>
     List<OAuthClient> findAllActive();
 
     boolean existsByClientId(String clientId);
+
+    /**
+     * Registers the given public clients in one statement, leaving existing client ids untouched.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO oauth_client (client_id, client_secret, client_name, redirect_uris, scopes, is_confidential, is_active) " +
+                   "SELECT v.client_id, :clientSecret, v.client_name, v.redirect_uris, :scopes, false, true " +
+                   "FROM unnest(CAST(:clientIds AS text[]), CAST(:clientNames AS text[]), CAST(:redirectUris AS text[])) " +
+                   "AS v(client_id, client_name, redirect_uris) " +
+                   "ON CONFLICT (client_id) DO NOTHING", nativeQuery = true)
+    int insertMissingPublicClients(@Param("clientIds") String[] clientIds,
+                                   @Param("clientNames") String[] clientNames,
+                                   @Param("redirectUris") String[] redirectUris,
+                                   @Param("clientSecret") String clientSecret,
+                                   @Param("scopes") String scopes);
 }
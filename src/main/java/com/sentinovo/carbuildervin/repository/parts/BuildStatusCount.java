@@ -0,0 +1,15 @@
+package com.sentinovo.carbuildervin.repository.parts;
+
+import java.util.UUID;
+
+/**
+ * Number of parts in one Kanban column of a build.
+ */
+public interface BuildStatusCount {
+
+    UUID getBuildId();
+
+    String getStatus();
+
+    Long getPartCount();
+}
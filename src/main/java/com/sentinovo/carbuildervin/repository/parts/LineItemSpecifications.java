@@ -0,0 +1,102 @@
+package com.sentinovo.carbuildervin.repository.parts;
+
+import com.sentinovo.carbuildervin.dto.budget.BudgetFiltersDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria specifications for budget line items (parts and sub-parts of a build).
+ * Part and SubPart share the same filterable columns, so both specifications
+ * apply the same predicates and let the database use the ix_part_* indexes.
+ */
+public final class LineItemSpecifications {
+
+    private LineItemSpecifications() {
+    }
+
+    public static Specification<Part> partsOfBuild(UUID upgradeId, BudgetFiltersDto filters) {
+        return (root, query, cb) -> {
+            fetchLookups(root, query);
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("vehicleUpgrade").get("id"), upgradeId));
+            addFilterPredicates(predicates, root, cb, filters);
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<SubPart> subPartsOfBuild(UUID upgradeId, BudgetFiltersDto filters) {
+        return (root, query, cb) -> {
+            fetchLookups(root, query);
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("parentPart").get("vehicleUpgrade").get("id"), upgradeId));
+            addFilterPredicates(predicates, root, cb, filters);
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Category and tier labels are shown on every line item, so fetch them with the row
+    // (skipped for count queries, where fetch joins are not allowed)
+    private static void fetchLookups(Root<?> root, CriteriaQuery<?> query) {
+        if (query == null || Long.class == query.getResultType() || long.class == query.getResultType()) {
+            return;
+        }
+        root.fetch("partCategory", JoinType.LEFT);
+        root.fetch("partTier", JoinType.LEFT);
+    }
+
+    private static void addFilterPredicates(List<Predicate> predicates, Root<?> root,
+                                            CriteriaBuilder cb, BudgetFiltersDto filters) {
+        if (filters == null) {
+            return;
+        }
+
+        Path<Boolean> isRequired = root.get("isRequired");
+        if (!filters.isIncludeRequired()) {
+            predicates.add(cb.or(cb.isNull(isRequired), cb.isFalse(isRequired)));
+        }
+        if (!filters.isIncludeOptional()) {
+            predicates.add(cb.isTrue(isRequired));
+        }
+
+        // Reading the lookup code goes straight to the FK column, no join needed
+        if (filters.getCategoryCodes() != null && !filters.getCategoryCodes().isEmpty()) {
+            predicates.add(root.get("partCategory").get("code").in(filters.getCategoryCodes()));
+        }
+        if (filters.getTierCodes() != null && !filters.getTierCodes().isEmpty()) {
+            predicates.add(root.get("partTier").get("code").in(filters.getTierCodes()));
+        }
+
+        // Items without a priority or target date are kept, matching the original in-memory filter
+        Path<Integer> priority = root.get("priorityValue");
+        if (filters.getMinPriority() != null) {
+            predicates.add(cb.or(cb.isNull(priority), cb.greaterThanOrEqualTo(priority, filters.getMinPriority())));
+        }
+        if (filters.getMaxPriority() != null) {
+            predicates.add(cb.or(cb.isNull(priority), cb.lessThanOrEqualTo(priority, filters.getMaxPriority())));
+        }
+
+        Path<LocalDate> targetDate = root.get("targetPurchaseDate");
+        if (filters.getStartDate() != null) {
+            predicates.add(cb.or(cb.isNull(targetDate), cb.greaterThanOrEqualTo(targetDate, filters.getStartDate())));
+        }
+        if (filters.getEndDate() != null) {
+            predicates.add(cb.or(cb.isNull(targetDate), cb.lessThanOrEqualTo(targetDate, filters.getEndDate())));
+        }
+
+        if (filters.getStatuses() != null && !filters.getStatuses().isEmpty()) {
+            predicates.add(root.get("status").in(filters.getStatuses()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sentinovo.carbuildervin.repository.parts;
 
 import com.sentinovo.carbuildervin.entities.parts.PartCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -43,4 +44,20 @@ public interface PartCategoryRepository extends JpaRepository<PartCategory, Stri
 
     @Query("SELECT MIN(pc.sortOrder) FROM PartCategory pc")
     Integer findMinSortOrder();
-}
\ No newline at end of file
+
+    /**
+     * Inserts the given categories in one statement, skipping codes that already exist. New
+     * categories are appended after the current highest sort order, in the given order.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO part_category (code, label, description, sort_order) " +
+                   "SELECT v.code, v.label, v.description, " +
+                   "(SELECT COALESCE(MAX(sort_order), 0) FROM part_category) + ROW_NUMBER() OVER (ORDER BY v.ord) " +
+                   "FROM unnest(CAST(:codes AS text[]), CAST(:labels AS text[]), CAST(:descriptions AS text[])) " +
+                   "WITH ORDINALITY AS v(code, label, description, ord) " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM part_category c WHERE c.code = v.code) " +
+                   "ON CONFLICT (code) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("codes") String[] codes,
+                      @Param("labels") String[] labels,
+                      @Param("descriptions") String[] descriptions);
+}
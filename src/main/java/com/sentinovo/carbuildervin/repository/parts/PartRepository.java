@@ -1,40 +1,82 @@
 package com.sentinovo.carbuildervin.repository.parts;
 
 import com.sentinovo.carbuildervin.entities.parts.Part;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface PartRepository extends JpaRepository<Part, UUID> {
+public interface PartRepository extends JpaRepository<Part, UUID>, JpaSpecificationExecutor<Part> {
 
+    @EntityGraph("Part.lookups")
     @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId")
     List<Part> findByVehicleUpgradeId(@Param("upgradeId") UUID upgradeId);
 
+    @EntityGraph("Part.lookups")
     @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId")
     Page<Part> findByVehicleUpgradeId(@Param("upgradeId") UUID upgradeId, Pageable pageable);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId")
+    // Keyset pages ordered by (sort_order, name, id); pass an unsorted PageRequest.of(0, limit) so no COUNT is run
+    @Query("SELECT p FROM Part p LEFT JOIN FETCH p.partCategory LEFT JOIN FETCH p.partTier " +
+           "WHERE p.vehicleUpgrade.id = :upgradeId " +
+           "ORDER BY COALESCE(p.sortOrder, 0), p.name, p.id")
+    List<Part> findKeysetFirstPageByUpgradeId(@Param("upgradeId") UUID upgradeId, Pageable limit);
+
+    @Query("SELECT p FROM Part p LEFT JOIN FETCH p.partCategory LEFT JOIN FETCH p.partTier " +
+           "WHERE p.vehicleUpgrade.id = :upgradeId AND " +
+           "(COALESCE(p.sortOrder, 0) > :sortOrder OR (COALESCE(p.sortOrder, 0) = :sortOrder AND " +
+           "(p.name > :name OR (p.name = :name AND p.id > :id)))) " +
+           "ORDER BY COALESCE(p.sortOrder, 0), p.name, p.id")
+    List<Part> findKeysetPageByUpgradeIdAfter(@Param("upgradeId") UUID upgradeId,
+                                              @Param("sortOrder") Integer sortOrder,
+                                              @Param("name") String name,
+                                              @Param("id") UUID id,
+                                              Pageable limit);
+
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId")
     List<Part> findByVehicleOwnerId(@Param("userId") UUID userId);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId")
     Page<Part> findByVehicleOwnerId(@Param("userId") UUID userId, Pageable pageable);
 
-    @Query("SELECT p FROM Part p WHERE p.id = :partId AND p.vehicleUpgrade.vehicle.owner.id = :userId")
+    @Query("SELECT p FROM Part p WHERE p.id = :partId AND p.ownerId = :userId")
     Optional<Part> findByIdAndOwnerId(@Param("partId") UUID partId, @Param("userId") UUID userId);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId AND p.vehicleUpgrade.vehicle.owner.id = :userId")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.id IN :ids AND p.ownerId = :userId")
+    List<Part> findAllByIdInAndOwnerId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @Query("SELECT p.id FROM Part p WHERE p.id IN :ids AND p.ownerId = :userId")
+    List<UUID> findIdsByIdInAndOwnerId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId AND p.ownerId = :userId")
     List<Part> findByUpgradeIdAndOwnerId(@Param("upgradeId") UUID upgradeId, @Param("userId") UUID userId);
 
+    @Query("SELECT p FROM Part p LEFT JOIN FETCH p.partCategory LEFT JOIN FETCH p.partTier " +
+           "WHERE p.vehicleUpgrade.id = :upgradeId AND p.ownerId = :userId " +
+           "ORDER BY COALESCE(p.sortOrder, 0), p.name, p.id")
+    List<Part> findOrderedByUpgradeIdAndOwnerId(@Param("upgradeId") UUID upgradeId, @Param("userId") UUID userId);
+
     @Query("SELECT p FROM Part p WHERE p.partCategory.code = :categoryCode")
     List<Part> findByPartCategoryCode(@Param("categoryCode") String categoryCode);
 
@@ -44,16 +86,19 @@ public interface PartRepository extends JpaRepository<Part, UUID> {
     @Query("SELECT p FROM Part p WHERE p.status = :status")
     List<Part> findByStatus(@Param("status") String status);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND p.status = :status")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId AND p.status = :status")
     List<Part> findByOwnerIdAndStatus(@Param("userId") UUID userId, @Param("status") String status);
 
+    @EntityGraph("Part.lookups")
     @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId AND p.status = :status")
     List<Part> findByUpgradeIdAndStatus(@Param("upgradeId") UUID upgradeId, @Param("status") String status);
 
     @Query("SELECT p FROM Part p WHERE p.priorityValue = :priority")
     List<Part> findByPriorityValue(@Param("priority") Integer priority);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND p.priorityValue >= :minPriority")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId AND p.priorityValue >= :minPriority")
     List<Part> findByOwnerIdAndMinPriority(@Param("userId") UUID userId, @Param("minPriority") Integer minPriority);
 
     @Query("SELECT p FROM Part p WHERE p.priorityValue >= :minPriority ORDER BY p.priorityValue DESC, p.createdAt")
@@ -68,7 +113,8 @@ public interface PartRepository extends JpaRepository<Part, UUID> {
     @Query("SELECT p FROM Part p WHERE p.price BETWEEN :minPrice AND :maxPrice")
     List<Part> findByPriceBetween(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND p.price BETWEEN :minPrice AND :maxPrice")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId AND p.price BETWEEN :minPrice AND :maxPrice")
     List<Part> findByOwnerIdAndPriceBetween(@Param("userId") UUID userId, 
                                            @Param("minPrice") BigDecimal minPrice, 
                                            @Param("maxPrice") BigDecimal maxPrice);
@@ -76,7 +122,8 @@ public interface PartRepository extends JpaRepository<Part, UUID> {
     @Query("SELECT p FROM Part p WHERE p.targetPurchaseDate BETWEEN :startDate AND :endDate")
     List<Part> findByTargetPurchaseDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND p.targetPurchaseDate BETWEEN :startDate AND :endDate")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId AND p.targetPurchaseDate BETWEEN :startDate AND :endDate")
     List<Part> findByOwnerIdAndTargetPurchaseDateBetween(@Param("userId") UUID userId, 
                                                          @Param("startDate") LocalDate startDate, 
                                                          @Param("endDate") LocalDate endDate);
@@ -84,13 +131,57 @@ public interface PartRepository extends JpaRepository<Part, UUID> {
     @Query("SELECT p FROM Part p WHERE p.targetPurchaseDate <= :date AND p.status IN ('PLANNED', 'RESEARCHING')")
     List<Part> findOverdueParts(@Param("date") LocalDate date);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND " +
-           "(LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(p.brand) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(p.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    // ILIKE lets Postgres use the pg_trgm indexes on name, brand and notes
+    @Query(value = "SELECT p.* FROM part p " +
+                   "WHERE p.owner_id = :userId AND " +
+                   "(p.name ILIKE CONCAT('%', :searchTerm, '%') OR " +
+                   "p.brand ILIKE CONCAT('%', :searchTerm, '%') OR " +
+                   "p.notes ILIKE CONCAT('%', :searchTerm, '%'))", nativeQuery = true)
     List<Part> searchByOwnerIdAndTerm(@Param("userId") UUID userId, @Param("searchTerm") String searchTerm);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND " +
+    /**
+     * Ranked search across the owner's parts and sub-parts. Rows match on the full-text vector,
+     * a substring of name/brand, or a similar (typo-tolerant) name; rank combines ts_rank_cd
+     * with trigram similarity.
+     */
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT 'PART' AS \"type\", p.id AS \"id\", CAST(NULL AS uuid) AS \"parentPartId\", " +
+                   "p.vehicle_upgrade_id AS \"buildId\", p.name AS \"name\", p.brand AS \"brand\", " +
+                   "p.category_code AS \"categoryCode\", p.status AS \"status\", p.price AS \"price\", " +
+                   "CAST(ts_rank_cd(p.search_vector, websearch_to_tsquery('english', :query)) + similarity(p.name, :query) AS double precision) AS \"rank\", " +
+                   "ts_headline('english', p.name, websearch_to_tsquery('english', :query), :nameOptions) AS \"nameHighlight\", " +
+                   "CASE WHEN p.notes IS NULL THEN NULL ELSE ts_headline('english', p.notes, websearch_to_tsquery('english', :query), :snippetOptions) END AS \"snippet\" " +
+                   "FROM part p " +
+                   "WHERE p.owner_id = :userId AND (p.search_vector @@ websearch_to_tsquery('english', :query) " +
+                   "OR p.name ILIKE :pattern OR p.brand ILIKE :pattern OR p.name % :query) " +
+                   "UNION ALL " +
+                   "SELECT 'SUB_PART', sp.id, sp.parent_part_id, p.vehicle_upgrade_id, sp.name, sp.brand, " +
+                   "sp.category_code, sp.status, sp.price, " +
+                   "CAST(ts_rank_cd(sp.search_vector, websearch_to_tsquery('english', :query)) + similarity(sp.name, :query) AS double precision), " +
+                   "ts_headline('english', sp.name, websearch_to_tsquery('english', :query), :nameOptions), " +
+                   "CASE WHEN sp.notes IS NULL THEN NULL ELSE ts_headline('english', sp.notes, websearch_to_tsquery('english', :query), :snippetOptions) END " +
+                   "FROM sub_part sp " +
+                   "JOIN part p ON p.id = sp.parent_part_id " +
+                   "WHERE sp.owner_id = :userId AND (sp.search_vector @@ websearch_to_tsquery('english', :query) " +
+                   "OR sp.name ILIKE :pattern OR sp.brand ILIKE :pattern OR sp.name % :query)" +
+                   ") hits ORDER BY \"rank\" DESC, \"name\", \"id\"",
+           countQuery = "SELECT " +
+                   "(SELECT COUNT(*) FROM part p " +
+                   "WHERE p.owner_id = :userId AND (p.search_vector @@ websearch_to_tsquery('english', :query) " +
+                   "OR p.name ILIKE :pattern OR p.brand ILIKE :pattern OR p.name % :query)) + " +
+                   "(SELECT COUNT(*) FROM sub_part sp " +
+                   "WHERE sp.owner_id = :userId AND (sp.search_vector @@ websearch_to_tsquery('english', :query) " +
+                   "OR sp.name ILIKE :pattern OR sp.brand ILIKE :pattern OR sp.name % :query))",
+           nativeQuery = true)
+    Page<PartSearchHit> searchRankedByOwnerId(@Param("userId") UUID userId,
+                                              @Param("query") String query,
+                                              @Param("pattern") String pattern,
+                                              @Param("nameOptions") String nameOptions,
+                                              @Param("snippetOptions") String snippetOptions,
+                                              Pageable pageable);
+
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId AND " +
            "(:categoryCode IS NULL OR p.partCategory.code = :categoryCode) AND " +
            "(:tierCode IS NULL OR p.partTier.code = :tierCode) AND " +
            "(:status IS NULL OR p.status = :status) AND " +
@@ -107,7 +198,7 @@ public interface PartRepository extends JpaRepository<Part, UUID> {
     @Query("SELECT SUM(p.price) FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId AND p.price IS NOT NULL")
     BigDecimal calculateTotalCostByUpgradeId(@Param("upgradeId") UUID upgradeId);
 
-    @Query("SELECT SUM(p.price) FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND p.price IS NOT NULL")
+    @Query("SELECT SUM(p.price) FROM Part p WHERE p.ownerId = :userId AND p.price IS NOT NULL")
     BigDecimal calculateTotalCostByOwnerId(@Param("userId") UUID userId);
 
     @Query("SELECT SUM(p.price) FROM Part p WHERE p.vehicleUpgrade.vehicle.id = :vehicleId AND p.price IS NOT NULL")
@@ -119,19 +210,82 @@ public interface PartRepository extends JpaRepository<Part, UUID> {
     @Query("SELECT COUNT(p) FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId AND p.status = :status")
     long countByUpgradeIdAndStatus(@Param("upgradeId") UUID upgradeId, @Param("status") String status);
 
-    @Query("SELECT COUNT(p) FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId AND p.status = :status")
+    @Query("SELECT COUNT(p) FROM Part p WHERE p.ownerId = :userId AND p.status = :status")
     long countByOwnerIdAndStatus(@Param("userId") UUID userId, @Param("status") String status);
 
+    @Query("SELECT p.vehicleUpgrade.id AS buildId, p.status AS status, COUNT(p) AS partCount FROM Part p " +
+           "WHERE p.vehicleUpgrade.id IN :buildIds AND p.ownerId = :userId " +
+           "GROUP BY p.vehicleUpgrade.id, p.status")
+    List<BuildStatusCount> countByBuildIdsAndStatus(@Param("buildIds") Collection<UUID> buildIds, @Param("userId") UUID userId);
+
+    /**
+     * Moves the owner's parts to a status in one statement and returns the rows that changed.
+     * Parts that are not owned, or whose current status does not allow the move (INSTALLED
+     * stays INSTALLED, CANCELLED can only go back to PLANNED), are left untouched.
+     * Runs as a query rather than @Modifying so the RETURNING rows can be read.
+     */
+    @Query(value = "UPDATE part SET status = :status, updated_at = NOW() " +
+                   "WHERE id = ANY(:ids) AND owner_id = :userId " +
+                   "AND (status IS DISTINCT FROM 'INSTALLED' OR :status = 'INSTALLED') " +
+                   "AND (status IS DISTINCT FROM 'CANCELLED' OR :status = 'PLANNED') " +
+                   "RETURNING id AS \"id\", vehicle_upgrade_id AS \"buildId\"", nativeQuery = true)
+    List<StatusChangeRow> updateStatusByIdsAndOwnerId(@Param("ids") UUID[] ids,
+                                                      @Param("status") String status,
+                                                      @Param("userId") UUID userId);
+
+    @Query("SELECT p.id FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId")
+    List<UUID> findIdsByUpgradeId(@Param("upgradeId") UUID upgradeId);
+
+    /**
+     * Copies parts into another build in one statement. sourceIds[i] is copied under newIds[i],
+     * so the caller keeps the old-to-new id mapping for copying sub-parts.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO part (id, vehicle_upgrade_id, name, brand, category_code, tier_code, product_url, " +
+                   "price, currency_code, is_required, status, priority_value, target_purchase_date, sort_order, " +
+                   "notes, created_at) " +
+                   "SELECT m.new_id, :targetUpgradeId, p.name, p.brand, p.category_code, p.tier_code, p.product_url, " +
+                   "p.price, p.currency_code, p.is_required, " +
+                   "CASE WHEN :resetStatuses THEN 'PLANNED' ELSE p.status END, p.priority_value, " +
+                   "p.target_purchase_date, p.sort_order, p.notes, NOW() " +
+                   "FROM unnest(CAST(:sourceIds AS uuid[]), CAST(:newIds AS uuid[])) AS m(source_id, new_id) " +
+                   "JOIN part p ON p.id = m.source_id", nativeQuery = true)
+    int insertCopies(@Param("sourceIds") UUID[] sourceIds,
+                     @Param("newIds") UUID[] newIds,
+                     @Param("targetUpgradeId") UUID targetUpgradeId,
+                     @Param("resetStatuses") boolean resetStatuses);
+
+    /**
+     * Streams the owner's parts for export, optionally narrowed to a vehicle or build. Rows are
+     * pulled from the driver in fetch-size chunks (PostgreSQL uses a cursor inside a transaction),
+     * so callers must consume the stream in a transaction and detach entities as they go.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Part p JOIN FETCH p.vehicleUpgrade vu " +
+           "LEFT JOIN FETCH p.partCategory LEFT JOIN FETCH p.partTier " +
+           "WHERE p.ownerId = :userId " +
+           "AND (:vehicleId IS NULL OR vu.vehicle.id = :vehicleId) " +
+           "AND (:upgradeId IS NULL OR vu.id = :upgradeId) " +
+           "ORDER BY vu.id, p.sortOrder, p.id")
+    Stream<Part> streamForExport(@Param("userId") UUID userId,
+                                 @Param("vehicleId") UUID vehicleId,
+                                 @Param("upgradeId") UUID upgradeId);
+
     @Query("SELECT p FROM Part p LEFT JOIN FETCH p.subParts WHERE p.id = :partId")
     Optional<Part> findByIdWithSubParts(@Param("partId") UUID partId);
 
     @Query("SELECT p FROM Part p LEFT JOIN FETCH p.subParts WHERE p.vehicleUpgrade.id = :upgradeId")
     List<Part> findByUpgradeIdWithSubParts(@Param("upgradeId") UUID upgradeId);
 
+    @EntityGraph("Part.lookups")
     @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.id = :upgradeId ORDER BY p.sortOrder, p.name")
     List<Part> findByUpgradeIdOrderBySortOrder(@Param("upgradeId") UUID upgradeId);
 
-    @Query("SELECT p FROM Part p WHERE p.vehicleUpgrade.vehicle.owner.id = :userId ORDER BY p.priorityValue DESC, p.createdAt")
+    @EntityGraph("Part.lookups")
+    @Query("SELECT p FROM Part p WHERE p.ownerId = :userId ORDER BY p.priorityValue DESC, p.createdAt")
     List<Part> findByOwnerIdOrderByPriority(@Param("userId") UUID userId);
 
     @Query("SELECT AVG(p.price) FROM Part p WHERE p.partCategory.code = :categoryCode AND p.price IS NOT NULL")
@@ -0,0 +1,35 @@
+package com.sentinovo.carbuildervin.repository.parts;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Row of a ranked part/sub-part search. Highlighted columns wrap matches in
+ * the start/stop markers passed to ts_headline.
+ */
+public interface PartSearchHit {
+
+    String getType();
+
+    UUID getId();
+
+    UUID getParentPartId();
+
+    UUID getBuildId();
+
+    String getName();
+
+    String getBrand();
+
+    String getCategoryCode();
+
+    String getStatus();
+
+    BigDecimal getPrice();
+
+    Double getRank();
+
+    String getNameHighlight();
+
+    String getSnippet();
+}
@@ -2,6 +2,7 @@ package com.sentinovo.carbuildervin.repository.parts;
 
 import com.sentinovo.carbuildervin.entities.parts.PartTier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -56,4 +57,19 @@ public interface PartTierRepository extends JpaRepository<PartTier, String> {
 
     @Query("SELECT MIN(pt.rank) FROM PartTier pt")
     Integer findMinRank();
-}
\ No newline at end of file
+
+    /**
+     * Inserts the given tiers in one statement, skipping any whose code or rank is already taken.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO part_tier (code, label, rank, description) " +
+                   "SELECT v.code, v.label, v.rank, v.description " +
+                   "FROM unnest(CAST(:codes AS text[]), CAST(:labels AS text[]), CAST(:ranks AS int[]), " +
+                   "CAST(:descriptions AS text[])) AS v(code, label, rank, description) " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM part_tier t WHERE t.code = v.code OR t.rank = v.rank) " +
+                   "ON CONFLICT (code) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("codes") String[] codes,
+                      @Param("labels") String[] labels,
+                      @Param("ranks") Integer[] ranks,
+                      @Param("descriptions") String[] descriptions);
+}
@@ -0,0 +1,13 @@
+package com.sentinovo.carbuildervin.repository.parts;
+
+import java.util.UUID;
+
+/**
+ * Row returned by the bulk status UPDATE ... RETURNING queries.
+ */
+public interface StatusChangeRow {
+
+    UUID getId();
+
+    UUID getBuildId();
+}
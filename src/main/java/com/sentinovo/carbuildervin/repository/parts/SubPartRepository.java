@@ -1,43 +1,87 @@
 package com.sentinovo.carbuildervin.repository.parts;
 
 import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
+public interface SubPartRepository extends JpaRepository<SubPart, UUID>, JpaSpecificationExecutor<SubPart> {
 
+    @EntityGraph("SubPart.lookups")
     @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.id = :partId")
     List<SubPart> findByParentPartId(@Param("partId") UUID partId);
 
+    @EntityGraph("SubPart.lookups")
     @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.id = :partId")
     Page<SubPart> findByParentPartId(@Param("partId") UUID partId, Pageable pageable);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId")
+    // Keyset pages ordered by (sort_order, name, id); pass an unsorted PageRequest.of(0, limit) so no COUNT is run
+    @Query("SELECT sp FROM SubPart sp LEFT JOIN FETCH sp.partCategory LEFT JOIN FETCH sp.partTier " +
+           "WHERE sp.parentPart.id = :partId " +
+           "ORDER BY COALESCE(sp.sortOrder, 0), sp.name, sp.id")
+    List<SubPart> findKeysetFirstPageByParentPartId(@Param("partId") UUID partId, Pageable limit);
+
+    @Query("SELECT sp FROM SubPart sp LEFT JOIN FETCH sp.partCategory LEFT JOIN FETCH sp.partTier " +
+           "WHERE sp.parentPart.id = :partId AND " +
+           "(COALESCE(sp.sortOrder, 0) > :sortOrder OR (COALESCE(sp.sortOrder, 0) = :sortOrder AND " +
+           "(sp.name > :name OR (sp.name = :name AND sp.id > :id)))) " +
+           "ORDER BY COALESCE(sp.sortOrder, 0), sp.name, sp.id")
+    List<SubPart> findKeysetPageByParentPartIdAfter(@Param("partId") UUID partId,
+                                                    @Param("sortOrder") Integer sortOrder,
+                                                    @Param("name") String name,
+                                                    @Param("id") UUID id,
+                                                    Pageable limit);
+
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId")
     List<SubPart> findByVehicleOwnerId(@Param("userId") UUID userId);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId")
     Page<SubPart> findByVehicleOwnerId(@Param("userId") UUID userId, Pageable pageable);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.id = :subPartId AND sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.id = :subPartId AND sp.ownerId = :userId")
     Optional<SubPart> findByIdAndOwnerId(@Param("subPartId") UUID subPartId, @Param("userId") UUID userId);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.id = :partId AND sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.id IN :ids AND sp.ownerId = :userId")
+    List<SubPart> findAllByIdInAndOwnerId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @Query("SELECT sp.id FROM SubPart sp WHERE sp.id IN :ids AND sp.ownerId = :userId")
+    List<UUID> findIdsByIdInAndOwnerId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.id = :partId AND sp.ownerId = :userId")
     List<SubPart> findByParentPartIdAndOwnerId(@Param("partId") UUID partId, @Param("userId") UUID userId);
 
+    @EntityGraph("SubPart.lookups")
     @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.id = :upgradeId")
     List<SubPart> findByUpgradeId(@Param("upgradeId") UUID upgradeId);
 
+    @Query("SELECT sp FROM SubPart sp LEFT JOIN FETCH sp.partCategory LEFT JOIN FETCH sp.partTier " +
+           "WHERE sp.parentPart.vehicleUpgrade.id = :upgradeId AND sp.ownerId = :userId " +
+           "ORDER BY COALESCE(sp.sortOrder, 0), sp.name, sp.id")
+    List<SubPart> findOrderedByUpgradeIdAndOwnerId(@Param("upgradeId") UUID upgradeId, @Param("userId") UUID userId);
+
+    @EntityGraph("SubPart.lookups")
     @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.id = :vehicleId")
     List<SubPart> findByVehicleId(@Param("vehicleId") UUID vehicleId);
 
@@ -50,16 +94,19 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT sp FROM SubPart sp WHERE sp.status = :status")
     List<SubPart> findByStatus(@Param("status") String status);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND sp.status = :status")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId AND sp.status = :status")
     List<SubPart> findByOwnerIdAndStatus(@Param("userId") UUID userId, @Param("status") String status);
 
+    @EntityGraph("SubPart.lookups")
     @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.id = :partId AND sp.status = :status")
     List<SubPart> findByParentPartIdAndStatus(@Param("partId") UUID partId, @Param("status") String status);
 
     @Query("SELECT sp FROM SubPart sp WHERE sp.priorityValue = :priority")
     List<SubPart> findByPriorityValue(@Param("priority") Integer priority);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND sp.priorityValue >= :minPriority")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId AND sp.priorityValue >= :minPriority")
     List<SubPart> findByOwnerIdAndMinPriority(@Param("userId") UUID userId, @Param("minPriority") Integer minPriority);
 
     @Query("SELECT sp FROM SubPart sp WHERE sp.priorityValue >= :minPriority ORDER BY sp.priorityValue DESC, sp.createdAt")
@@ -74,7 +121,8 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT sp FROM SubPart sp WHERE sp.price BETWEEN :minPrice AND :maxPrice")
     List<SubPart> findByPriceBetween(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND sp.price BETWEEN :minPrice AND :maxPrice")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId AND sp.price BETWEEN :minPrice AND :maxPrice")
     List<SubPart> findByOwnerIdAndPriceBetween(@Param("userId") UUID userId, 
                                               @Param("minPrice") BigDecimal minPrice, 
                                               @Param("maxPrice") BigDecimal maxPrice);
@@ -82,7 +130,8 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT sp FROM SubPart sp WHERE sp.targetPurchaseDate BETWEEN :startDate AND :endDate")
     List<SubPart> findByTargetPurchaseDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND sp.targetPurchaseDate BETWEEN :startDate AND :endDate")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId AND sp.targetPurchaseDate BETWEEN :startDate AND :endDate")
     List<SubPart> findByOwnerIdAndTargetPurchaseDateBetween(@Param("userId") UUID userId, 
                                                             @Param("startDate") LocalDate startDate, 
                                                             @Param("endDate") LocalDate endDate);
@@ -90,13 +139,16 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT sp FROM SubPart sp WHERE sp.targetPurchaseDate <= :date AND sp.status IN ('PLANNED', 'RESEARCHING')")
     List<SubPart> findOverdueSubParts(@Param("date") LocalDate date);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND " +
-           "(LOWER(sp.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(sp.brand) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(sp.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    // ILIKE lets Postgres use the pg_trgm indexes on name, brand and notes
+    @Query(value = "SELECT sp.* FROM sub_part sp " +
+                   "WHERE sp.owner_id = :userId AND " +
+                   "(sp.name ILIKE CONCAT('%', :searchTerm, '%') OR " +
+                   "sp.brand ILIKE CONCAT('%', :searchTerm, '%') OR " +
+                   "sp.notes ILIKE CONCAT('%', :searchTerm, '%'))", nativeQuery = true)
     List<SubPart> searchByOwnerIdAndTerm(@Param("userId") UUID userId, @Param("searchTerm") String searchTerm);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND " +
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId AND " +
            "(:categoryCode IS NULL OR sp.partCategory.code = :categoryCode) AND " +
            "(:tierCode IS NULL OR sp.partTier.code = :tierCode) AND " +
            "(:status IS NULL OR sp.status = :status) AND " +
@@ -116,7 +168,7 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT SUM(sp.price) FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.id = :upgradeId AND sp.price IS NOT NULL")
     BigDecimal calculateTotalCostByUpgradeId(@Param("upgradeId") UUID upgradeId);
 
-    @Query("SELECT SUM(sp.price) FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND sp.price IS NOT NULL")
+    @Query("SELECT SUM(sp.price) FROM SubPart sp WHERE sp.ownerId = :userId AND sp.price IS NOT NULL")
     BigDecimal calculateTotalCostByOwnerId(@Param("userId") UUID userId);
 
     @Query("SELECT COUNT(sp) FROM SubPart sp WHERE sp.parentPart.id = :partId")
@@ -125,13 +177,15 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT COUNT(sp) FROM SubPart sp WHERE sp.parentPart.id = :partId AND sp.status = :status")
     long countByParentPartIdAndStatus(@Param("partId") UUID partId, @Param("status") String status);
 
-    @Query("SELECT COUNT(sp) FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND sp.status = :status")
+    @Query("SELECT COUNT(sp) FROM SubPart sp WHERE sp.ownerId = :userId AND sp.status = :status")
     long countByOwnerIdAndStatus(@Param("userId") UUID userId, @Param("status") String status);
 
+    @EntityGraph("SubPart.lookups")
     @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.id = :partId ORDER BY sp.sortOrder, sp.name")
     List<SubPart> findByParentPartIdOrderBySortOrder(@Param("partId") UUID partId);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId ORDER BY sp.priorityValue DESC, sp.createdAt")
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId ORDER BY sp.priorityValue DESC, sp.createdAt")
     List<SubPart> findByOwnerIdOrderByPriority(@Param("userId") UUID userId);
 
     @Query("SELECT AVG(sp.price) FROM SubPart sp WHERE sp.partCategory.code = :categoryCode AND sp.price IS NOT NULL")
@@ -140,11 +194,62 @@ public interface SubPartRepository extends JpaRepository<SubPart, UUID> {
     @Query("SELECT AVG(sp.price) FROM SubPart sp WHERE sp.partTier.code = :tierCode AND sp.price IS NOT NULL")
     BigDecimal calculateAveragePriceByTierCode(@Param("tierCode") String tierCode);
 
-    @Query("SELECT sp FROM SubPart sp WHERE sp.parentPart.vehicleUpgrade.vehicle.owner.id = :userId AND " +
+    @EntityGraph("SubPart.lookups")
+    @Query("SELECT sp FROM SubPart sp WHERE sp.ownerId = :userId AND " +
            "sp.parentPart.id = :partId AND " +
            "(LOWER(sp.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(sp.brand) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<SubPart> searchByParentPartAndTerm(@Param("userId") UUID userId, 
                                            @Param("partId") UUID partId, 
                                            @Param("searchTerm") String searchTerm);
-}
\ No newline at end of file
+
+    /**
+     * Moves the owner's sub-parts to a status in one statement and returns the rows that
+     * changed, with the build of each sub-part's parent. Same transition rules as parts.
+     */
+    @Query(value = "UPDATE sub_part sp SET status = :status, updated_at = NOW() " +
+                   "FROM part p " +
+                   "WHERE p.id = sp.parent_part_id AND sp.id = ANY(:ids) AND sp.owner_id = :userId " +
+                   "AND (sp.status IS DISTINCT FROM 'INSTALLED' OR :status = 'INSTALLED') " +
+                   "AND (sp.status IS DISTINCT FROM 'CANCELLED' OR :status = 'PLANNED') " +
+                   "RETURNING sp.id AS \"id\", p.vehicle_upgrade_id AS \"buildId\"", nativeQuery = true)
+    List<StatusChangeRow> updateStatusByIdsAndOwnerId(@Param("ids") UUID[] ids,
+                                                      @Param("status") String status,
+                                                      @Param("userId") UUID userId);
+
+    /**
+     * Copies the sub-parts of sourceParentIds[i] under newParentIds[i] in one statement.
+     * New ids come from the column default.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sub_part (parent_part_id, name, brand, category_code, tier_code, product_url, " +
+                   "price, currency_code, is_required, status, priority_value, target_purchase_date, sort_order, " +
+                   "notes, created_at) " +
+                   "SELECT m.new_id, sp.name, sp.brand, sp.category_code, sp.tier_code, sp.product_url, " +
+                   "sp.price, sp.currency_code, sp.is_required, " +
+                   "CASE WHEN :resetStatuses THEN 'PLANNED' ELSE sp.status END, sp.priority_value, " +
+                   "sp.target_purchase_date, sp.sort_order, sp.notes, NOW() " +
+                   "FROM unnest(CAST(:sourceParentIds AS uuid[]), CAST(:newParentIds AS uuid[])) AS m(source_id, new_id) " +
+                   "JOIN sub_part sp ON sp.parent_part_id = m.source_id", nativeQuery = true)
+    int insertCopiesForParents(@Param("sourceParentIds") UUID[] sourceParentIds,
+                               @Param("newParentIds") UUID[] newParentIds,
+                               @Param("resetStatuses") boolean resetStatuses);
+
+    /**
+     * Streams the owner's sub-parts for export; same scoping and fetch rules as
+     * PartRepository#streamForExport.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sp FROM SubPart sp JOIN sp.parentPart p JOIN p.vehicleUpgrade vu " +
+           "LEFT JOIN FETCH sp.partCategory LEFT JOIN FETCH sp.partTier " +
+           "WHERE sp.ownerId = :userId " +
+           "AND (:vehicleId IS NULL OR vu.vehicle.id = :vehicleId) " +
+           "AND (:upgradeId IS NULL OR vu.id = :upgradeId) " +
+           "ORDER BY vu.id, p.id, sp.sortOrder, sp.id")
+    Stream<SubPart> streamForExport(@Param("userId") UUID userId,
+                                    @Param("vehicleId") UUID vehicleId,
+                                    @Param("upgradeId") UUID upgradeId);
+}
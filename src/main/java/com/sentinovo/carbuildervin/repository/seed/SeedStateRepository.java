@@ -0,0 +1,23 @@
+package com.sentinovo.carbuildervin.repository.seed;
+
+import com.sentinovo.carbuildervin.entities.seed.SeedState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SeedStateRepository extends JpaRepository<SeedState, String> {
+
+    @Query("SELECT s.checksum FROM SeedState s WHERE s.name = :name")
+    Optional<String> findChecksumByName(@Param("name") String name);
+
+    @Modifying
+    @Query(value = "INSERT INTO seed_state (name, checksum, applied_at) VALUES (:name, :checksum, NOW()) " +
+                   "ON CONFLICT (name) DO UPDATE SET checksum = EXCLUDED.checksum, applied_at = EXCLUDED.applied_at",
+           nativeQuery = true)
+    int saveChecksum(@Param("name") String name, @Param("checksum") String checksum);
+}
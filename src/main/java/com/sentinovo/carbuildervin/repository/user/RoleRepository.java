@@ -2,6 +2,7 @@ package com.sentinovo.carbuildervin.repository.user;
 
 import com.sentinovo.carbuildervin.entities.user.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,4 +30,14 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
 
     @Query("SELECT COUNT(u) FROM User u JOIN u.roles r WHERE r.id = :roleId")
     long countUsersByRoleId(@Param("roleId") UUID roleId);
-}
\ No newline at end of file
+
+    /**
+     * Inserts the given roles in one statement, skipping names that already exist.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO role (name, description) " +
+                   "SELECT v.name, v.description " +
+                   "FROM unnest(CAST(:names AS text[]), CAST(:descriptions AS text[])) AS v(name, description) " +
+                   "ON CONFLICT (name) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("names") String[] names, @Param("descriptions") String[] descriptions);
+}
@@ -61,6 +61,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u JOIN FETCH u.roles WHERE u.mcpApiKey = :apiKey AND u.isActive = true")
     Optional<User> findByMcpApiKeyWithRoles(@Param("apiKey") String apiKey);
 
+    /**
+     * Find active user for OAuth bearer authentication, only while the client is still authorized
+     */
+    @Query("SELECT u FROM User u JOIN FETCH u.roles WHERE u.id = :userId AND u.isActive = true " +
+           "AND EXISTS (SELECT a FROM OAuthAuthorization a WHERE a.user = u AND a.client.clientId = :clientId)")
+    Optional<User> findAuthorizedForClientWithRoles(@Param("userId") UUID userId, @Param("clientId") String clientId);
+
     /**
      * Check if API key exists (for validation)
      */
@@ -2,6 +2,7 @@ package com.sentinovo.carbuildervin.repository.vehicle;
 
 import com.sentinovo.carbuildervin.entities.vehicle.UpgradeCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -39,4 +40,20 @@ public interface UpgradeCategoryRepository extends JpaRepository<UpgradeCategory
 
     @Query("SELECT MAX(uc.sortOrder) FROM UpgradeCategory uc")
     Integer findMaxSortOrder();
-}
\ No newline at end of file
+
+    /**
+     * Inserts the given active categories in one statement, skipping names that already exist.
+     * New categories are appended after the current highest sort order, in the given order.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO upgrade_category (key, name, description, sort_order, is_active) " +
+                   "SELECT v.key, v.name, v.description, " +
+                   "(SELECT COALESCE(MAX(sort_order), 0) FROM upgrade_category) + ROW_NUMBER() OVER (ORDER BY v.ord), true " +
+                   "FROM unnest(CAST(:keys AS text[]), CAST(:names AS text[]), CAST(:descriptions AS text[])) " +
+                   "WITH ORDINALITY AS v(key, name, description, ord) " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM upgrade_category c WHERE c.name = v.name) " +
+                   "ON CONFLICT (key) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("keys") String[] keys,
+                      @Param("names") String[] names,
+                      @Param("descriptions") String[] descriptions);
+}
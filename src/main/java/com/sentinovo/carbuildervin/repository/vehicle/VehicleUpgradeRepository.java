@@ -3,7 +3,9 @@ package com.sentinovo.carbuildervin.repository.vehicle;
 import com.sentinovo.carbuildervin.entities.vehicle.VehicleUpgrade;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,45 +18,58 @@ import java.util.UUID;
 @Repository
 public interface VehicleUpgradeRepository extends JpaRepository<VehicleUpgrade, UUID> {
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.id = :vehicleId")
     List<VehicleUpgrade> findByVehicleId(@Param("vehicleId") UUID vehicleId);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.id = :vehicleId")
     Page<VehicleUpgrade> findByVehicleId(@Param("vehicleId") UUID vehicleId, Pageable pageable);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.owner.id = :userId")
     List<VehicleUpgrade> findByVehicleOwnerId(@Param("userId") UUID userId);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.owner.id = :userId")
     Page<VehicleUpgrade> findByVehicleOwnerId(@Param("userId") UUID userId, Pageable pageable);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.id = :vehicleId AND vu.vehicle.owner.id = :userId")
     List<VehicleUpgrade> findByVehicleIdAndOwnerId(@Param("vehicleId") UUID vehicleId, @Param("userId") UUID userId);
 
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.id = :upgradeId AND vu.vehicle.owner.id = :userId")
     Optional<VehicleUpgrade> findByIdAndOwnerId(@Param("upgradeId") UUID upgradeId, @Param("userId") UUID userId);
 
+    @Query("SELECT vu FROM VehicleUpgrade vu JOIN FETCH vu.vehicle v LEFT JOIN FETCH vu.upgradeCategory " +
+           "WHERE vu.id = :upgradeId AND v.owner.id = :userId")
+    Optional<VehicleUpgrade> findWithVehicleByIdAndOwnerId(@Param("upgradeId") UUID upgradeId, @Param("userId") UUID userId);
+
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.upgradeCategory.id = :categoryId")
     List<VehicleUpgrade> findByUpgradeCategoryId(@Param("categoryId") Integer categoryId);
 
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.status = :status")
     List<VehicleUpgrade> findByStatus(@Param("status") String status);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.owner.id = :userId AND vu.status = :status")
     List<VehicleUpgrade> findByOwnerIdAndStatus(@Param("userId") UUID userId, @Param("status") String status);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.id = :vehicleId AND vu.status = :status")
     List<VehicleUpgrade> findByVehicleIdAndStatus(@Param("vehicleId") UUID vehicleId, @Param("status") String status);
 
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.priorityLevel = :priorityLevel")
     List<VehicleUpgrade> findByPriorityLevel(@Param("priorityLevel") Integer priorityLevel);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.owner.id = :userId AND vu.priorityLevel >= :minPriority")
     List<VehicleUpgrade> findByOwnerIdAndMinPriority(@Param("userId") UUID userId, @Param("minPriority") Integer minPriority);
 
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.isPrimaryForCategory = true")
     List<VehicleUpgrade> findPrimaryUpgrades();
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.id = :vehicleId AND vu.isPrimaryForCategory = true")
     List<VehicleUpgrade> findPrimaryUpgradesByVehicleId(@Param("vehicleId") UUID vehicleId);
 
@@ -64,6 +79,7 @@ public interface VehicleUpgradeRepository extends JpaRepository<VehicleUpgrade,
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.targetCompletionDate BETWEEN :startDate AND :endDate")
     List<VehicleUpgrade> findByTargetCompletionDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.owner.id = :userId AND vu.targetCompletionDate BETWEEN :startDate AND :endDate")
     List<VehicleUpgrade> findByOwnerIdAndTargetCompletionDateBetween(@Param("userId") UUID userId, 
                                                                      @Param("startDate") LocalDate startDate, 
@@ -72,6 +88,7 @@ public interface VehicleUpgradeRepository extends JpaRepository<VehicleUpgrade,
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.targetCompletionDate <= :date AND vu.status IN ('PLANNED', 'IN_PROGRESS')")
     List<VehicleUpgrade> findOverdueUpgrades(@Param("date") LocalDate date);
 
+    @EntityGraph("VehicleUpgrade.category")
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.owner.id = :userId AND " +
            "(LOWER(vu.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(vu.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -98,4 +115,51 @@ public interface VehicleUpgradeRepository extends JpaRepository<VehicleUpgrade,
 
     @Query("SELECT vu FROM VehicleUpgrade vu WHERE vu.vehicle.id = :vehicleId AND vu.slug = :slug")
     Optional<VehicleUpgrade> findByVehicleIdAndSlug(@Param("vehicleId") UUID vehicleId, @Param("slug") String slug);
-}
\ No newline at end of file
+
+    /**
+     * Version stamp for a build: row counts plus the newest change across the vehicle, the build,
+     * its parts and sub-parts. Counts make deletes visible; empty when not found or not owned.
+     */
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(DISTINCT p.id), COUNT(sp.id), " +
+                   "EXTRACT(EPOCH FROM GREATEST(" +
+                   "MAX(COALESCE(v.updated_at, v.created_at)), MAX(COALESCE(vu.updated_at, vu.created_at)), " +
+                   "MAX(COALESCE(p.updated_at, p.created_at)), MAX(COALESCE(sp.updated_at, sp.created_at))))) " +
+                   "FROM vehicle_upgrade vu " +
+                   "JOIN vehicle v ON v.id = vu.vehicle_id " +
+                   "LEFT JOIN part p ON p.vehicle_upgrade_id = vu.id " +
+                   "LEFT JOIN sub_part sp ON sp.parent_part_id = p.id " +
+                   "WHERE vu.id = :upgradeId AND v.owner_id = :userId " +
+                   "GROUP BY vu.id", nativeQuery = true)
+    Optional<String> findVersionStampByIdAndOwnerId(@Param("upgradeId") UUID upgradeId, @Param("userId") UUID userId);
+
+    /**
+     * Version stamp across every vehicle, build, part and sub-part owned by a user.
+     */
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(DISTINCT v.id), COUNT(DISTINCT vu.id), COUNT(DISTINCT p.id), COUNT(sp.id), " +
+                   "EXTRACT(EPOCH FROM GREATEST(" +
+                   "MAX(COALESCE(v.updated_at, v.created_at)), MAX(COALESCE(vu.updated_at, vu.created_at)), " +
+                   "MAX(COALESCE(p.updated_at, p.created_at)), MAX(COALESCE(sp.updated_at, sp.created_at))))) " +
+                   "FROM vehicle v " +
+                   "LEFT JOIN vehicle_upgrade vu ON vu.vehicle_id = v.id " +
+                   "LEFT JOIN part p ON p.vehicle_upgrade_id = vu.id " +
+                   "LEFT JOIN sub_part sp ON sp.parent_part_id = p.id " +
+                   "WHERE v.owner_id = :userId", nativeQuery = true)
+    Optional<String> findVersionStampByOwnerId(@Param("userId") UUID userId);
+
+    /**
+     * Copies a build row under a new id and vehicle. The slug is not copied (it is looked up
+     * as unique) and the copy is never the primary build for its category.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO vehicle_upgrade (id, vehicle_id, upgrade_category_id, name, slug, description, " +
+                   "priority_level, target_completion_date, status, is_primary_for_category, created_at) " +
+                   "SELECT :newId, :vehicleId, vu.upgrade_category_id, :name, NULL, vu.description, " +
+                   "vu.priority_level, vu.target_completion_date, " +
+                   "CASE WHEN :resetStatuses THEN 'PLANNED' ELSE vu.status END, false, NOW() " +
+                   "FROM vehicle_upgrade vu WHERE vu.id = :sourceId", nativeQuery = true)
+    int insertCopy(@Param("sourceId") UUID sourceId,
+                   @Param("newId") UUID newId,
+                   @Param("vehicleId") UUID vehicleId,
+                   @Param("name") String name,
+                   @Param("resetStatuses") boolean resetStatuses);
+}
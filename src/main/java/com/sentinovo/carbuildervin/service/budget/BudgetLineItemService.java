@@ -0,0 +1,119 @@
+package com.sentinovo.carbuildervin.service.budget;
+
+import com.sentinovo.carbuildervin.dto.budget.BudgetFiltersDto;
+import com.sentinovo.carbuildervin.dto.budget.BudgetLineItemDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.repository.parts.LineItemSpecifications;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads budget line items (parts + sub-parts) for a build with all filters applied in SQL.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetLineItemService {
+
+    private static final Sort LINE_ITEM_SORT = Sort.by("sortOrder", "name", "id");
+
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final VehicleUpgradeService vehicleUpgradeService;
+
+    @Transactional(readOnly = true)
+    public List<BudgetLineItemDto> getAllLineItems(UUID buildId) {
+        return getLineItems(buildId, BudgetFiltersDto.builder()
+                .includeRequired(true)
+                .includeOptional(true)
+                .build());
+    }
+
+    /**
+     * Returns matching parts, each followed by its matching sub-parts. Sub-parts whose
+     * parent was filtered out are appended at the end, grouped by parent.
+     */
+    @Transactional(readOnly = true)
+    public List<BudgetLineItemDto> getLineItems(UUID buildId, BudgetFiltersDto filters) {
+        vehicleUpgradeService.findByIdAndValidateOwnership(buildId); // Validate ownership
+
+        List<Part> parts = partRepository.findAll(
+                LineItemSpecifications.partsOfBuild(buildId, filters), LINE_ITEM_SORT);
+        List<SubPart> subParts = subPartRepository.findAll(
+                LineItemSpecifications.subPartsOfBuild(buildId, filters), LINE_ITEM_SORT);
+
+        Map<UUID, List<BudgetLineItemDto>> subPartsByParent = new LinkedHashMap<>();
+        for (SubPart subPart : subParts) {
+            UUID parentId = subPart.getParentPart().getId();
+            subPartsByParent.computeIfAbsent(parentId, id -> new ArrayList<>())
+                    .add(toLineItem(subPart, parentId));
+        }
+
+        List<BudgetLineItemDto> items = new ArrayList<>(parts.size() + subParts.size());
+        for (Part part : parts) {
+            items.add(toLineItem(part));
+            List<BudgetLineItemDto> children = subPartsByParent.remove(part.getId());
+            if (children != null) {
+                items.addAll(children);
+            }
+        }
+        subPartsByParent.values().forEach(items::addAll);
+
+        log.debug("Loaded {} budget line items for build: {}", items.size(), buildId);
+        return items;
+    }
+
+    private BudgetLineItemDto toLineItem(Part part) {
+        return BudgetLineItemDto.builder()
+                .id(part.getId())
+                .type("PART")
+                .parentPartId(null)
+                .name(part.getName())
+                .brand(part.getBrand())
+                .categoryCode(part.getPartCategory() != null ? part.getPartCategory().getCode() : null)
+                .categoryLabel(part.getPartCategory() != null ? part.getPartCategory().getLabel() : null)
+                .tierCode(part.getPartTier() != null ? part.getPartTier().getCode() : null)
+                .tierLabel(part.getPartTier() != null ? part.getPartTier().getLabel() : null)
+                .isRequired(part.getIsRequired())
+                .priorityValue(part.getPriorityValue())
+                .targetPurchaseDate(part.getTargetPurchaseDate())
+                .status(part.getStatus())
+                .price(part.getPrice())
+                .currencyCode(part.getCurrencyCode())
+                .build();
+    }
+
+    private BudgetLineItemDto toLineItem(SubPart subPart, UUID parentPartId) {
+        return BudgetLineItemDto.builder()
+                .id(subPart.getId())
+                .type("SUB_PART")
+                .parentPartId(parentPartId)
+                .name(subPart.getName())
+                .brand(subPart.getBrand())
+                .categoryCode(subPart.getPartCategory() != null ? subPart.getPartCategory().getCode() : null)
+                .categoryLabel(subPart.getPartCategory() != null ? subPart.getPartCategory().getLabel() : null)
+                .tierCode(subPart.getPartTier() != null ? subPart.getPartTier().getCode() : null)
+                .tierLabel(subPart.getPartTier() != null ? subPart.getPartTier().getLabel() : null)
+                .isRequired(subPart.getIsRequired())
+                .priorityValue(subPart.getPriorityValue())
+                .targetPurchaseDate(subPart.getTargetPurchaseDate())
+                .status(subPart.getStatus())
+                .price(subPart.getPrice())
+                .currencyCode(subPart.getCurrencyCode())
+                .build();
+    }
+}
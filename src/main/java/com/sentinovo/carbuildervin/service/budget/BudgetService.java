@@ -0,0 +1,290 @@
+package com.sentinovo.carbuildervin.service.budget;
+
+import com.sentinovo.carbuildervin.dto.budget.*;
+import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.upgrade.UpgradeCategoryDto;
+import com.sentinovo.carbuildervin.dto.vehicle.VehicleDto;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import com.sentinovo.carbuildervin.service.vehicle.UpgradeCategoryService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
+import com.sentinovo.carbuildervin.mapper.vehicle.VehicleLabels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Budget calculations for the budget pages. Each method loads everything it needs in one
+ * read-only transaction and returns plain DTOs, so templates never touch entities.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetService {
+
+    private final VehicleService vehicleService;
+    private final VehicleUpgradeService vehicleUpgradeService;
+    private final BudgetLineItemService budgetLineItemService;
+    private final UpgradeCategoryService upgradeCategoryService;
+    private final AuthenticationService authenticationService;
+
+    /**
+     * Budget cards for the current user's builds, filtered and sorted by priority then name.
+     */
+    public List<BudgetOverviewDto> getBudgetOverviews(UUID vehicleId, String categoryKey, String buildStatus) {
+        UUID currentUserId = authenticationService.getCurrentUserId();
+
+        // Get all user's vehicles
+        List<VehicleDto> userVehicles = vehicleService.getUserVehicles(currentUserId);
+
+        // Filter by vehicle if specified
+        if (vehicleId != null) {
+            userVehicles = userVehicles.stream()
+                    .filter(v -> v.getId().equals(vehicleId))
+                    .collect(Collectors.toList());
+        }
+
+        Map<Integer, String> categoryKeys = getCategoryKeys();
+        List<BudgetOverviewDto> overviews = new ArrayList<>();
+
+        for (VehicleDto vehicle : userVehicles) {
+            List<VehicleUpgradeDto> builds = vehicleUpgradeService.getVehicleUpgradesByVehicleId(vehicle.getId());
+
+            // Filter by category if specified
+            if (categoryKey != null && !categoryKey.isEmpty()) {
+                builds = builds.stream()
+                        .filter(b -> categoryKey.equals(categoryKeys.get(b.getUpgradeCategoryId())))
+                        .collect(Collectors.toList());
+            }
+
+            // Filter by build status if specified
+            if (buildStatus != null && !buildStatus.isEmpty()) {
+                builds = builds.stream()
+                        .filter(b -> buildStatus.equals(b.getStatus()))
+                        .collect(Collectors.toList());
+            }
+
+            for (VehicleUpgradeDto build : builds) {
+                BudgetOverviewDto overview = calculateSingleBuildOverview(build, vehicle);
+                overviews.add(overview);
+            }
+        }
+
+        // Sort by priority level, then by name
+        overviews.sort(Comparator
+                .comparing(BudgetOverviewDto::getPriorityLevel, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(BudgetOverviewDto::getBuildName));
+
+        return overviews;
+    }
+
+    private BudgetOverviewDto calculateSingleBuildOverview(VehicleUpgradeDto build, VehicleDto vehicle) {
+        List<BudgetLineItemDto> allItems = budgetLineItemService.getAllLineItems(build.getId());
+
+        BigDecimal requiredCost = allItems.stream()
+                .filter(i -> Boolean.TRUE.equals(i.getIsRequired()))
+                .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        BigDecimal optionalCost = allItems.stream()
+                .filter(i -> !Boolean.TRUE.equals(i.getIsRequired()))
+                .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        long requiredCount = allItems.stream().filter(i -> Boolean.TRUE.equals(i.getIsRequired())).count();
+        long optionalCount = allItems.stream().filter(i -> !Boolean.TRUE.equals(i.getIsRequired())).count();
+
+        long requiredInstalled = allItems.stream()
+                .filter(i -> Boolean.TRUE.equals(i.getIsRequired()) && "INSTALLED".equals(i.getStatus()))
+                .count();
+
+        double percentInstalled = requiredCount == 0 ? 0 : (requiredInstalled * 100.0 / requiredCount);
+
+        return BudgetOverviewDto.builder()
+                .buildId(build.getId())
+                .vehicleId(vehicle.getId())
+                .vehicleLabel(VehicleLabels.of(vehicle))
+                .buildName(build.getName())
+                .upgradeCategoryName(build.getUpgradeCategoryName())
+                .status(build.getStatus())
+                .priorityLevel(build.getPriorityLevel())
+                .totalCost(requiredCost.add(optionalCost))
+                .requiredCost(requiredCost)
+                .optionalCost(optionalCost)
+                .totalItemsCount(allItems.size())
+                .requiredItemsCount(requiredCount)
+                .optionalItemsCount(optionalCount)
+                .percentRequiredInstalled(Math.round(percentInstalled * 10.0) / 10.0)
+                .build();
+    }
+
+    /**
+     * Budget totals and breakdowns for a build owned by the current user, together with the
+     * filtered line items they were calculated from.
+     */
+    public BudgetCalcResponseDto getBuildBudget(UUID buildId, BudgetFiltersDto filters) {
+        List<BudgetLineItemDto> filteredItems = budgetLineItemService.getLineItems(buildId, filters);
+
+        VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(buildId);
+        VehicleDto vehicle = vehicleService.getVehicleById(build.getVehicleId());
+
+        // Calculate totals
+        BigDecimal requiredCost = filteredItems.stream()
+                .filter(i -> Boolean.TRUE.equals(i.getIsRequired()))
+                .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        BigDecimal optionalCost = filteredItems.stream()
+                .filter(i -> !Boolean.TRUE.equals(i.getIsRequired()))
+                .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        long requiredCount = filteredItems.stream().filter(i -> Boolean.TRUE.equals(i.getIsRequired())).count();
+        long optionalCount = filteredItems.stream().filter(i -> !Boolean.TRUE.equals(i.getIsRequired())).count();
+
+        // Group by category
+        List<CategoryCostDto> byCategory = calculateByCategory(filteredItems);
+
+        // Group by tier
+        List<TierCostDto> byTier = calculateByTier(filteredItems);
+
+        // Group by month
+        List<MonthlyCostDto> byMonth = calculateByMonth(filteredItems);
+
+        return BudgetCalcResponseDto.builder()
+                .buildId(buildId)
+                .buildName(build.getName())
+                .vehicleLabel(VehicleLabels.of(vehicle))
+                .currencyCode("USD")
+                .filters(filters)
+                .requiredCost(requiredCost)
+                .optionalCost(optionalCost)
+                .combinedCost(requiredCost.add(optionalCost))
+                .byCategory(byCategory)
+                .byTier(byTier)
+                .byMonth(byMonth)
+                .totalItemsCount(filteredItems.size())
+                .requiredItemsCount(requiredCount)
+                .optionalItemsCount(optionalCount)
+                .lineItems(filteredItems)
+                .build();
+    }
+
+    private List<CategoryCostDto> calculateByCategory(List<BudgetLineItemDto> items) {
+        Map<String, List<BudgetLineItemDto>> grouped = items.stream()
+                .filter(i -> i.getCategoryCode() != null)
+                .collect(Collectors.groupingBy(BudgetLineItemDto::getCategoryCode));
+
+        return grouped.entrySet().stream()
+                .map(entry -> {
+                    List<BudgetLineItemDto> categoryItems = entry.getValue();
+                    String categoryLabel = categoryItems.stream()
+                            .filter(i -> i.getCategoryLabel() != null)
+                            .findFirst()
+                            .map(BudgetLineItemDto::getCategoryLabel)
+                            .orElse(entry.getKey());
+
+                    BigDecimal requiredCost = categoryItems.stream()
+                            .filter(i -> Boolean.TRUE.equals(i.getIsRequired()))
+                            .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                    BigDecimal optionalCost = categoryItems.stream()
+                            .filter(i -> !Boolean.TRUE.equals(i.getIsRequired()))
+                            .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                    return CategoryCostDto.builder()
+                            .categoryCode(entry.getKey())
+                            .categoryLabel(categoryLabel)
+                            .requiredCost(requiredCost)
+                            .optionalCost(optionalCost)
+                            .combinedCost(requiredCost.add(optionalCost))
+                            .itemCount(categoryItems.size())
+                            .build();
+                })
+                .sorted(Comparator.comparing(CategoryCostDto::getCategoryLabel))
+                .collect(Collectors.toList());
+    }
+
+    private List<TierCostDto> calculateByTier(List<BudgetLineItemDto> items) {
+        Map<String, List<BudgetLineItemDto>> grouped = items.stream()
+                .filter(i -> i.getTierCode() != null)
+                .collect(Collectors.groupingBy(BudgetLineItemDto::getTierCode));
+
+        return grouped.entrySet().stream()
+                .map(entry -> {
+                    List<BudgetLineItemDto> tierItems = entry.getValue();
+                    String tierLabel = tierItems.stream()
+                            .filter(i -> i.getTierLabel() != null)
+                            .findFirst()
+                            .map(BudgetLineItemDto::getTierLabel)
+                            .orElse(entry.getKey());
+
+                    BigDecimal cost = tierItems.stream()
+                            .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                    return TierCostDto.builder()
+                            .tierCode(entry.getKey())
+                            .tierLabel(tierLabel)
+                            .cost(cost)
+                            .itemCount(tierItems.size())
+                            .build();
+                })
+                .sorted(Comparator.comparing(TierCostDto::getTierLabel))
+                .collect(Collectors.toList());
+    }
+
+    private List<MonthlyCostDto> calculateByMonth(List<BudgetLineItemDto> items) {
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
+
+        Map<String, List<BudgetLineItemDto>> grouped = items.stream()
+                .filter(i -> i.getTargetPurchaseDate() != null)
+                .collect(Collectors.groupingBy(i -> i.getTargetPurchaseDate().format(monthFormatter)));
+
+        return grouped.entrySet().stream()
+                .map(entry -> {
+                    List<BudgetLineItemDto> monthItems = entry.getValue();
+
+                    BigDecimal requiredCost = monthItems.stream()
+                            .filter(i -> Boolean.TRUE.equals(i.getIsRequired()))
+                            .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                    BigDecimal optionalCost = monthItems.stream()
+                            .filter(i -> !Boolean.TRUE.equals(i.getIsRequired()))
+                            .map(i -> i.getPrice() != null ? i.getPrice() : BigDecimal.ZERO)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                    return MonthlyCostDto.builder()
+                            .yearMonth(entry.getKey())
+                            .requiredCost(requiredCost)
+                            .optionalCost(optionalCost)
+                            .combinedCost(requiredCost.add(optionalCost))
+                            .itemCount(monthItems.size())
+                            .build();
+                })
+                .sorted(Comparator.comparing(MonthlyCostDto::getYearMonth))
+                .collect(Collectors.toList());
+    }
+
+    // ==================== Helper Methods ====================
+
+    // Loaded once per request; looking categories up one by one would also mark the shared
+    // transaction rollback-only whenever a lookup throws
+    private Map<Integer, String> getCategoryKeys() {
+        Map<Integer, String> keys = new HashMap<>();
+        for (UpgradeCategoryDto category : upgradeCategoryService.getAllUpgradeCategories()) {
+            keys.put(category.getId(), category.getKey());
+        }
+        return keys;
+    }
+}
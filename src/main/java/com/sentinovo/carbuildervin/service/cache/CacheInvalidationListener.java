@@ -0,0 +1,127 @@
+package com.sentinovo.carbuildervin.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Listens on the cache_invalidation channel and applies every notification to this node's
+ * caches, including the ones this node sent itself.
+ *
+ * LISTEN needs a session that stays open, so this uses its own JDBC connection instead of
+ * holding one of the pool's. That also means it must be a direct connection: a transaction
+ * pooler such as PgBouncer (Neon's -pooler endpoints) does not deliver notifications.
+ * Notifications sent while the connection was down are lost, so all caches are cleared
+ * every time it (re)connects.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CacheManager cacheManager;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+
+    public CacheInvalidationListener(CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     CacheManager cacheManager,
+                                     @Value("${app.cache.invalidation.url:${spring.datasource.url}}") String url,
+                                     @Value("${app.cache.invalidation.username:${spring.datasource.username}}") String username,
+                                     @Value("${app.cache.invalidation.password:${spring.datasource.password}}") String password,
+                                     @Value("${app.cache.invalidation.poll-timeout:10s}") Duration pollTimeout,
+                                     @Value("${app.cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.cacheManager = cacheManager;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+    }
+
+    /**
+     * The thread notices within one poll timeout and closes its connection.
+     */
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationPublisher.CHANNEL);
+                }
+                clearAllCaches();
+                log.info("Listening for cache invalidations on channel '{}'", CacheInvalidationPublisher.CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null || notifications.length == 0) {
+                        // A dead socket doesn't always fail the wait, so check the session while idle
+                        if (!connection.isValid(5)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        cacheInvalidationPublisher.evictLocally(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener disconnected, reconnecting in {} ms: {}",
+                            reconnectDelay.toMillis(), e.getMessage());
+                    sleep(reconnectDelay);
+                }
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation listener failed, reconnecting in {} ms", reconnectDelay.toMillis(), e);
+                sleep(reconnectDelay);
+            }
+        }
+        log.info("Cache invalidation listener stopped");
+    }
+
+    private void clearAllCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sentinovo.carbuildervin.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts cache entries on every node. The eviction is sent with pg_notify on the caller's
+ * connection, so Postgres delivers it to the other nodes' CacheInvalidationListener only when
+ * the transaction commits, and drops it on rollback. This node evicts right after commit
+ * instead of waiting for its own notification.
+ *
+ * Payload format: "cacheName" clears the whole cache, "cacheName:key" evicts one String key.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+
+    public void evictAll(String cacheName) {
+        publish(cacheName);
+    }
+
+    public void evict(String cacheName, String key) {
+        publish(cacheName + ":" + key);
+    }
+
+    /**
+     * Applies an invalidation payload to this node's caches.
+     */
+    public void evictLocally(String payload) {
+        int separator = payload.indexOf(':');
+        String cacheName = separator < 0 ? payload : payload.substring(0, separator);
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            log.warn("Ignoring invalidation for unknown cache '{}'", cacheName);
+            return;
+        }
+
+        if (separator < 0) {
+            cache.clear();
+        } else {
+            cache.evict(payload.substring(separator + 1));
+        }
+        log.debug("Cache invalidation applied: {}", payload);
+    }
+
+    private void publish(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(payload);
+                }
+            });
+        } else {
+            evictLocally(payload);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.sentinovo.carbuildervin.service.dataset;
+
+import com.sentinovo.carbuildervin.config.SyntheticDatasetProperties;
+import com.sentinovo.carbuildervin.entities.UuidV7Generator;
+import com.sentinovo.carbuildervin.validation.VinValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Writes a synthetic garage dataset (users, vehicles, builds, parts, sub-parts) straight into
+ * Postgres with COPY, one transaction per batch of users. All values, ids and dates come from
+ * one seeded random source, so a seed always produces the same rows; only the password hash
+ * (salted once per run) differs. Part and sub-part owner_id is filled in by the V9 triggers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDatasetGenerator {
+
+    public record Summary(int users, int vehicles, int builds, int parts, int subParts, Duration elapsed) {
+    }
+
+    private record Make(String wmi, String name, List<String> models) {
+    }
+
+    private record UpgradeCategoryRow(int id, String name) {
+    }
+
+    /**
+     * Values with relative weights.
+     */
+    private record Weighted(List<String> values, int[] weights, int total) {
+
+        static Weighted of(Object... valuesAndWeights) {
+            List<String> values = new ArrayList<>();
+            int[] weights = new int[valuesAndWeights.length / 2];
+            int total = 0;
+            for (int i = 0; i < valuesAndWeights.length; i += 2) {
+                values.add((String) valuesAndWeights[i]);
+                weights[i / 2] = (Integer) valuesAndWeights[i + 1];
+                total += weights[i / 2];
+            }
+            return new Weighted(List.copyOf(values), weights, total);
+        }
+
+        String pick(SplittableRandom random) {
+            int roll = random.nextInt(total);
+            for (int i = 0; i < weights.length; i++) {
+                roll -= weights[i];
+                if (roll < 0) {
+                    return values.get(i);
+                }
+            }
+            return values.getLast();
+        }
+    }
+
+    private static final List<Make> MAKES = List.of(
+            new Make("1FA", "Ford", List.of("Mustang", "Focus ST", "Fusion")),
+            new Make("1FT", "Ford", List.of("F-150", "Ranger", "Bronco")),
+            new Make("1G1", "Chevrolet", List.of("Camaro", "Corvette", "Malibu")),
+            new Make("1HG", "Honda", List.of("Civic", "Accord", "S2000")),
+            new Make("JTD", "Toyota", List.of("Corolla", "GR86", "Supra")),
+            new Make("JN1", "Nissan", List.of("370Z", "GT-R", "Sentra")),
+            new Make("JF1", "Subaru", List.of("WRX", "BRZ", "Impreza")),
+            new Make("JM1", "Mazda", List.of("MX-5 Miata", "RX-8", "Mazda3")),
+            new Make("WBA", "BMW", List.of("M3", "330i", "Z4")),
+            new Make("WVW", "Volkswagen", List.of("Golf GTI", "Jetta", "Golf R")),
+            new Make("WP0", "Porsche", List.of("911", "Cayman", "Boxster")),
+            new Make("5YJ", "Tesla", List.of("Model 3", "Model S", "Model Y"))
+    );
+
+    private static final List<String> TRIMS = List.of("Base", "Sport", "Limited", "Touring", "GT", "Premium");
+    private static final List<String> NICKNAMES = List.of("Daily", "Weekend Car", "Project", "Track Toy", "Old Faithful", "Beast");
+    private static final List<String> BUILD_NAMES = List.of(
+            "Stage 1", "Stage 2", "Refresh", "Weekend Project", "Track Prep", "Daily Comfort", "Restoration", "Overhaul");
+    private static final List<String> FIRST_NAMES = List.of("Alex", "Sam", "Jordan", "Taylor", "Casey", "Riley", "Morgan", "Jamie");
+    private static final List<String> LAST_NAMES = List.of("Garcia", "Smith", "Nguyen", "Okafor", "Kowalski", "Tanaka", "Silva", "Brown");
+    private static final List<String> BRANDS = List.of(
+            "Bosch", "Brembo", "Bilstein", "KW", "Mishimoto", "K&N", "Borla", "NGK", "Eibach", "Recaro",
+            "Garrett", "Denso", "Hawk", "StopTech", "Magnaflow", "Cobb", "AEM", "Motul");
+    private static final Map<String, List<String>> PART_NAMES = Map.ofEntries(
+            Map.entry("ENGINE", List.of("Timing belt kit", "Performance camshaft", "Engine mount", "Oil cooler")),
+            Map.entry("SUSPENSION", List.of("Coilover kit", "Sway bar", "Control arm", "Strut tower brace")),
+            Map.entry("BRAKES", List.of("Big brake kit", "Brake pads", "Stainless brake lines", "Rotors")),
+            Map.entry("WHEELS", List.of("Forged wheels", "Summer tires", "Wheel spacers", "Lug nuts")),
+            Map.entry("EXHAUST", List.of("Cat-back exhaust", "Headers", "Downpipe", "Muffler")),
+            Map.entry("INTAKE", List.of("Cold air intake", "Throttle body", "Intake manifold")),
+            Map.entry("TURBO", List.of("Turbocharger", "Intercooler", "Blow-off valve", "Wastegate")),
+            Map.entry("COOLING", List.of("Aluminum radiator", "Thermostat", "Silicone hoses")),
+            Map.entry("FUEL", List.of("Fuel pump", "Injectors", "Fuel pressure regulator")),
+            Map.entry("IGNITION", List.of("Spark plugs", "Ignition coils", "Plug wires")),
+            Map.entry("TRANSMISSION", List.of("Clutch kit", "Short shifter", "Limited-slip differential")),
+            Map.entry("INTERIOR", List.of("Bucket seats", "Steering wheel", "Shift knob", "Floor mats")),
+            Map.entry("EXTERIOR", List.of("Front lip", "Rear spoiler", "Side skirts", "LED headlights")),
+            Map.entry("ELECTRONICS", List.of("ECU tune", "Gauge pod", "Wideband O2 sensor", "Head unit")),
+            Map.entry("MAINTENANCE", List.of("Synthetic oil", "Oil filter", "Coolant", "Brake fluid")),
+            Map.entry("SAFETY", List.of("Roll bar", "Harness", "Fire extinguisher"))
+    );
+    private static final List<String> GENERIC_PART_NAMES = List.of("Upgrade kit", "Replacement part", "Accessory");
+    private static final List<String> SUB_PART_NAMES = List.of(
+            "Mounting bracket", "Gasket", "Hardware kit", "Clamp", "Wiring harness", "Bolt set", "Seal", "Hose");
+
+    private static final Weighted BUILD_STATUS = Weighted.of(
+            "PLANNED", 35, "IN_PROGRESS", 30, "COMPLETED", 20, "ON_HOLD", 10, "CANCELLED", 5);
+    private static final Map<String, Weighted> PART_STATUS_BY_BUILD_STATUS = Map.of(
+            "PLANNED", Weighted.of("PLANNED", 60, "RESEARCHING", 35, "ORDERED", 5),
+            "IN_PROGRESS", Weighted.of("PLANNED", 15, "RESEARCHING", 15, "ORDERED", 20, "DELIVERED", 20, "INSTALLED", 25, "CANCELLED", 5),
+            "COMPLETED", Weighted.of("INSTALLED", 85, "DELIVERED", 5, "CANCELLED", 10),
+            "ON_HOLD", Weighted.of("PLANNED", 40, "RESEARCHING", 30, "ORDERED", 20, "DELIVERED", 10),
+            "CANCELLED", Weighted.of("CANCELLED", 70, "PLANNED", 30)
+    );
+
+    private static final String VIN_CHARS = "ABCDEFGHJKLMNPRSTUVWXYZ0123456789";
+    // Model year codes repeat every 30 years starting with A = 1980
+    private static final String MODEL_YEAR_CODES = "ABCDEFGHJKLMNPRSTVWXY123456789";
+
+    private static final String USER_COLUMNS = "id, username, email, password_hash, display_name, is_active, created_at";
+    private static final String USER_ROLE_COLUMNS = "user_id, role_id, assigned_at";
+    private static final String VEHICLE_COLUMNS = "id, owner_id, vin, year, make, model, trim, nickname, is_archived, created_at";
+    private static final String BUILD_COLUMNS = "id, vehicle_id, upgrade_category_id, name, slug, description, priority_level, "
+            + "target_completion_date, status, is_primary_for_category, created_at";
+    private static final String PART_COLUMNS = "id, vehicle_upgrade_id, name, brand, category_code, tier_code, product_url, "
+            + "price, currency_code, is_required, status, priority_value, target_purchase_date, sort_order, notes, created_at";
+    private static final String SUB_PART_COLUMNS = "id, parent_part_id, name, brand, category_code, tier_code, product_url, "
+            + "price, currency_code, is_required, status, priority_value, target_purchase_date, sort_order, notes, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+
+    public static String usernamePrefix(long seed) {
+        return "synth-" + seed + "-";
+    }
+
+    public static String username(long seed, int index) {
+        return usernamePrefix(seed) + String.format("%06d", index);
+    }
+
+    public Summary generate(SyntheticDatasetProperties settings) {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(settings.getSeed());
+        String prefix = usernamePrefix(settings.getSeed());
+
+        List<UpgradeCategoryRow> upgradeCategories = jdbcTemplate.query(
+                "SELECT id, name FROM upgrade_category WHERE is_active = true ORDER BY id",
+                (rs, rowNum) -> new UpgradeCategoryRow(rs.getInt("id"), rs.getString("name")));
+        List<String> partCategories = jdbcTemplate.queryForList("SELECT code FROM part_category ORDER BY code", String.class);
+        List<String> partTiers = jdbcTemplate.queryForList("SELECT code FROM part_tier ORDER BY rank", String.class);
+        List<Integer> userRoleIds = jdbcTemplate.queryForList("SELECT id FROM role WHERE name = 'USER'", Integer.class);
+        if (upgradeCategories.isEmpty() || partCategories.isEmpty() || partTiers.isEmpty() || userRoleIds.isEmpty()) {
+            throw new IllegalStateException("Reference data (roles, categories, tiers) must be seeded first");
+        }
+
+        if (settings.isReplace()) {
+            int deleted = jdbcTemplate.update("DELETE FROM app_user WHERE username LIKE ?", prefix + "%");
+            log.info("Removed {} synthetic users from an earlier run with seed {}", deleted, settings.getSeed());
+        }
+
+        Instant asOf = settings.getAsOf().atStartOfDay(ZoneOffset.UTC).toInstant();
+        long historyMillis = Duration.ofDays(settings.getHistoryDays()).toMillis();
+        String passwordHash = passwordEncoder.encode(settings.getPassword());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int vehicleCount = 0;
+        int buildCount = 0;
+        int partCount = 0;
+        int subPartCount = 0;
+        CsvRows users = new CsvRows();
+        CsvRows userRoles = new CsvRows();
+        CsvRows vehicles = new CsvRows();
+        CsvRows builds = new CsvRows();
+        CsvRows parts = new CsvRows();
+        CsvRows subParts = new CsvRows();
+
+        for (int u = 0; u < settings.getUsers(); u++) {
+            Instant userCreated = asOf.minusMillis((long) (Math.pow(random.nextDouble(), 2) * historyMillis));
+            UUID userId = UuidV7Generator.of(userCreated.toEpochMilli(), random);
+            String username = username(settings.getSeed(), u);
+            String displayName = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+            users.add(userId, username, username + "@example.test", passwordHash, displayName, true, userCreated);
+            userRoles.add(userId, userRoleIds.getFirst(), userCreated);
+
+            int vehiclesForUser = vary(random, settings.getVehiclesPerUser());
+            for (int v = 0; v < vehiclesForUser; v++) {
+                Instant vehicleCreated = between(random, userCreated, asOf);
+                UUID vehicleId = UuidV7Generator.of(vehicleCreated.toEpochMilli(), random);
+                Make make = pick(random, MAKES);
+                int year = random.nextInt(1995, settings.getAsOf().getYear() + 2);
+                String vin = random.nextInt(100) < 85 ? vin(random, make.wmi(), year, vehicleCount) : null;
+                vehicles.add(vehicleId, userId, vin, year, make.name(), pick(random, make.models()),
+                        random.nextInt(100) < 70 ? pick(random, TRIMS) : null,
+                        random.nextInt(100) < 30 ? pick(random, NICKNAMES) : null,
+                        random.nextInt(100) < 10, vehicleCreated);
+                vehicleCount++;
+
+                Set<Integer> primaryCategories = new HashSet<>();
+                int buildsForVehicle = vary(random, settings.getBuildsPerVehicle());
+                for (int b = 0; b < buildsForVehicle; b++) {
+                    Instant buildCreated = between(random, vehicleCreated, asOf);
+                    UUID buildId = UuidV7Generator.of(buildCreated.toEpochMilli(), random);
+                    UpgradeCategoryRow category = pick(random, upgradeCategories);
+                    String buildStatus = BUILD_STATUS.pick(random);
+                    String buildName = category.name() + " " + pick(random, BUILD_NAMES);
+                    LocalDate targetCompletion = buildStatus.equals("COMPLETED")
+                            ? date(between(random, buildCreated, asOf))
+                            : random.nextInt(100) < 70 ? settings.getAsOf().plusDays(random.nextInt(1, 366)) : null;
+                    builds.add(buildId, vehicleId, category.id(), buildName, slug(buildName),
+                            "Synthetic " + buildName.toLowerCase() + " build", random.nextInt(1, 11),
+                            targetCompletion, buildStatus, primaryCategories.add(category.id()), buildCreated);
+                    buildCount++;
+
+                    Weighted partStatus = PART_STATUS_BY_BUILD_STATUS.get(buildStatus);
+                    int partsForBuild = vary(random, settings.getPartsPerBuild());
+                    for (int p = 0; p < partsForBuild; p++) {
+                        Instant partCreated = between(random, buildCreated, asOf);
+                        UUID partId = UuidV7Generator.of(partCreated.toEpochMilli(), random);
+                        String categoryCode = pick(random, partCategories);
+                        String status = partStatus.pick(random);
+                        parts.add(partId, buildId,
+                                pick(random, PART_NAMES.getOrDefault(categoryCode, GENERIC_PART_NAMES)),
+                                pick(random, BRANDS), categoryCode, pick(random, partTiers),
+                                random.nextInt(100) < 50 ? productUrl(random) : null,
+                                random.nextInt(100) < 90 ? price(random, 180) : null, "USD",
+                                random.nextInt(100) < 80, status, random.nextInt(1, 11),
+                                targetPurchaseDate(random, status, partCreated, settings.getAsOf()), p,
+                                random.nextInt(100) < 20 ? "Synthetic note for part " + p : null, partCreated);
+                        partCount++;
+
+                        int subPartsForPart = vary(random, settings.getSubPartsPerPart());
+                        for (int s = 0; s < subPartsForPart; s++) {
+                            Instant subPartCreated = between(random, partCreated, asOf);
+                            String subPartStatus = random.nextInt(100) < 80 ? status : partStatus.pick(random);
+                            subParts.add(UuidV7Generator.of(subPartCreated.toEpochMilli(), random), partId,
+                                    pick(random, SUB_PART_NAMES), pick(random, BRANDS), categoryCode,
+                                    pick(random, partTiers), null, random.nextInt(100) < 90 ? price(random, 25) : null,
+                                    "USD", random.nextInt(100) < 60, subPartStatus, random.nextInt(1, 11),
+                                    targetPurchaseDate(random, subPartStatus, subPartCreated, settings.getAsOf()), s,
+                                    null, subPartCreated);
+                            subPartCount++;
+                        }
+                    }
+                }
+            }
+
+            boolean lastUser = u == settings.getUsers() - 1;
+            if ((u + 1) % settings.getUsersPerBatch() == 0 || lastUser) {
+                List<CsvRows> batch = List.of(users, userRoles, vehicles, builds, parts, subParts);
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                    copy(pgConnection, "app_user", USER_COLUMNS, users);
+                    copy(pgConnection, "user_role", USER_ROLE_COLUMNS, userRoles);
+                    copy(pgConnection, "vehicle", VEHICLE_COLUMNS, vehicles);
+                    copy(pgConnection, "vehicle_upgrade", BUILD_COLUMNS, builds);
+                    copy(pgConnection, "part", PART_COLUMNS, parts);
+                    copy(pgConnection, "sub_part", SUB_PART_COLUMNS, subParts);
+                    return null;
+                }));
+                batch.forEach(CsvRows::clear);
+                log.info("Synthetic dataset: {}/{} users written", u + 1, settings.getUsers());
+            }
+        }
+
+        // Fresh planner statistics, so benchmarks don't run against estimates for empty tables
+        jdbcTemplate.execute("ANALYZE app_user, user_role, vehicle, vehicle_upgrade, part, sub_part");
+
+        Summary summary = new Summary(settings.getUsers(), vehicleCount, buildCount, partCount, subPartCount,
+                Duration.ofNanos(System.nanoTime() - started));
+        log.info("Synthetic dataset for seed {} written: {}", settings.getSeed(), summary);
+        return summary;
+    }
+
+    private static void copy(PGConnection connection, String table, String columns, CsvRows rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            connection.getCopyAPI().copyIn(
+                    "COPY " + table + " (" + columns + ") FROM STDIN (FORMAT csv)", new StringReader(rows.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 17 characters from the VIN alphabet: manufacturer prefix, random descriptor, check digit,
+     * model year code, random plant code and the running vehicle number as serial.
+     */
+    static String vin(SplittableRandom random, String wmi, int year, int serial) {
+        StringBuilder vin = new StringBuilder(17).append(wmi);
+        for (int i = 0; i < 5; i++) {
+            vin.append(VIN_CHARS.charAt(random.nextInt(VIN_CHARS.length())));
+        }
+        vin.append('0')
+                .append(MODEL_YEAR_CODES.charAt(Math.floorMod(year - 1980, MODEL_YEAR_CODES.length())))
+                .append(VIN_CHARS.charAt(random.nextInt(VIN_CHARS.length())))
+                .append(String.format("%06d", serial % 1_000_000));
+        vin.setCharAt(8, VinValidator.computeCheckDigit(vin.toString()));
+
+        String result = vin.toString();
+        if (!VinValidator.isValidVin(result)) {
+            throw new IllegalStateException("Generated an invalid VIN: " + result);
+        }
+        return result;
+    }
+
+    /**
+     * Between 0 and twice the average, so totals come out at the configured averages.
+     */
+    private static int vary(SplittableRandom random, int average) {
+        return average <= 0 ? 0 : random.nextInt(2 * average + 1);
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Instant between(SplittableRandom random, Instant from, Instant to) {
+        long span = Math.max(0, to.toEpochMilli() - from.toEpochMilli());
+        return from.plusMillis((long) (random.nextDouble() * span));
+    }
+
+    private static LocalDate date(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+
+    /**
+     * Log-normal around the median, like real parts lists: mostly modest, a few expensive.
+     */
+    private static BigDecimal price(SplittableRandom random, double median) {
+        double price = Math.exp(Math.log(median) + random.nextGaussian() * 0.9);
+        return BigDecimal.valueOf(Math.min(Math.max(price, 1), 99_999)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Bought parts have a purchase date in the past; open ones a target in the next months or none.
+     */
+    private static LocalDate targetPurchaseDate(SplittableRandom random, String status, Instant created, LocalDate asOf) {
+        return switch (status) {
+            case "ORDERED", "DELIVERED", "INSTALLED" -> date(between(random, created, asOf.atStartOfDay(ZoneOffset.UTC).toInstant()));
+            case "PLANNED", "RESEARCHING" -> random.nextInt(100) < 50 ? asOf.plusDays(random.nextInt(1, 181)) : null;
+            default -> null;
+        };
+    }
+
+    private static String productUrl(SplittableRandom random) {
+        return "https://parts.example.com/p/" + Long.toHexString(random.nextLong());
+    }
+
+    private static String slug(String name) {
+        return name.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+    }
+
+    /**
+     * Rows in Postgres CSV format: text is always quoted, an unquoted empty field is NULL.
+     */
+    private static final class CsvRows {
+
+        private final StringBuilder csv = new StringBuilder();
+
+        void add(Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof String text) {
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    csv.append(value);
+                }
+            }
+            csv.append('\n');
+        }
+
+        boolean isEmpty() {
+            return csv.isEmpty();
+        }
+
+        void clear() {
+            csv.setLength(0);
+        }
+
+        @Override
+        public String toString() {
+            return csv.toString();
+        }
+    }
+}
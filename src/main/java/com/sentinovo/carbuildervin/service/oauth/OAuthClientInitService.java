@@ -1,12 +1,13 @@
 package com.sentinovo.carbuildervin.service.oauth;
 
-import com.sentinovo.carbuildervin.entities.oauth.OAuthClient;
 import com.sentinovo.carbuildervin.repository.oauth.OAuthClientRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Service for initializing default OAuth clients.
  * Pre-registers known MCP clients (ChatGPT Desktop, Claude Desktop, etc.)
@@ -17,6 +18,31 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class OAuthClientInitService {
 
+    public record DefaultClient(String clientId, String clientName, String redirectUris) {
+    }
+
+    public static final List<DefaultClient> DEFAULT_CLIENTS = List.of(
+            new DefaultClient(
+                    "chatgpt-desktop",
+                    "ChatGPT Desktop",
+                    "[\"https://chat.openai.com/aip/g/callback\", \"https://chatgpt.com/aip/g/callback\", \"http://localhost:*\", \"http://127.0.0.1:*\"]"
+            ),
+            new DefaultClient(
+                    "claude-desktop",
+                    "Claude Desktop",
+                    "[\"http://localhost:*\", \"http://127.0.0.1:*\"]"
+            ),
+            new DefaultClient(
+                    "generic-mcp-client",
+                    "Generic MCP Client",
+                    "[\"http://localhost:*\", \"http://127.0.0.1:*\"]"
+            )
+    );
+
+    // Public clients - the secret is never verified
+    private static final String PUBLIC_CLIENT_SECRET = "public-client";
+    private static final String DEFAULT_SCOPES = "mcp:read mcp:write";
+
     private final OAuthClientRepository clientRepository;
 
     /**
@@ -25,42 +51,13 @@ public class OAuthClientInitService {
      */
     @Transactional
     public void ensureDefaultClients() {
-        registerClient(
-            "chatgpt-desktop",
-            "ChatGPT Desktop",
-            "[\"https://chat.openai.com/aip/g/callback\", \"https://chatgpt.com/aip/g/callback\", \"http://localhost:*\", \"http://127.0.0.1:*\"]"
-        );
-
-        registerClient(
-            "claude-desktop",
-            "Claude Desktop",
-            "[\"http://localhost:*\", \"http://127.0.0.1:*\"]"
-        );
-
-        registerClient(
-            "generic-mcp-client",
-            "Generic MCP Client",
-            "[\"http://localhost:*\", \"http://127.0.0.1:*\"]"
-        );
-    }
-
-    private void registerClient(String clientId, String clientName, String redirectUris) {
-        if (clientRepository.existsByClientId(clientId)) {
-            log.debug("OAuth client '{}' already exists", clientId);
-            return;
-        }
-
-        OAuthClient client = OAuthClient.builder()
-                .clientId(clientId)
-                .clientSecret("public-client") // Public client - secret not verified
-                .clientName(clientName)
-                .redirectUris(redirectUris)
-                .scopes("mcp:read mcp:write")
-                .isConfidential(false) // Public client - no secret verification needed
-                .isActive(true)
-                .build();
-
-        clientRepository.save(client);
-        log.info("Registered OAuth client: {}", clientId);
+        int inserted = clientRepository.insertMissingPublicClients(
+                DEFAULT_CLIENTS.stream().map(DefaultClient::clientId).toArray(String[]::new),
+                DEFAULT_CLIENTS.stream().map(DefaultClient::clientName).toArray(String[]::new),
+                DEFAULT_CLIENTS.stream().map(DefaultClient::redirectUris).toArray(String[]::new),
+                PUBLIC_CLIENT_SECRET,
+                DEFAULT_SCOPES);
+
+        log.info("Default OAuth clients ensured ({} registered)", inserted);
     }
 }
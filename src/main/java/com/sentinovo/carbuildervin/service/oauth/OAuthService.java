@@ -1,13 +1,17 @@
 package com.sentinovo.carbuildervin.service.oauth;
 
+import com.sentinovo.carbuildervin.config.CacheConfig;
 import com.sentinovo.carbuildervin.dto.oauth.*;
 import com.sentinovo.carbuildervin.entities.oauth.*;
 import com.sentinovo.carbuildervin.entities.user.User;
 import com.sentinovo.carbuildervin.exception.OAuthException;
 import com.sentinovo.carbuildervin.repository.oauth.*;
 import com.sentinovo.carbuildervin.repository.user.UserRepository;
+import com.sentinovo.carbuildervin.service.cache.CacheInvalidationPublisher;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +36,7 @@ public class OAuthService {
     private final UserRepository userRepository;
     private final JwtTokenService jwtTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     private static final Map<String, String> SCOPE_DESCRIPTIONS = Map.of(
             "mcp:read", "Read your vehicles, builds, and parts",
@@ -268,10 +273,13 @@ public class OAuthService {
 
     /**
      * Revoke all tokens for a user-client pair.
+     * Access tokens already issued stop working once the cached principal is evicted.
      */
     public void revokeClientAuthorization(UUID userId, UUID clientId) {
         refreshTokenRepository.revokeByUserIdAndClientId(userId, clientId);
         authorizationRepository.deleteByUserIdAndClientId(userId, clientId);
+        clientRepository.findById(clientId).ifPresent(client -> cacheInvalidationPublisher.evict(
+                CacheConfig.OAUTH_BEARER_USERS, userId + ":" + client.getClientId()));
         log.info("Revoked authorization for user {} and client {}", userId, clientId);
     }
 
@@ -287,17 +295,26 @@ public class OAuthService {
      * Validate a bearer token and return the user if valid.
      */
     @Transactional(readOnly = true)
-    public Optional<User> validateBearerToken(String token) {
+    public Optional<McpUserPrincipal> validateBearerToken(String token) {
         return jwtTokenService.validateAccessToken(token)
-                .flatMap(claims -> jwtTokenService.extractUserId(claims))
-                .flatMap(userId -> {
-                    try {
-                        return userRepository.findById(UUID.fromString(userId));
-                    } catch (IllegalArgumentException e) {
-                        return Optional.empty();
-                    }
-                })
-                .filter(User::getIsActive);
+                .flatMap(claims -> jwtTokenService.extractUserId(claims)
+                        .flatMap(userId -> jwtTokenService.extractClientId(claims)
+                                .flatMap(clientId -> findAuthorizedUser(userId, clientId))));
+    }
+
+    /**
+     * Find the active user behind an access token, as long as the token's client is still
+     * authorized, as a snapshot of the user and their roles. Hits are cached per user and client.
+     */
+    @Cacheable(cacheNames = CacheConfig.OAUTH_BEARER_USERS, key = "#userId + ':' + #clientId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<McpUserPrincipal> findAuthorizedUser(String userId, String clientId) {
+        try {
+            return userRepository.findAuthorizedForClientWithRoles(UUID.fromString(userId), clientId)
+                    .map(McpUserPrincipal::of);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.sentinovo.carbuildervin.service.parts;
+
+import com.sentinovo.carbuildervin.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page ordered by (sort_order, name, id).
+ * Encoded as URL-safe Base64 so clients treat it as an opaque token.
+ */
+record KeysetCursor(int sortOrder, String name, UUID id) {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    static int pageSize(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static KeysetCursor of(Integer sortOrder, String name, UUID id) {
+        return new KeysetCursor(sortOrder != null ? sortOrder : 0, name, id);
+    }
+
+    String encode() {
+        // Name goes last so it may contain the separator
+        String raw = sortOrder + ":" + id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = raw.split(":", 3);
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new KeysetCursor(Integer.parseInt(fields[0]), fields[2], UUID.fromString(fields[1]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("cursor", "Invalid pagination cursor");
+        }
+    }
+}
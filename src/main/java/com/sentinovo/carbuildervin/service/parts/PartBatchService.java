@@ -0,0 +1,393 @@
+package com.sentinovo.carbuildervin.service.parts;
+
+import com.sentinovo.carbuildervin.dto.parts.PartCreateDto;
+import com.sentinovo.carbuildervin.dto.parts.PartDto;
+import com.sentinovo.carbuildervin.dto.parts.SubPartCreateDto;
+import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchItemResultDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchRequestDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.BatchResultDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.PartBatchUpdateItemDto;
+import com.sentinovo.carbuildervin.dto.parts.batch.SubPartBatchUpdateItemDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.PartCategory;
+import com.sentinovo.carbuildervin.entities.parts.PartTier;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.entities.vehicle.VehicleUpgrade;
+import com.sentinovo.carbuildervin.exception.ValidationException;
+import com.sentinovo.carbuildervin.mapper.parts.PartMapper;
+import com.sentinovo.carbuildervin.mapper.parts.SubPartMapper;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.service.status.BuildStatusService;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch create/update/delete for parts and sub-parts. Every item is validated up front
+ * (bean validation, lookup codes, ownership, status transitions) against data loaded with a
+ * handful of queries; the valid items are then written in one transaction using JDBC
+ * batching. Invalid items are reported per item and skipped, like rows in the CSV import.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class PartBatchService {
+
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final PartService partService;
+    private final VehicleUpgradeService vehicleUpgradeService;
+    private final PartCategoryService partCategoryService;
+    private final PartTierService partTierService;
+    private final AuthenticationService authenticationService;
+    private final PartMapper partMapper;
+    private final SubPartMapper subPartMapper;
+    private final Validator validator;
+
+    // ===== Parts =====
+
+    public BatchResultDto<PartDto> createParts(UUID buildId, List<PartCreateDto> items) {
+        checkBatchSize(items);
+        log.info("Batch creating {} parts for build: {}", items.size(), buildId);
+
+        VehicleUpgrade upgrade = vehicleUpgradeService.findByIdAndValidateOwnership(buildId);
+        Lookups lookups = loadLookups();
+
+        List<BatchItemResultDto<PartDto>> results = new ArrayList<>(items.size());
+        Map<Integer, Part> pending = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            PartCreateDto item = items.get(i);
+            List<String> errors = validate(item);
+            if (item != null) {
+                checkLookups(item.getCategoryCode(), item.getTierCode(), lookups, errors);
+                checkStatus(null, item.getStatus(), errors);
+            }
+            if (!errors.isEmpty()) {
+                results.add(failure(i, null, errors));
+                continue;
+            }
+
+            Part part = partMapper.toEntity(item);
+            part.setVehicleUpgrade(upgrade);
+            // Convert empty productUrl to null (validation requires http:// or https://)
+            if (part.getProductUrl() != null && part.getProductUrl().trim().isEmpty()) {
+                part.setProductUrl(null);
+            }
+            part.setPartCategory(lookups.category(item.getCategoryCode()));
+            part.setPartTier(lookups.tier(item.getTierCode()));
+            pending.put(i, part);
+            results.add(null);
+        }
+
+        partRepository.saveAll(pending.values());
+        partRepository.flush();
+        pending.forEach((i, part) -> results.set(i, success(i, part.getId(), partMapper.toDto(part))));
+
+        return toResult(results);
+    }
+
+    public BatchResultDto<PartDto> updateParts(List<PartBatchUpdateItemDto> items) {
+        checkBatchSize(items);
+        log.info("Batch updating {} parts", items.size());
+
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        Map<UUID, Part> owned = partRepository.findAllByIdInAndOwnerId(collectIds(items, PartBatchUpdateItemDto::getId), currentUserId)
+                .stream().collect(Collectors.toMap(Part::getId, Function.identity()));
+        Lookups lookups = loadLookups();
+
+        List<BatchItemResultDto<PartDto>> results = new ArrayList<>(items.size());
+        Map<Integer, Part> pending = new LinkedHashMap<>();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            PartBatchUpdateItemDto item = items.get(i);
+            UUID id = item != null ? item.getId() : null;
+            List<String> errors = validate(item);
+            Part part = id != null ? owned.get(id) : null;
+            if (id != null && !seen.add(id)) {
+                errors.add("Part " + id + " appears more than once in the batch");
+            } else if (id != null && part == null) {
+                errors.add("Part not found with id: " + id);
+            }
+            if (errors.isEmpty()) {
+                checkLookups(item.getChanges().getCategoryCode(), item.getChanges().getTierCode(), lookups, errors);
+                checkStatus(part.getStatus(), item.getChanges().getStatus(), errors);
+            }
+            if (!errors.isEmpty()) {
+                results.add(failure(i, id, errors));
+                continue;
+            }
+
+            if (item.getChanges().getCategoryCode() != null) {
+                part.setPartCategory(lookups.category(item.getChanges().getCategoryCode()));
+            }
+            if (item.getChanges().getTierCode() != null) {
+                part.setPartTier(lookups.tier(item.getChanges().getTierCode()));
+            }
+            partMapper.updateEntity(part, item.getChanges());
+            pending.put(i, part);
+            results.add(null);
+        }
+
+        // Managed entities are written by the flush, batched per statement shape
+        partRepository.flush();
+        pending.forEach((i, part) -> results.set(i, success(i, part.getId(), partMapper.toDto(part))));
+
+        return toResult(results);
+    }
+
+    public BatchResultDto<Void> deleteParts(List<UUID> ids) {
+        checkBatchSize(ids);
+        log.info("Batch deleting {} parts", ids.size());
+
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        Set<UUID> owned = new HashSet<>(partRepository.findIdsByIdInAndOwnerId(collectIds(ids, Function.identity()), currentUserId));
+
+        List<BatchItemResultDto<Void>> results = deleteResults(ids, owned, "Part");
+        List<UUID> toDelete = results.stream().filter(BatchItemResultDto::isSuccess).map(BatchItemResultDto::getId).toList();
+
+        // Sub-parts go with their parent through ON DELETE CASCADE
+        if (!toDelete.isEmpty()) {
+            partRepository.deleteAllByIdInBatch(toDelete);
+        }
+
+        return toResult(results);
+    }
+
+    // ===== Sub-parts =====
+
+    public BatchResultDto<SubPartDto> createSubParts(UUID parentPartId, List<SubPartCreateDto> items) {
+        checkBatchSize(items);
+        log.info("Batch creating {} sub-parts for parent part: {}", items.size(), parentPartId);
+
+        Part parentPart = partService.findByIdAndValidateOwnership(parentPartId);
+        Lookups lookups = loadLookups();
+
+        List<BatchItemResultDto<SubPartDto>> results = new ArrayList<>(items.size());
+        Map<Integer, SubPart> pending = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            SubPartCreateDto item = items.get(i);
+            List<String> errors = validate(item);
+            if (item != null) {
+                checkLookups(item.getCategoryCode(), item.getTierCode(), lookups, errors);
+                checkStatus(null, item.getStatus(), errors);
+            }
+            if (!errors.isEmpty()) {
+                results.add(failure(i, null, errors));
+                continue;
+            }
+
+            SubPart subPart = subPartMapper.toEntity(item);
+            subPart.setParentPart(parentPart);
+            subPart.setPartCategory(lookups.category(item.getCategoryCode()));
+            subPart.setPartTier(lookups.tier(item.getTierCode()));
+            pending.put(i, subPart);
+            results.add(null);
+        }
+
+        subPartRepository.saveAll(pending.values());
+        subPartRepository.flush();
+        pending.forEach((i, subPart) -> results.set(i, success(i, subPart.getId(), subPartMapper.toDto(subPart))));
+
+        return toResult(results);
+    }
+
+    public BatchResultDto<SubPartDto> updateSubParts(List<SubPartBatchUpdateItemDto> items) {
+        checkBatchSize(items);
+        log.info("Batch updating {} sub-parts", items.size());
+
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        Map<UUID, SubPart> owned = subPartRepository.findAllByIdInAndOwnerId(collectIds(items, SubPartBatchUpdateItemDto::getId), currentUserId)
+                .stream().collect(Collectors.toMap(SubPart::getId, Function.identity()));
+        Lookups lookups = loadLookups();
+
+        List<BatchItemResultDto<SubPartDto>> results = new ArrayList<>(items.size());
+        Map<Integer, SubPart> pending = new LinkedHashMap<>();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            SubPartBatchUpdateItemDto item = items.get(i);
+            UUID id = item != null ? item.getId() : null;
+            List<String> errors = validate(item);
+            SubPart subPart = id != null ? owned.get(id) : null;
+            if (id != null && !seen.add(id)) {
+                errors.add("Sub-part " + id + " appears more than once in the batch");
+            } else if (id != null && subPart == null) {
+                errors.add("SubPart not found with id: " + id);
+            }
+            if (errors.isEmpty()) {
+                checkLookups(item.getChanges().getCategoryCode(), item.getChanges().getTierCode(), lookups, errors);
+                checkStatus(subPart.getStatus(), item.getChanges().getStatus(), errors);
+            }
+            if (!errors.isEmpty()) {
+                results.add(failure(i, id, errors));
+                continue;
+            }
+
+            if (item.getChanges().getCategoryCode() != null) {
+                subPart.setPartCategory(lookups.category(item.getChanges().getCategoryCode()));
+            }
+            if (item.getChanges().getTierCode() != null) {
+                subPart.setPartTier(lookups.tier(item.getChanges().getTierCode()));
+            }
+            subPartMapper.updateEntity(subPart, item.getChanges());
+            pending.put(i, subPart);
+            results.add(null);
+        }
+
+        subPartRepository.flush();
+        pending.forEach((i, subPart) -> results.set(i, success(i, subPart.getId(), subPartMapper.toDto(subPart))));
+
+        return toResult(results);
+    }
+
+    public BatchResultDto<Void> deleteSubParts(List<UUID> ids) {
+        checkBatchSize(ids);
+        log.info("Batch deleting {} sub-parts", ids.size());
+
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        Set<UUID> owned = new HashSet<>(subPartRepository.findIdsByIdInAndOwnerId(collectIds(ids, Function.identity()), currentUserId));
+
+        List<BatchItemResultDto<Void>> results = deleteResults(ids, owned, "SubPart");
+        List<UUID> toDelete = results.stream().filter(BatchItemResultDto::isSuccess).map(BatchItemResultDto::getId).toList();
+
+        if (!toDelete.isEmpty()) {
+            subPartRepository.deleteAllByIdInBatch(toDelete);
+        }
+
+        return toResult(results);
+    }
+
+    // ===== Helpers =====
+
+    private record Lookups(Map<String, PartCategory> categories, Map<String, PartTier> tiers) {
+
+        PartCategory category(String code) {
+            return code != null ? categories.get(code) : null;
+        }
+
+        PartTier tier(String code) {
+            return code != null ? tiers.get(code) : null;
+        }
+    }
+
+    // Categories and tiers are small reference tables, so one read each replaces a lookup per item
+    private Lookups loadLookups() {
+        Map<String, PartCategory> categories = partCategoryService.findAllCategories().stream()
+                .collect(Collectors.toMap(PartCategory::getCode, Function.identity()));
+        Map<String, PartTier> tiers = partTierService.findAllTiers().stream()
+                .collect(Collectors.toMap(PartTier::getCode, Function.identity()));
+        return new Lookups(categories, tiers);
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new ValidationException("items", "At least one item is required");
+        }
+        if (items.size() > BatchRequestDto.MAX_ITEMS) {
+            throw new ValidationException("items", "No more than " + BatchRequestDto.MAX_ITEMS + " items per batch");
+        }
+    }
+
+    private <T> Set<UUID> collectIds(List<T> items, Function<T, UUID> idGetter) {
+        return items.stream()
+                .filter(Objects::nonNull)
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private List<String> validate(Object item) {
+        List<String> errors = new ArrayList<>();
+        if (item == null) {
+            errors.add("Item is required");
+            return errors;
+        }
+        for (ConstraintViolation<Object> violation : validator.validate(item)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        Collections.sort(errors);
+        return errors;
+    }
+
+    private void checkLookups(String categoryCode, String tierCode, Lookups lookups, List<String> errors) {
+        if (categoryCode != null && lookups.category(categoryCode) == null) {
+            errors.add("Category '" + categoryCode + "' not found");
+        }
+        if (tierCode != null && lookups.tier(tierCode) == null) {
+            errors.add("Tier '" + tierCode + "' not found");
+        }
+    }
+
+    // Same rules as PartService/SubPartService, reported instead of thrown
+    private void checkStatus(String currentStatus, String newStatus, List<String> errors) {
+        if (newStatus == null) {
+            return;
+        }
+        if (!BuildStatusService.STATUS_ORDER.contains(newStatus)) {
+            errors.add("Status must be one of: " + String.join(", ", BuildStatusService.STATUS_ORDER));
+        } else if ("INSTALLED".equals(currentStatus) && !"INSTALLED".equals(newStatus)) {
+            errors.add(String.format("Cannot change status from INSTALLED to %s", newStatus));
+        } else if ("CANCELLED".equals(currentStatus) && !"PLANNED".equals(newStatus)) {
+            errors.add(String.format("Can only change CANCELLED parts back to PLANNED, not %s", newStatus));
+        }
+    }
+
+    private List<BatchItemResultDto<Void>> deleteResults(List<UUID> ids, Set<UUID> owned, String resourceName) {
+        List<BatchItemResultDto<Void>> results = new ArrayList<>(ids.size());
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            if (id == null) {
+                results.add(failure(i, null, List.of("Id is required")));
+            } else if (!seen.add(id)) {
+                results.add(failure(i, id, List.of(resourceName + " " + id + " appears more than once in the batch")));
+            } else if (!owned.contains(id)) {
+                results.add(failure(i, id, List.of(resourceName + " not found with id: " + id)));
+            } else {
+                results.add(success(i, id, null));
+            }
+        }
+        return results;
+    }
+
+    private static <T> BatchItemResultDto<T> success(int index, UUID id, T data) {
+        return BatchItemResultDto.<T>builder()
+                .index(index)
+                .id(id)
+                .success(true)
+                .data(data)
+                .errors(List.of())
+                .build();
+    }
+
+    private static <T> BatchItemResultDto<T> failure(int index, UUID id, List<String> errors) {
+        return BatchItemResultDto.<T>builder()
+                .index(index)
+                .id(id)
+                .success(false)
+                .errors(errors)
+                .build();
+    }
+
+    private <T> BatchResultDto<T> toResult(List<BatchItemResultDto<T>> items) {
+        int successCount = (int) items.stream().filter(BatchItemResultDto::isSuccess).count();
+        log.info("Batch complete: {} applied, {} rejected", successCount, items.size() - successCount);
+        return BatchResultDto.<T>builder()
+                .totalCount(items.size())
+                .successCount(successCount)
+                .failureCount(items.size() - successCount)
+                .items(items)
+                .build();
+    }
+}
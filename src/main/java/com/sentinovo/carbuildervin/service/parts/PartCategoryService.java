@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.service.parts;
 
+import com.sentinovo.carbuildervin.config.CacheConfig;
 import com.sentinovo.carbuildervin.dto.parts.lookup.*;
 import com.sentinovo.carbuildervin.entities.parts.PartCategory;
 import com.sentinovo.carbuildervin.exception.DuplicateResourceException;
@@ -7,8 +8,10 @@ import com.sentinovo.carbuildervin.exception.InvalidStateException;
 import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
 import com.sentinovo.carbuildervin.mapper.parts.PartCategoryMapper;
 import com.sentinovo.carbuildervin.repository.parts.PartCategoryRepository;
+import com.sentinovo.carbuildervin.service.cache.CacheInvalidationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +24,33 @@ import java.util.Optional;
 @Slf4j
 public class PartCategoryService {
 
+    public record DefaultCategory(String code, String label, String description) {
+    }
+
+    public static final List<DefaultCategory> DEFAULT_CATEGORIES = List.of(
+            new DefaultCategory("ENGINE", "Engine", "Engine components and modifications"),
+            new DefaultCategory("SUSPENSION", "Suspension", "Suspension components and upgrades"),
+            new DefaultCategory("BRAKES", "Brakes", "Brake system components"),
+            new DefaultCategory("WHEELS", "Wheels & Tires", "Wheels, tires, and related components"),
+            new DefaultCategory("EXHAUST", "Exhaust", "Exhaust system components"),
+            new DefaultCategory("INTAKE", "Intake", "Air intake system components"),
+            new DefaultCategory("TURBO", "Turbocharger", "Turbocharger and related components"),
+            new DefaultCategory("COOLING", "Cooling", "Cooling system components"),
+            new DefaultCategory("FUEL", "Fuel System", "Fuel system components"),
+            new DefaultCategory("IGNITION", "Ignition", "Ignition system components"),
+            new DefaultCategory("TRANSMISSION", "Transmission", "Transmission and drivetrain components"),
+            new DefaultCategory("INTERIOR", "Interior", "Interior components and accessories"),
+            new DefaultCategory("EXTERIOR", "Exterior", "Exterior components and accessories"),
+            new DefaultCategory("ELECTRONICS", "Electronics", "Electronic components and accessories"),
+            new DefaultCategory("TOOLS", "Tools", "Tools and equipment"),
+            new DefaultCategory("MAINTENANCE", "Maintenance", "Maintenance items and fluids"),
+            new DefaultCategory("SAFETY", "Safety", "Safety equipment and components"),
+            new DefaultCategory("OTHER", "Other", "Other miscellaneous parts")
+    );
+
     private final PartCategoryRepository partCategoryRepository;
     private final PartCategoryMapper partCategoryMapper;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Transactional(readOnly = true)
     public PartCategory findByCode(String code) {
@@ -77,10 +105,11 @@ public class PartCategoryService {
                 .map(partCategoryMapper::toDto);
     }
 
+    @Cacheable(CacheConfig.PART_CATEGORIES)
     @Transactional(readOnly = true)
     public List<PartCategoryDto> getAllPartCategories() {
         List<PartCategory> categories = findAllCategories();
-        return partCategoryMapper.toDtoList(categories);
+        return List.copyOf(partCategoryMapper.toDtoList(categories));
     }
 
     @Transactional(readOnly = true)
@@ -107,6 +136,7 @@ public class PartCategoryService {
                 .build();
 
         PartCategory savedCategory = partCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         log.info("Successfully created part category with code: {}", savedCategory.getCode());
         return savedCategory;
     }
@@ -127,6 +157,7 @@ public class PartCategoryService {
         category.setSortOrder(sortOrder);
         
         PartCategory savedCategory = partCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         log.info("Successfully created part category with code: {}", savedCategory.getCode());
         return partCategoryMapper.toDto(savedCategory);
     }
@@ -141,6 +172,7 @@ public class PartCategoryService {
         if (sortOrder != null) category.setSortOrder(sortOrder);
 
         PartCategory savedCategory = partCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         log.info("Successfully updated part category with code: {}", savedCategory.getCode());
         return savedCategory;
     }
@@ -152,6 +184,7 @@ public class PartCategoryService {
         partCategoryMapper.updateEntity(category, updateDto);
         
         PartCategory savedCategory = partCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         log.info("Successfully updated part category with code: {}", savedCategory.getCode());
         return partCategoryMapper.toDto(savedCategory);
     }
@@ -163,6 +196,7 @@ public class PartCategoryService {
         category.setSortOrder(sortOrder);
         
         PartCategory savedCategory = partCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         log.info("Successfully updated sort order for part category with code: {}", savedCategory.getCode());
         return savedCategory;
     }
@@ -181,6 +215,7 @@ public class PartCategoryService {
         }
         
         partCategoryRepository.delete(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         log.info("Successfully deleted part category with code: {}", code);
     }
 
@@ -191,35 +226,16 @@ public class PartCategoryService {
 
     public void ensureDefaultCategories() {
         log.info("Ensuring default part categories exist");
-        
-        String[][] defaultCategories = {
-            {"ENGINE", "Engine", "Engine components and modifications"},
-            {"SUSPENSION", "Suspension", "Suspension components and upgrades"},
-            {"BRAKES", "Brakes", "Brake system components"},
-            {"WHEELS", "Wheels & Tires", "Wheels, tires, and related components"},
-            {"EXHAUST", "Exhaust", "Exhaust system components"},
-            {"INTAKE", "Intake", "Air intake system components"},
-            {"TURBO", "Turbocharger", "Turbocharger and related components"},
-            {"COOLING", "Cooling", "Cooling system components"},
-            {"FUEL", "Fuel System", "Fuel system components"},
-            {"IGNITION", "Ignition", "Ignition system components"},
-            {"TRANSMISSION", "Transmission", "Transmission and drivetrain components"},
-            {"INTERIOR", "Interior", "Interior components and accessories"},
-            {"EXTERIOR", "Exterior", "Exterior components and accessories"},
-            {"ELECTRONICS", "Electronics", "Electronic components and accessories"},
-            {"TOOLS", "Tools", "Tools and equipment"},
-            {"MAINTENANCE", "Maintenance", "Maintenance items and fluids"},
-            {"SAFETY", "Safety", "Safety equipment and components"},
-            {"OTHER", "Other", "Other miscellaneous parts"}
-        };
-        
-        for (String[] categoryData : defaultCategories) {
-            if (findByCodeOptional(categoryData[0]).isEmpty()) {
-                createCategory(categoryData[0], categoryData[1], categoryData[2], null);
-            }
+
+        int inserted = partCategoryRepository.insertMissing(
+                DEFAULT_CATEGORIES.stream().map(DefaultCategory::code).toArray(String[]::new),
+                DEFAULT_CATEGORIES.stream().map(DefaultCategory::label).toArray(String[]::new),
+                DEFAULT_CATEGORIES.stream().map(DefaultCategory::description).toArray(String[]::new));
+
+        if (inserted > 0) {
+            cacheInvalidationPublisher.evictAll(CacheConfig.PART_CATEGORIES);
         }
-        
-        log.info("Default part categories ensured");
+        log.info("Default part categories ensured ({} inserted)", inserted);
     }
 
     private void validateCategoryCreation(String code) {
@@ -0,0 +1,115 @@
+package com.sentinovo.carbuildervin.service.parts;
+
+import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
+import com.sentinovo.carbuildervin.dto.parts.PartSearchResultDto;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.PartSearchHit;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked full-text / trigram search over the current user's parts and sub-parts.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PartSearchService {
+
+    // Control characters can't appear in part text, so matches are marked with them in SQL
+    // and turned into <mark> only after the text has been HTML-escaped
+    private static final String START_SEL = "\u0002";
+    private static final String STOP_SEL = "\u0003";
+    private static final String NAME_OPTIONS =
+            "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL + ", HighlightAll=true";
+    private static final String SNIPPET_OPTIONS =
+            "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL + ", MaxFragments=2, MaxWords=20, MinWords=5, FragmentDelimiter=\" ... \"";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PartRepository partRepository;
+    private final AuthenticationService authenticationService;
+
+    public PageResponseDto<PartSearchResultDto> searchParts(String searchTerm, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
+
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return emptyPage(page);
+        }
+
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        String query = searchTerm.trim();
+        log.debug("Searching parts for user: {}, query: {}", currentUserId, query);
+
+        Page<PartSearchHit> hits = partRepository.searchRankedByOwnerId(
+                currentUserId, query, toContainsPattern(query), NAME_OPTIONS, SNIPPET_OPTIONS, page);
+
+        return PageResponseDto.<PartSearchResultDto>builder()
+                .items(hits.getContent().stream().map(this::toResultDto).toList())
+                .pageNumber(hits.getNumber())
+                .pageSize(hits.getSize())
+                .totalElements(hits.getTotalElements())
+                .totalPages(hits.getTotalPages())
+                .first(hits.isFirst())
+                .last(hits.isLast())
+                .hasNext(hits.hasNext())
+                .hasPrevious(hits.hasPrevious())
+                .build();
+    }
+
+    private PartSearchResultDto toResultDto(PartSearchHit hit) {
+        return PartSearchResultDto.builder()
+                .type(hit.getType())
+                .id(hit.getId())
+                .parentPartId(hit.getParentPartId())
+                .buildId(hit.getBuildId())
+                .name(hit.getName())
+                .brand(hit.getBrand())
+                .categoryCode(hit.getCategoryCode())
+                .status(hit.getStatus())
+                .price(hit.getPrice())
+                .rank(hit.getRank())
+                .nameHighlight(toHighlightHtml(hit.getNameHighlight()))
+                .snippet(toHighlightHtml(hit.getSnippet()))
+                .build();
+    }
+
+    private String toHighlightHtml(String marked) {
+        if (marked == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(marked)
+                .replace(START_SEL, "<mark>")
+                .replace(STOP_SEL, "</mark>");
+    }
+
+    // Escape LIKE wildcards so the user's text is matched literally
+    private String toContainsPattern(String query) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private PageResponseDto<PartSearchResultDto> emptyPage(Pageable page) {
+        return PageResponseDto.<PartSearchResultDto>builder()
+                .items(List.of())
+                .pageNumber(page.getPageNumber())
+                .pageSize(page.getPageSize())
+                .totalElements(0)
+                .totalPages(0)
+                .first(true)
+                .last(true)
+                .hasNext(false)
+                .hasPrevious(false)
+                .build();
+    }
+}
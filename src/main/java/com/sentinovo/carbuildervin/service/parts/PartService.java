@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.service.parts;
 
+import com.sentinovo.carbuildervin.dto.common.CursorPageResponseDto;
 import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
 import com.sentinovo.carbuildervin.dto.parts.*;
 import com.sentinovo.carbuildervin.entities.parts.Part;
@@ -16,6 +17,7 @@ import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -77,6 +79,42 @@ public class PartService {
         return partMapper.toPageDto(page);
     }
 
+    /**
+     * Keyset page of a build's parts ordered by (sort_order, name, id). The total is only
+     * counted when requested, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PartDto> getPartsByUpgradeIdKeyset(UUID upgradeId, String cursor,
+                                                                    Integer limit, boolean includeTotal) {
+        vehicleUpgradeService.findByIdAndValidateOwnership(upgradeId); // Validate ownership
+
+        int pageSize = KeysetCursor.pageSize(limit);
+        Pageable fetchLimit = PageRequest.of(0, pageSize + 1); // One extra row tells whether there is a next page
+
+        List<Part> parts;
+        if (cursor == null || cursor.isBlank()) {
+            parts = partRepository.findKeysetFirstPageByUpgradeId(upgradeId, fetchLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            parts = partRepository.findKeysetPageByUpgradeIdAfter(
+                    upgradeId, after.sortOrder(), after.name(), after.id(), fetchLimit);
+        }
+
+        boolean hasNext = parts.size() > pageSize;
+        if (hasNext) {
+            parts = parts.subList(0, pageSize);
+        }
+        Part last = parts.isEmpty() ? null : parts.get(parts.size() - 1);
+
+        return CursorPageResponseDto.<PartDto>builder()
+                .items(partMapper.toDtoList(parts))
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.of(last.getSortOrder(), last.getName(), last.getId()).encode() : null)
+                .totalElements(includeTotal ? partRepository.countByUpgradeId(upgradeId) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public List<PartSummaryDto> getPartSummariesByUpgradeId(UUID upgradeId) {
         List<Part> parts = findByUpgradeId(upgradeId);
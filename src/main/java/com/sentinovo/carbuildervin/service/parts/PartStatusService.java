@@ -0,0 +1,133 @@
+package com.sentinovo.carbuildervin.service.parts;
+
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateResultDto;
+import com.sentinovo.carbuildervin.dto.parts.StatusChangeDto;
+import com.sentinovo.carbuildervin.dto.status.BuildStatusCountsDto;
+import com.sentinovo.carbuildervin.exception.ValidationException;
+import com.sentinovo.carbuildervin.repository.parts.BuildStatusCount;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.StatusChangeRow;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.service.status.BuildStatusService;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Bulk status changes for parts and sub-parts, e.g. several cards dragged across the Kanban
+ * board at once. Each (type, target status) group is applied with a single owner-scoped
+ * UPDATE, so the cost no longer grows with one ownership check per item.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class PartStatusService {
+
+    private static final String TYPE_PART = "PART";
+    private static final String TYPE_SUB_PART = "SUB_PART";
+    private static final int MAX_CHANGES = 500;
+
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final AuthenticationService authenticationService;
+
+    public BulkStatusUpdateResultDto updateStatuses(BulkStatusUpdateDto request) {
+        if (request == null || request.getChanges() == null || request.getChanges().isEmpty()) {
+            throw new ValidationException("changes", "At least one status change is required");
+        }
+        if (request.getChanges().size() > MAX_CHANGES) {
+            throw new ValidationException("changes", "No more than " + MAX_CHANGES + " status changes per request");
+        }
+
+        UUID currentUserId = authenticationService.getCurrentUserId();
+
+        // Group ids by (type, target status); a later change for the same id wins
+        Map<UUID, ValidChange> latestById = new LinkedHashMap<>();
+        for (StatusChangeDto change : request.getChanges()) {
+            latestById.put(change.getId(), validateChange(change));
+        }
+        Map<String, Set<UUID>> partIdsByStatus = new LinkedHashMap<>();
+        Map<String, Set<UUID>> subPartIdsByStatus = new LinkedHashMap<>();
+        latestById.forEach((id, change) -> {
+            Map<String, Set<UUID>> target = TYPE_SUB_PART.equals(change.type()) ? subPartIdsByStatus : partIdsByStatus;
+            target.computeIfAbsent(change.status(), s -> new LinkedHashSet<>()).add(id);
+        });
+
+        List<StatusChangeRow> changed = new ArrayList<>();
+        partIdsByStatus.forEach((status, ids) -> changed.addAll(
+                partRepository.updateStatusByIdsAndOwnerId(ids.toArray(new UUID[0]), status, currentUserId)));
+        subPartIdsByStatus.forEach((status, ids) -> changed.addAll(
+                subPartRepository.updateStatusByIdsAndOwnerId(ids.toArray(new UUID[0]), status, currentUserId)));
+
+        Set<UUID> changedIds = new HashSet<>();
+        Set<UUID> buildIds = new LinkedHashSet<>();
+        for (StatusChangeRow row : changed) {
+            changedIds.add(row.getId());
+            buildIds.add(row.getBuildId());
+        }
+        List<UUID> skippedIds = latestById.keySet().stream()
+                .filter(id -> !changedIds.contains(id))
+                .toList();
+
+        log.info("Bulk status change for user {}: {} updated, {} skipped", currentUserId, changedIds.size(), skippedIds.size());
+
+        return BulkStatusUpdateResultDto.builder()
+                .updatedCount(changedIds.size())
+                .skippedIds(skippedIds)
+                .builds(getStatusCounts(buildIds, currentUserId))
+                .build();
+    }
+
+    private List<BuildStatusCountsDto> getStatusCounts(Set<UUID> buildIds, UUID userId) {
+        if (buildIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Map<String, Long>> countsByBuild = new LinkedHashMap<>();
+        for (UUID buildId : buildIds) {
+            Map<String, Long> columns = new LinkedHashMap<>();
+            BuildStatusService.STATUS_ORDER.forEach(status -> columns.put(status, 0L));
+            countsByBuild.put(buildId, columns);
+        }
+        for (BuildStatusCount count : partRepository.countByBuildIdsAndStatus(buildIds, userId)) {
+            // Parts without a status are shown in the PLANNED column
+            String status = count.getStatus() != null ? count.getStatus() : "PLANNED";
+            countsByBuild.get(count.getBuildId()).merge(status, count.getPartCount(), Long::sum);
+        }
+
+        return countsByBuild.entrySet().stream()
+                .map(entry -> BuildStatusCountsDto.builder()
+                        .buildId(entry.getKey())
+                        .statusCounts(entry.getValue())
+                        .totalParts(entry.getValue().values().stream().mapToLong(Long::longValue).sum())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Validates a change without touching the caller's DTO; a missing type means PART.
+     */
+    private ValidChange validateChange(StatusChangeDto change) {
+        if (change == null || change.getId() == null) {
+            throw new ValidationException("changes", "Every status change needs an id");
+        }
+        String type = change.getType() != null ? change.getType() : TYPE_PART;
+        if (!TYPE_PART.equals(type) && !TYPE_SUB_PART.equals(type)) {
+            throw new ValidationException("type", "Type must be PART or SUB_PART");
+        }
+        if (change.getStatus() == null || !BuildStatusService.STATUS_ORDER.contains(change.getStatus())) {
+            throw new ValidationException("status",
+                    "Status must be one of: " + String.join(", ", BuildStatusService.STATUS_ORDER));
+        }
+        return new ValidChange(type, change.getStatus());
+    }
+
+    private record ValidChange(String type, String status) {
+    }
+}
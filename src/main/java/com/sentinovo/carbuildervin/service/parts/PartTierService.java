@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.service.parts;
 
+import com.sentinovo.carbuildervin.config.CacheConfig;
 import com.sentinovo.carbuildervin.dto.parts.lookup.*;
 import com.sentinovo.carbuildervin.entities.parts.PartTier;
 import com.sentinovo.carbuildervin.exception.DuplicateResourceException;
@@ -7,8 +8,10 @@ import com.sentinovo.carbuildervin.exception.InvalidStateException;
 import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
 import com.sentinovo.carbuildervin.mapper.parts.PartTierMapper;
 import com.sentinovo.carbuildervin.repository.parts.PartTierRepository;
+import com.sentinovo.carbuildervin.service.cache.CacheInvalidationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +24,25 @@ import java.util.Optional;
 @Slf4j
 public class PartTierService {
 
+    public record DefaultTier(String code, String label, int rank, String description) {
+    }
+
+    public static final List<DefaultTier> DEFAULT_TIERS = List.of(
+            new DefaultTier("ECONOMY", "Economy", 1, "Budget-friendly options with basic functionality"),
+            new DefaultTier("OEM", "OEM", 2, "Original Equipment Manufacturer parts"),
+            new DefaultTier("OEM_PLUS", "OEM+", 3, "Enhanced OEM-equivalent parts"),
+            new DefaultTier("PERFORMANCE", "Performance", 4, "Performance-oriented upgrades"),
+            new DefaultTier("SPORT", "Sport", 5, "Sport-tuned components"),
+            new DefaultTier("TRACK", "Track", 6, "Track-focused high-performance parts"),
+            new DefaultTier("RACE", "Race", 7, "Professional racing components"),
+            new DefaultTier("PREMIUM", "Premium", 8, "High-end premium parts"),
+            new DefaultTier("EXOTIC", "Exotic", 9, "Exotic and specialty components"),
+            new DefaultTier("CUSTOM", "Custom", 10, "Custom and bespoke parts")
+    );
+
     private final PartTierRepository partTierRepository;
     private final PartTierMapper partTierMapper;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Transactional(readOnly = true)
     public PartTier findByCode(String code) {
@@ -97,10 +117,11 @@ public class PartTierService {
                 .map(partTierMapper::toDto);
     }
 
+    @Cacheable(CacheConfig.PART_TIERS)
     @Transactional(readOnly = true)
     public List<PartTierDto> getAllPartTiers() {
         List<PartTier> tiers = findAllTiers();
-        return partTierMapper.toDtoList(tiers);
+        return List.copyOf(partTierMapper.toDtoList(tiers));
     }
 
     @Transactional(readOnly = true)
@@ -146,6 +167,7 @@ public class PartTierService {
                 .build();
 
         PartTier savedTier = partTierRepository.save(tier);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         log.info("Successfully created part tier with code: {}", savedTier.getCode());
         return savedTier;
     }
@@ -159,6 +181,7 @@ public class PartTierService {
         tier.setCode(createDto.getCode().toUpperCase());
         
         PartTier savedTier = partTierRepository.save(tier);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         log.info("Successfully created part tier with code: {}", savedTier.getCode());
         return partTierMapper.toDto(savedTier);
     }
@@ -175,6 +198,7 @@ public class PartTierService {
         partTierMapper.updateEntity(tier, updateDto);
         PartTier savedTier = partTierRepository.save(tier);
         
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         log.info("Successfully updated part tier with code: {}", savedTier.getCode());
         return partTierMapper.toDto(savedTier);
     }
@@ -193,6 +217,7 @@ public class PartTierService {
         }
 
         PartTier savedTier = partTierRepository.save(tier);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         log.info("Successfully updated part tier with code: {}", savedTier.getCode());
         return savedTier;
     }
@@ -205,6 +230,7 @@ public class PartTierService {
         tier.setRank(rank);
         
         PartTier savedTier = partTierRepository.save(tier);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         log.info("Successfully updated rank for part tier with code: {}", savedTier.getCode());
         return savedTier;
     }
@@ -223,6 +249,7 @@ public class PartTierService {
         }
         
         partTierRepository.delete(tier);
+        cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         log.info("Successfully deleted part tier with code: {}", code);
     }
 
@@ -244,38 +271,18 @@ public class PartTierService {
 
     public void ensureDefaultTiers() {
         log.info("Ensuring default part tiers exist");
-        
-        String[][] defaultTiers = {
-            {"ECONOMY", "Economy", "1", "Budget-friendly options with basic functionality"},
-            {"OEM", "OEM", "2", "Original Equipment Manufacturer parts"},
-            {"OEM_PLUS", "OEM+", "3", "Enhanced OEM-equivalent parts"},
-            {"PERFORMANCE", "Performance", "4", "Performance-oriented upgrades"},
-            {"SPORT", "Sport", "5", "Sport-tuned components"},
-            {"TRACK", "Track", "6", "Track-focused high-performance parts"},
-            {"RACE", "Race", "7", "Professional racing components"},
-            {"PREMIUM", "Premium", "8", "High-end premium parts"},
-            {"EXOTIC", "Exotic", "9", "Exotic and specialty components"},
-            {"CUSTOM", "Custom", "10", "Custom and bespoke parts"}
-        };
-        
-        for (String[] tierData : defaultTiers) {
-            String code = tierData[0];
-            Integer rank = Integer.parseInt(tierData[2]);
-            
-            // Check if tier exists by code OR rank
-            Optional<PartTier> existingByCode = findByCodeOptional(code);
-            List<PartTier> existingByRank = partTierRepository.findByRank(rank);
-            
-            if (existingByCode.isEmpty() && existingByRank.isEmpty()) {
-                createTier(code, tierData[1], rank, tierData[3]);
-            } else if (existingByCode.isPresent()) {
-                log.debug("Part tier with code '{}' already exists, skipping", code);
-            } else if (!existingByRank.isEmpty()) {
-                log.debug("Part tier with rank '{}' already exists, skipping", rank);
-            }
+
+        // A default tier is skipped if its code or its rank is already taken
+        int inserted = partTierRepository.insertMissing(
+                DEFAULT_TIERS.stream().map(DefaultTier::code).toArray(String[]::new),
+                DEFAULT_TIERS.stream().map(DefaultTier::label).toArray(String[]::new),
+                DEFAULT_TIERS.stream().map(DefaultTier::rank).toArray(Integer[]::new),
+                DEFAULT_TIERS.stream().map(DefaultTier::description).toArray(String[]::new));
+
+        if (inserted > 0) {
+            cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
         }
-        
-        log.info("Default part tiers ensured");
+        log.info("Default part tiers ensured ({} inserted)", inserted);
     }
 
     private void validateTierCreation(String code, Integer rank) {
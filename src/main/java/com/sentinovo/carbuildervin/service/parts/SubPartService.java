@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.service.parts;
 
+import com.sentinovo.carbuildervin.dto.common.CursorPageResponseDto;
 import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
 import com.sentinovo.carbuildervin.dto.parts.*;
 import com.sentinovo.carbuildervin.entities.parts.Part;
@@ -15,6 +16,7 @@ import com.sentinovo.carbuildervin.service.user.AuthenticationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -208,6 +210,42 @@ public class SubPartService {
         return subPartMapper.toPageDto(page);
     }
 
+    /**
+     * Keyset page of a part's sub-parts ordered by (sort_order, name, id). The total is only
+     * counted when requested.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<SubPartDto> getSubPartsByParentPartIdKeyset(UUID partId, String cursor,
+                                                                             Integer limit, boolean includeTotal) {
+        partService.findByIdAndValidateOwnership(partId); // Validate ownership
+
+        int pageSize = KeysetCursor.pageSize(limit);
+        Pageable fetchLimit = PageRequest.of(0, pageSize + 1); // One extra row tells whether there is a next page
+
+        List<SubPart> subParts;
+        if (cursor == null || cursor.isBlank()) {
+            subParts = subPartRepository.findKeysetFirstPageByParentPartId(partId, fetchLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            subParts = subPartRepository.findKeysetPageByParentPartIdAfter(
+                    partId, after.sortOrder(), after.name(), after.id(), fetchLimit);
+        }
+
+        boolean hasNext = subParts.size() > pageSize;
+        if (hasNext) {
+            subParts = subParts.subList(0, pageSize);
+        }
+        SubPart last = subParts.isEmpty() ? null : subParts.get(subParts.size() - 1);
+
+        return CursorPageResponseDto.<SubPartDto>builder()
+                .items(subPartMapper.toDtoList(subParts))
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.of(last.getSortOrder(), last.getName(), last.getId()).encode() : null)
+                .totalElements(includeTotal ? subPartRepository.countByParentPartId(partId) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public List<SubPartDto> getUserSubParts(UUID userId) {
         List<SubPart> subParts = findUserSubParts(userId);
@@ -0,0 +1,175 @@
+package com.sentinovo.carbuildervin.service.parts.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.entities.vehicle.VehicleUpgrade;
+import com.sentinovo.carbuildervin.mapper.parts.PartMapper;
+import com.sentinovo.carbuildervin.mapper.parts.SubPartMapper;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams a build, a vehicle or all of the current user's parts as CSV or NDJSON straight to
+ * an output stream. Rows are read through a JPA stream with a JDBC fetch size and detached
+ * once written, so memory use does not grow with the amount of data.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PartExportService {
+
+    /** Same columns as parts-import-template.csv, so a build export can be imported again. */
+    static final List<String> CSV_HEADERS = List.of(
+            "name", "categoryCode", "tierCode", "price", "status",
+            "brand", "productUrl", "priorityValue", "isRequired"
+    );
+
+    /** Extra columns when more than one build is exported (ignored by the importer). */
+    static final List<String> CSV_BUILD_HEADERS = List.of("buildId", "buildName");
+
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final VehicleUpgradeService vehicleUpgradeService;
+    private final VehicleService vehicleService;
+    private final AuthenticationService authenticationService;
+    private final PartMapper partMapper;
+    private final SubPartMapper subPartMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * What to export; resolved (and ownership checked) before anything is written, so
+     * not-found errors still produce a normal error response.
+     */
+    public record ExportScope(UUID userId, UUID vehicleId, UUID buildId, String label) {
+
+        boolean singleBuild() {
+            return buildId != null;
+        }
+    }
+
+    record NdjsonLine(String type, Object data) {
+    }
+
+    public ExportScope buildScope(UUID buildId) {
+        VehicleUpgrade build = vehicleUpgradeService.findByIdAndValidateOwnership(buildId);
+        return new ExportScope(authenticationService.getCurrentUserId(), null, buildId, "build-" + slug(build.getName()));
+    }
+
+    public ExportScope vehicleScope(UUID vehicleId) {
+        vehicleService.findByIdAndValidateOwnership(vehicleId);
+        return new ExportScope(authenticationService.getCurrentUserId(), vehicleId, null, "vehicle-" + vehicleId);
+    }
+
+    public ExportScope userScope() {
+        return new ExportScope(authenticationService.getCurrentUserId(), null, null, "garage");
+    }
+
+    /**
+     * Writes parts as CSV. Sub-parts are not included, as the CSV import has no column for
+     * the parent part; use NDJSON for a complete export.
+     */
+    public void writeCsv(ExportScope scope, OutputStream out) throws IOException {
+        List<String> headers = new ArrayList<>(CSV_HEADERS);
+        if (!scope.singleBuild()) {
+            headers.addAll(CSV_BUILD_HEADERS);
+        }
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder()
+                .setHeader(headers.toArray(new String[0]))
+                .build());
+
+        long count = 0;
+        try (Stream<Part> parts = partRepository.streamForExport(scope.userId(), scope.vehicleId(), scope.buildId())) {
+            for (Part part : (Iterable<Part>) parts::iterator) {
+                List<Object> record = new ArrayList<>(headers.size());
+                record.add(part.getName());
+                record.add(part.getPartCategory() != null ? part.getPartCategory().getCode() : null);
+                record.add(part.getPartTier() != null ? part.getPartTier().getCode() : null);
+                record.add(part.getPrice() != null ? part.getPrice().toPlainString() : null);
+                record.add(part.getStatus());
+                record.add(part.getBrand());
+                record.add(part.getProductUrl());
+                record.add(part.getPriorityValue());
+                record.add(part.getIsRequired());
+                if (!scope.singleBuild()) {
+                    record.add(part.getVehicleUpgrade().getId());
+                    record.add(part.getVehicleUpgrade().getName());
+                }
+                printer.printRecord(record);
+                entityManager.detach(part);
+                count++;
+            }
+        }
+
+        printer.flush();
+        log.info("Exported {} parts as CSV ({})", count, scope.label());
+    }
+
+    /**
+     * Writes one JSON object per line: all parts ({"type":"PART","data":{...}}) followed by
+     * all sub-parts ({"type":"SUB_PART","data":{...}}).
+     */
+    public void writeNdjson(ExportScope scope, OutputStream out) throws IOException {
+        long partCount = 0;
+        long subPartCount = 0;
+
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+
+            try (Stream<Part> parts = partRepository.streamForExport(scope.userId(), scope.vehicleId(), scope.buildId())) {
+                for (Part part : (Iterable<Part>) parts::iterator) {
+                    writer.write(new NdjsonLine("PART", partMapper.toDto(part)));
+                    entityManager.detach(part);
+                    partCount++;
+                }
+            }
+
+            try (Stream<SubPart> subParts = subPartRepository.streamForExport(scope.userId(), scope.vehicleId(), scope.buildId())) {
+                for (SubPart subPart : (Iterable<SubPart>) subParts::iterator) {
+                    writer.write(new NdjsonLine("SUB_PART", subPartMapper.toDto(subPart)));
+                    entityManager.detach(subPart);
+                    subPartCount++;
+                }
+            }
+        }
+
+        if (partCount + subPartCount > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        log.info("Exported {} parts and {} sub-parts as NDJSON ({})", partCount, subPartCount, scope.label());
+    }
+
+    private String slug(String name) {
+        String slug = name.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        return slug.isEmpty() ? "export" : slug;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sentinovo.carbuildervin.service.seed;
+
+import com.sentinovo.carbuildervin.repository.seed.SeedStateRepository;
+import com.sentinovo.carbuildervin.service.oauth.OAuthClientInitService;
+import com.sentinovo.carbuildervin.service.parts.PartCategoryService;
+import com.sentinovo.carbuildervin.service.parts.PartTierService;
+import com.sentinovo.carbuildervin.service.user.RoleService;
+import com.sentinovo.carbuildervin.service.vehicle.UpgradeCategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Seeds the default roles, categories, tiers and OAuth clients with one insert-if-missing
+ * statement per table. A SHA-256 of the seed definitions is stored after a successful run, and
+ * as long as it matches, startup skips seeding entirely. Rows deleted by hand are therefore
+ * only restored after the definitions change.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataSeedService {
+
+    static final String SEED_NAME = "reference-data";
+
+    // Part of the checksum; bump when the way definitions are turned into rows changes
+    static final int SEED_VERSION = 1;
+
+    private final SeedStateRepository seedStateRepository;
+    private final RoleService roleService;
+    private final UpgradeCategoryService upgradeCategoryService;
+    private final PartCategoryService partCategoryService;
+    private final PartTierService partTierService;
+    private final OAuthClientInitService oAuthClientInitService;
+
+    /**
+     * @return true if the reference data was seeded, false if the stored checksum matched
+     */
+    public boolean seedIfChanged() {
+        String checksum = checksum();
+        if (seedStateRepository.findChecksumByName(SEED_NAME).filter(checksum::equals).isPresent()) {
+            log.info("Reference data unchanged (checksum {}), skipping seeding", checksum.substring(0, 12));
+            return false;
+        }
+
+        roleService.ensureDefaultRoles();
+        upgradeCategoryService.ensureDefaultCategories();
+        partCategoryService.ensureDefaultCategories();
+        partTierService.ensureDefaultTiers();
+        oAuthClientInitService.ensureDefaultClients();
+
+        seedStateRepository.saveChecksum(SEED_NAME, checksum);
+        log.info("Reference data seeded (checksum {})", checksum.substring(0, 12));
+        return true;
+    }
+
+    /**
+     * Record toString() output is stable, so the definitions themselves are the checksum input.
+     */
+    static String checksum() {
+        String definitions = SEED_VERSION + List.of(
+                RoleService.DEFAULT_ROLES,
+                UpgradeCategoryService.DEFAULT_CATEGORIES,
+                PartCategoryService.DEFAULT_CATEGORIES,
+                PartTierService.DEFAULT_TIERS,
+                OAuthClientInitService.DEFAULT_CLIENTS
+        ).toString();
+
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(definitions.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.sentinovo.carbuildervin.service.status;
+
+import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.parts.PartDto;
+import com.sentinovo.carbuildervin.dto.status.BuildStatusDetailDto;
+import com.sentinovo.carbuildervin.dto.status.BuildStatusOverviewDto;
+import com.sentinovo.carbuildervin.dto.upgrade.UpgradeCategoryDto;
+import com.sentinovo.carbuildervin.dto.vehicle.VehicleDto;
+import com.sentinovo.carbuildervin.service.parts.PartService;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import com.sentinovo.carbuildervin.service.vehicle.UpgradeCategoryService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleService;
+import com.sentinovo.carbuildervin.service.vehicle.VehicleUpgradeService;
+import com.sentinovo.carbuildervin.mapper.vehicle.VehicleLabels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Build progress figures for the status pages. Each method loads everything it needs in
+ * one read-only transaction and returns plain DTOs, so templates never touch entities.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BuildStatusService {
+
+    // Part status order for Kanban display
+    public static final List<String> STATUS_ORDER = Arrays.asList(
+            "PLANNED", "RESEARCHING", "ORDERED", "DELIVERED", "INSTALLED", "CANCELLED"
+    );
+
+    private final VehicleService vehicleService;
+    private final VehicleUpgradeService vehicleUpgradeService;
+    private final PartService partService;
+    private final UpgradeCategoryService upgradeCategoryService;
+    private final AuthenticationService authenticationService;
+
+    /**
+     * Progress cards for the current user's builds, filtered and sorted by priority then name.
+     */
+    public List<BuildStatusOverviewDto> getBuildOverviews(UUID vehicleId, String categoryKey, String buildStatus) {
+        UUID currentUserId = authenticationService.getCurrentUserId();
+
+        List<VehicleDto> userVehicles = vehicleService.getUserVehicles(currentUserId);
+
+        // Filter by vehicle if specified
+        if (vehicleId != null) {
+            userVehicles = userVehicles.stream()
+                    .filter(v -> v.getId().equals(vehicleId))
+                    .collect(Collectors.toList());
+        }
+
+        Map<Integer, String> categoryKeys = getCategoryKeys();
+        List<BuildStatusOverviewDto> buildOverviews = new ArrayList<>();
+
+        for (VehicleDto vehicle : userVehicles) {
+            List<VehicleUpgradeDto> builds = vehicleUpgradeService.getVehicleUpgradesByVehicleId(vehicle.getId());
+
+            // Filter by category if specified
+            if (categoryKey != null && !categoryKey.isEmpty()) {
+                builds = builds.stream()
+                        .filter(b -> categoryKey.equals(categoryKeys.get(b.getUpgradeCategoryId())))
+                        .collect(Collectors.toList());
+            }
+
+            // Filter by build status if specified
+            if (buildStatus != null && !buildStatus.isEmpty()) {
+                builds = builds.stream()
+                        .filter(b -> buildStatus.equals(b.getStatus()))
+                        .collect(Collectors.toList());
+            }
+
+            for (VehicleUpgradeDto build : builds) {
+                buildOverviews.add(calculateBuildOverview(build, vehicle, categoryKeys));
+            }
+        }
+
+        // Sort by priority level, then by name
+        buildOverviews.sort(Comparator
+                .comparing(BuildStatusOverviewDto::getPriorityLevel, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(BuildStatusOverviewDto::getBuildName));
+
+        return buildOverviews;
+    }
+
+    /**
+     * Summary figures and Kanban columns for a single build owned by the current user.
+     */
+    public BuildStatusDetailDto getBuildDetail(UUID buildId) {
+        VehicleUpgradeDto build = vehicleUpgradeService.getVehicleUpgradeById(buildId);
+        VehicleDto vehicle = vehicleService.getVehicleById(build.getVehicleId());
+        List<PartDto> parts = partService.getPartsByUpgradeId(buildId);
+
+        return calculateBuildDetail(build, vehicle, parts);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private BuildStatusOverviewDto calculateBuildOverview(VehicleUpgradeDto build, VehicleDto vehicle,
+                                                          Map<Integer, String> categoryKeys) {
+        List<PartDto> parts = partService.getPartsByUpgradeId(build.getId());
+        LocalDate today = LocalDate.now();
+
+        long requiredTotal = parts.stream().filter(p -> Boolean.TRUE.equals(p.getIsRequired())).count();
+        long requiredInstalled = parts.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsRequired()) && "INSTALLED".equals(p.getStatus()))
+                .count();
+
+        long optionalTotal = parts.stream().filter(p -> !Boolean.TRUE.equals(p.getIsRequired())).count();
+        long optionalInstalled = parts.stream()
+                .filter(p -> !Boolean.TRUE.equals(p.getIsRequired()) && "INSTALLED".equals(p.getStatus()))
+                .count();
+
+        double percentRequired = requiredTotal == 0 ? 0 : (requiredInstalled * 100.0 / requiredTotal);
+        double percentOptional = optionalTotal == 0 ? 0 : (optionalInstalled * 100.0 / optionalTotal);
+
+        long overdueCount = parts.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsRequired())
+                        && !"INSTALLED".equals(p.getStatus())
+                        && p.getTargetPurchaseDate() != null
+                        && p.getTargetPurchaseDate().isBefore(today))
+                .count();
+
+        return BuildStatusOverviewDto.builder()
+                .buildId(build.getId())
+                .vehicleId(vehicle.getId())
+                .vehicleLabel(VehicleLabels.of(vehicle))
+                .upgradeCategoryId(build.getUpgradeCategoryId())
+                .upgradeCategoryKey(categoryKeys.get(build.getUpgradeCategoryId()))
+                .upgradeCategoryName(build.getUpgradeCategoryName())
+                .buildName(build.getName())
+                .status(build.getStatus())
+                .priorityLevel(build.getPriorityLevel())
+                .targetCompletionDate(build.getTargetCompletionDate())
+                .requiredPartsTotal(requiredTotal)
+                .requiredPartsInstalled(requiredInstalled)
+                .optionalPartsTotal(optionalTotal)
+                .optionalPartsInstalled(optionalInstalled)
+                .percentRequiredInstalled(Math.round(percentRequired * 10.0) / 10.0)
+                .percentOptionalInstalled(Math.round(percentOptional * 10.0) / 10.0)
+                .overdueRequiredCount(overdueCount)
+                .createdAt(build.getCreatedAt())
+                .updatedAt(build.getUpdatedAt())
+                .build();
+    }
+
+    private BuildStatusDetailDto calculateBuildDetail(VehicleUpgradeDto build, VehicleDto vehicle, List<PartDto> parts) {
+        LocalDate today = LocalDate.now();
+
+        // Group parts by status
+        Map<String, List<PartDto>> partsByStatus = parts.stream()
+                .collect(Collectors.groupingBy(
+                        p -> p.getStatus() != null ? p.getStatus() : "PLANNED",
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+
+        // Ensure all statuses have an entry (even if empty)
+        for (String status : STATUS_ORDER) {
+            partsByStatus.putIfAbsent(status, new ArrayList<>());
+        }
+
+        long requiredTotal = parts.stream().filter(p -> Boolean.TRUE.equals(p.getIsRequired())).count();
+        long requiredInstalled = parts.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsRequired()) && "INSTALLED".equals(p.getStatus()))
+                .count();
+
+        long optionalTotal = parts.stream().filter(p -> !Boolean.TRUE.equals(p.getIsRequired())).count();
+        long optionalInstalled = parts.stream()
+                .filter(p -> !Boolean.TRUE.equals(p.getIsRequired()) && "INSTALLED".equals(p.getStatus()))
+                .count();
+
+        double percentRequired = requiredTotal == 0 ? 0 : (requiredInstalled * 100.0 / requiredTotal);
+        double percentOptional = optionalTotal == 0 ? 0 : (optionalInstalled * 100.0 / optionalTotal);
+
+        long overdueCount = parts.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsRequired())
+                        && !"INSTALLED".equals(p.getStatus())
+                        && p.getTargetPurchaseDate() != null
+                        && p.getTargetPurchaseDate().isBefore(today))
+                .count();
+
+        return BuildStatusDetailDto.builder()
+                .build(build)
+                .vehicleLabel(VehicleLabels.of(vehicle))
+                .partsByStatus(partsByStatus)
+                .totalPartsCount(parts.size())
+                .requiredPartsTotal(requiredTotal)
+                .requiredPartsInstalled(requiredInstalled)
+                .optionalPartsTotal(optionalTotal)
+                .optionalPartsInstalled(optionalInstalled)
+                .percentRequiredInstalled(Math.round(percentRequired * 10.0) / 10.0)
+                .percentOptionalInstalled(Math.round(percentOptional * 10.0) / 10.0)
+                .overdueRequiredCount(overdueCount)
+                .build();
+    }
+
+    // Loaded once per request; looking categories up one by one would also mark the shared
+    // transaction rollback-only whenever a lookup throws
+    private Map<Integer, String> getCategoryKeys() {
+        Map<Integer, String> keys = new HashMap<>();
+        for (UpgradeCategoryDto category : upgradeCategoryService.getAllUpgradeCategories()) {
+            keys.put(category.getId(), category.getKey());
+        }
+        return keys;
+    }
+}
@@ -2,6 +2,7 @@ package com.sentinovo.carbuildervin.service.user;
 
 import com.sentinovo.carbuildervin.entities.user.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,6 +11,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Collection;
@@ -41,14 +44,19 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUserPrincipal(user);
     }
 
-    public static class CustomUserPrincipal implements UserDetails, Serializable {
+    /**
+     * Stored in the shared session table for every logged-in user, so it is kept small: the
+     * password hash is erased after authentication and the serialized form is a flat record
+     * rather than UUID and HashSet objects.
+     */
+    public static class CustomUserPrincipal implements UserDetails, CredentialsContainer, Serializable {
         @Serial
         private static final long serialVersionUID = 1L;
 
         private final UUID userId;
         private final String username;
         private final String email;
-        private final String passwordHash;
+        private String passwordHash;
         private final boolean isActive;
         private final Set<String> roles;
 
@@ -63,6 +71,19 @@ public class CustomUserDetailsService implements UserDetailsService {
                     .collect(Collectors.toSet());
         }
 
+        private CustomUserPrincipal(UUID userId, String username, String email, boolean isActive, Set<String> roles) {
+            this.userId = userId;
+            this.username = username;
+            this.email = email;
+            this.isActive = isActive;
+            this.roles = roles;
+        }
+
+        @Override
+        public void eraseCredentials() {
+            this.passwordHash = null;
+        }
+
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             return roles.stream()
@@ -107,5 +128,26 @@ public class CustomUserDetailsService implements UserDetailsService {
         public String getEmail() {
             return email;
         }
+
+        @Serial
+        private Object writeReplace() {
+            return new SerializedForm(userId.getMostSignificantBits(), userId.getLeastSignificantBits(),
+                    username, email, isActive, String.join(",", roles));
+        }
+
+        @Serial
+        private void readObject(ObjectInputStream in) throws InvalidObjectException {
+            throw new InvalidObjectException("CustomUserPrincipal is deserialized through SerializedForm");
+        }
+
+        private record SerializedForm(long userIdHigh, long userIdLow, String username, String email,
+                                      boolean active, String roles) implements Serializable {
+
+            @Serial
+            private Object readResolve() {
+                Set<String> roleNames = roles.isEmpty() ? Set.of() : Set.of(roles.split(","));
+                return new CustomUserPrincipal(new UUID(userIdHigh, userIdLow), username, email, active, roleNames);
+            }
+        }
     }
-}
\ No newline at end of file
+}
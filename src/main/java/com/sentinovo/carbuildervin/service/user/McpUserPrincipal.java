@@ -0,0 +1,64 @@
+package com.sentinovo.carbuildervin.service.user;
+
+import com.sentinovo.carbuildervin.entities.user.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * The user behind an MCP API key or OAuth access token. These principals are cached and shared
+ * by every request thread that presents the same credentials, so this is an immutable snapshot
+ * of the fields MCP needs rather than the (mutable, detached) User entity.
+ */
+public final class McpUserPrincipal implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final UUID id;
+    private final String username;
+    private final Set<String> roles;
+
+    private McpUserPrincipal(UUID id, String username, Set<String> roles) {
+        this.id = id;
+        this.username = username;
+        this.roles = Set.copyOf(roles);
+    }
+
+    /**
+     * Snapshot of a user whose roles are loaded.
+     */
+    public static McpUserPrincipal of(User user) {
+        return new McpUserPrincipal(user.getId(), user.getUsername(), user.getRoles().stream()
+                .map(role -> role.getName())
+                .collect(Collectors.toSet()));
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(roleName -> new SimpleGrantedAuthority("ROLE_" + roleName))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return "McpUserPrincipal[" + username + "]";
+    }
+}
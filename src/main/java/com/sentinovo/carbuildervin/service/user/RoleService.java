@@ -20,6 +20,14 @@ import java.util.UUID;
 @Slf4j
 public class RoleService {
 
+    public record DefaultRole(String name, String description) {
+    }
+
+    public static final List<DefaultRole> DEFAULT_ROLES = List.of(
+            new DefaultRole("USER", "Default user role"),
+            new DefaultRole("ADMIN", "Administrator role")
+    );
+
     private final RoleRepository roleRepository;
 
     @Transactional(readOnly = true)
@@ -121,16 +129,12 @@ public class RoleService {
 
     public void ensureDefaultRoles() {
         log.info("Ensuring default roles exist");
-        
-        if (findByName("USER").isEmpty()) {
-            createRole("USER", "Default user role");
-        }
-        
-        if (findByName("ADMIN").isEmpty()) {
-            createRole("ADMIN", "Administrator role");
-        }
-        
-        log.info("Default roles ensured");
+
+        int inserted = roleRepository.insertMissing(
+                DEFAULT_ROLES.stream().map(DefaultRole::name).toArray(String[]::new),
+                DEFAULT_ROLES.stream().map(DefaultRole::description).toArray(String[]::new));
+
+        log.info("Default roles ensured ({} inserted)", inserted);
     }
 
     private void validateRoleCreation(String name) {
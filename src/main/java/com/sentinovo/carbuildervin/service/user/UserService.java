@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.service.user;
 
+import com.sentinovo.carbuildervin.config.CacheConfig;
 import com.sentinovo.carbuildervin.dto.auth.*;
 import com.sentinovo.carbuildervin.dto.common.PageResponseDto;
 import com.sentinovo.carbuildervin.entities.user.User;
@@ -8,9 +9,11 @@ import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
 import com.sentinovo.carbuildervin.exception.ValidationException;
 import com.sentinovo.carbuildervin.mapper.user.UserMapper;
 import com.sentinovo.carbuildervin.repository.user.UserRepository;
+import com.sentinovo.carbuildervin.service.cache.CacheInvalidationPublisher;
 import com.sentinovo.carbuildervin.validation.ValidationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,6 +35,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Transactional(readOnly = true)
     public User findById(UUID id) {
@@ -227,6 +231,7 @@ public class UserService {
         user.setIsActive(false);
         
         User savedUser = userRepository.save(user);
+        evictMcpPrincipals();
         log.info("Successfully deactivated user with id: {}", savedUser.getId());
         return savedUser;
     }
@@ -280,9 +285,20 @@ public class UserService {
         User user = findById(userId);
         user.setIsActive(false);
         userRepository.save(user);
+        evictMcpPrincipals();
         log.info("Successfully deleted user with id: {}", userId);
     }
 
+    /**
+     * Evicts the cached MCP principals (API key and OAuth bearer) on every node. Call this
+     * whenever a user's active flag, roles or API key change, so MCP requests see the change
+     * straight away rather than after the cache expiry.
+     */
+    private void evictMcpPrincipals() {
+        cacheInvalidationPublisher.evictAll(CacheConfig.MCP_API_KEY_USERS);
+        cacheInvalidationPublisher.evictAll(CacheConfig.OAUTH_BEARER_USERS);
+    }
+
     // ========================================
     // MCP API Key Management
     // ========================================
@@ -310,6 +326,8 @@ public class UserService {
         user.setMcpApiKeyCreatedAt(OffsetDateTime.now());
 
         userRepository.save(user);
+        // The previous key may be cached on any node
+        evictMcpPrincipals();
         log.info("Successfully generated MCP API key for user: {}", userId);
 
         return apiKey;
@@ -327,6 +345,7 @@ public class UserService {
         user.setMcpApiKeyCreatedAt(null);
 
         userRepository.save(user);
+        evictMcpPrincipals();
         log.info("Successfully revoked MCP API key for user: {}", userId);
     }
 
@@ -368,16 +387,17 @@ public class UserService {
     }
 
     /**
-     * Find user by MCP API key (for authentication).
+     * Find user by MCP API key (for authentication). Hits are cached, misses are not.
      * @param apiKey the API key
-     * @return the user if found and active
+     * @return a snapshot of the user and their roles if found and active
      */
+    @Cacheable(cacheNames = CacheConfig.MCP_API_KEY_USERS, unless = "#result == null")
     @Transactional(readOnly = true)
-    public Optional<User> findByMcpApiKey(String apiKey) {
+    public Optional<McpUserPrincipal> findByMcpApiKey(String apiKey) {
         if (apiKey == null || apiKey.isBlank()) {
             return Optional.empty();
         }
-        return userRepository.findByMcpApiKeyWithRoles(apiKey);
+        return userRepository.findByMcpApiKeyWithRoles(apiKey).map(McpUserPrincipal::of);
     }
 
 }
\ No newline at end of file
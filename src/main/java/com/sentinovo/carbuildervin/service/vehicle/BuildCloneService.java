@@ -0,0 +1,92 @@
+package com.sentinovo.carbuildervin.service.vehicle;
+
+import com.sentinovo.carbuildervin.dto.build.BuildCloneDto;
+import com.sentinovo.carbuildervin.dto.build.BuildCloneResultDto;
+import com.sentinovo.carbuildervin.entities.UuidV7Generator;
+import com.sentinovo.carbuildervin.entities.vehicle.VehicleUpgrade;
+import com.sentinovo.carbuildervin.exception.ValidationException;
+import com.sentinovo.carbuildervin.mapper.vehicle.VehicleUpgradeMapper;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.repository.vehicle.VehicleUpgradeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Copies a build with all its parts and sub-parts using three INSERT ... SELECT statements
+ * (build, parts, sub-parts) in one transaction. New part ids are generated up front so the
+ * sub-part copy can be remapped onto them without loading any entities.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class BuildCloneService {
+
+    private static final int MAX_NAME_LENGTH = 150;
+    private static final String COPY_SUFFIX = " (copy)";
+
+    private final VehicleUpgradeRepository vehicleUpgradeRepository;
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final VehicleUpgradeService vehicleUpgradeService;
+    private final VehicleService vehicleService;
+    private final VehicleUpgradeMapper vehicleUpgradeMapper;
+
+    public BuildCloneResultDto cloneBuild(UUID buildId, BuildCloneDto cloneDto) {
+        log.info("Cloning build: {}", buildId);
+
+        VehicleUpgrade source = vehicleUpgradeService.findByIdAndValidateOwnership(buildId);
+
+        UUID targetVehicleId = source.getVehicle().getId();
+        if (cloneDto != null && cloneDto.getTargetVehicleId() != null) {
+            targetVehicleId = vehicleService.findByIdAndValidateOwnership(cloneDto.getTargetVehicleId()).getId();
+        }
+        String name = cloneDto != null && cloneDto.getName() != null && !cloneDto.getName().isBlank()
+                ? cloneDto.getName().trim()
+                : copyName(source.getName());
+        // Checked here as well as by @Valid on the REST request, so every caller gets a validation error
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new ValidationException("name", "Name cannot exceed " + MAX_NAME_LENGTH + " characters");
+        }
+        boolean resetStatuses = cloneDto == null || cloneDto.getResetStatuses() == null || cloneDto.getResetStatuses();
+
+        UUID newBuildId = UuidV7Generator.next();
+        vehicleUpgradeRepository.insertCopy(buildId, newBuildId, targetVehicleId, name, resetStatuses);
+
+        List<UUID> sourcePartIds = partRepository.findIdsByUpgradeId(buildId);
+        int partCount = 0;
+        int subPartCount = 0;
+        if (!sourcePartIds.isEmpty()) {
+            UUID[] sourceIds = sourcePartIds.toArray(new UUID[0]);
+            UUID[] newIds = new UUID[sourceIds.length];
+            for (int i = 0; i < newIds.length; i++) {
+                newIds[i] = UuidV7Generator.next();
+            }
+            partCount = partRepository.insertCopies(sourceIds, newIds, newBuildId, resetStatuses);
+            subPartCount = subPartRepository.insertCopiesForParents(sourceIds, newIds, resetStatuses);
+        }
+
+        VehicleUpgrade clone = vehicleUpgradeService.findById(newBuildId);
+        log.info("Cloned build {} to {}: {} parts, {} sub-parts", buildId, newBuildId, partCount, subPartCount);
+
+        return BuildCloneResultDto.builder()
+                .sourceBuildId(buildId)
+                .build(vehicleUpgradeMapper.toDto(clone))
+                .partCount(partCount)
+                .subPartCount(subPartCount)
+                .build();
+    }
+
+    private String copyName(String sourceName) {
+        String base = sourceName.length() + COPY_SUFFIX.length() > MAX_NAME_LENGTH
+                ? sourceName.substring(0, MAX_NAME_LENGTH - COPY_SUFFIX.length())
+                : sourceName;
+        return base + COPY_SUFFIX;
+    }
+}
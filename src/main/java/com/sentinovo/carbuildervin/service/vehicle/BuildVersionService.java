@@ -0,0 +1,45 @@
+package com.sentinovo.carbuildervin.service.vehicle;
+
+import com.sentinovo.carbuildervin.repository.vehicle.VehicleUpgradeRepository;
+import com.sentinovo.carbuildervin.service.user.AuthenticationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Cheap version stamps used as the basis for ETags on build reads. A stamp changes whenever
+ * the build, its vehicle, or any of its parts/sub-parts is inserted, updated or deleted.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BuildVersionService {
+
+    private final VehicleUpgradeRepository vehicleUpgradeRepository;
+    private final AuthenticationService authenticationService;
+
+    /**
+     * Returns the version stamp of a build owned by the current user, or null when the build
+     * does not exist or is not owned (callers then fall through to the normal error path).
+     */
+    public String getBuildVersion(UUID buildId) {
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        return vehicleUpgradeRepository.findVersionStampByIdAndOwnerId(buildId, currentUserId)
+                .map(stamp -> "build:" + buildId + ":" + stamp)
+                .orElse(null);
+    }
+
+    /**
+     * Returns the version stamp across all vehicles and builds of the current user.
+     */
+    public String getCurrentUserVersion() {
+        UUID currentUserId = authenticationService.getCurrentUserId();
+        return vehicleUpgradeRepository.findVersionStampByOwnerId(currentUserId)
+                .map(stamp -> "user:" + currentUserId + ":" + stamp)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,131 @@
+package com.sentinovo.carbuildervin.service.vehicle;
+
+import com.sentinovo.carbuildervin.dto.build.BuildCostRollupDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildPartDto;
+import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.entities.vehicle.VehicleUpgrade;
+import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
+import com.sentinovo.carbuildervin.exception.ValidationException;
+import com.sentinovo.carbuildervin.mapper.parts.PartMapper;
+import com.sentinovo.carbuildervin.mapper.parts.SubPartMapper;
+import com.sentinovo.carbuildervin.mapper.vehicle.VehicleLabels;
+import com.sentinovo.carbuildervin.mapper.vehicle.VehicleUpgradeMapper;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.repository.vehicle.VehicleUpgradeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Loads a build with its vehicle label, parts, sub-parts and cost rollup for its owner in three
+ * queries whatever the build size: the build with its vehicle and category, the parts and the
+ * sub-parts (each with their category and tier). Sub-parts are grouped onto their parts in memory.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class FullBuildService {
+
+    public static final int DEPTH_BUILD = 0;
+    public static final int DEPTH_PARTS = 1;
+    public static final int DEPTH_SUB_PARTS = 2;
+
+    private static final String DEFAULT_STATUS = "PLANNED";
+
+    private final VehicleUpgradeRepository vehicleUpgradeRepository;
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final VehicleUpgradeMapper vehicleUpgradeMapper;
+    private final PartMapper partMapper;
+    private final SubPartMapper subPartMapper;
+
+    /**
+     * @param depth {@link #DEPTH_BUILD}, {@link #DEPTH_PARTS} or {@link #DEPTH_SUB_PARTS}; only
+     *              trims the parts in the result, the cost rollup always covers the whole build
+     */
+    public FullBuildDto getFullBuild(UUID buildId, UUID userId, int depth) {
+        if (depth < DEPTH_BUILD || depth > DEPTH_SUB_PARTS) {
+            throw new ValidationException("depth", "Depth must be between 0 and 2");
+        }
+
+        VehicleUpgrade build = vehicleUpgradeRepository.findWithVehicleByIdAndOwnerId(buildId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("VehicleUpgrade", buildId));
+        List<Part> parts = partRepository.findOrderedByUpgradeIdAndOwnerId(buildId, userId);
+        List<SubPart> subParts = subPartRepository.findOrderedByUpgradeIdAndOwnerId(buildId, userId);
+        log.debug("Loaded build {} with {} parts and {} sub-parts", buildId, parts.size(), subParts.size());
+
+        return FullBuildDto.builder()
+                .build(vehicleUpgradeMapper.toDto(build))
+                .vehicleLabel(VehicleLabels.of(build.getVehicle()))
+                .costs(rollUp(parts, subParts))
+                .parts(depth >= DEPTH_PARTS ? toParts(parts, subParts, depth) : null)
+                .build();
+    }
+
+    private List<FullBuildPartDto> toParts(List<Part> parts, List<SubPart> subParts, int depth) {
+        Map<UUID, List<SubPartDto>> subPartsByPart = new HashMap<>();
+        if (depth >= DEPTH_SUB_PARTS) {
+            for (SubPart subPart : subParts) {
+                SubPartDto dto = subPartMapper.toDto(subPart);
+                subPartsByPart.computeIfAbsent(dto.getPartId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        List<FullBuildPartDto> result = new ArrayList<>(parts.size());
+        for (Part part : parts) {
+            result.add(FullBuildPartDto.builder()
+                    .part(partMapper.toDto(part))
+                    .subParts(depth >= DEPTH_SUB_PARTS ? subPartsByPart.getOrDefault(part.getId(), List.of()) : null)
+                    .build());
+        }
+        return result;
+    }
+
+    private BuildCostRollupDto rollUp(List<Part> parts, List<SubPart> subParts) {
+        BigDecimal requiredCost = BigDecimal.ZERO;
+        BigDecimal optionalCost = BigDecimal.ZERO;
+        Map<String, Long> partsByStatus = new TreeMap<>();
+
+        for (Part part : parts) {
+            BigDecimal price = part.getPrice() != null ? part.getPrice() : BigDecimal.ZERO;
+            if (Boolean.TRUE.equals(part.getIsRequired())) {
+                requiredCost = requiredCost.add(price);
+            } else {
+                optionalCost = optionalCost.add(price);
+            }
+            partsByStatus.merge(part.getStatus() != null ? part.getStatus() : DEFAULT_STATUS, 1L, Long::sum);
+        }
+        for (SubPart subPart : subParts) {
+            BigDecimal price = subPart.getPrice() != null ? subPart.getPrice() : BigDecimal.ZERO;
+            if (Boolean.TRUE.equals(subPart.getIsRequired())) {
+                requiredCost = requiredCost.add(price);
+            } else {
+                optionalCost = optionalCost.add(price);
+            }
+        }
+
+        return BuildCostRollupDto.builder()
+                .currencyCode("USD")
+                .requiredCost(requiredCost)
+                .optionalCost(optionalCost)
+                .combinedCost(requiredCost.add(optionalCost))
+                .partCount(parts.size())
+                .subPartCount(subParts.size())
+                .partsByStatus(partsByStatus)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.sentinovo.carbuildervin.service.vehicle;
 
+import com.sentinovo.carbuildervin.config.CacheConfig;
 import com.sentinovo.carbuildervin.dto.upgrade.*;
 import com.sentinovo.carbuildervin.entities.vehicle.UpgradeCategory;
 import com.sentinovo.carbuildervin.exception.DuplicateResourceException;
@@ -7,8 +8,10 @@ import com.sentinovo.carbuildervin.exception.InvalidStateException;
 import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
 import com.sentinovo.carbuildervin.mapper.vehicle.UpgradeCategoryMapper;
 import com.sentinovo.carbuildervin.repository.vehicle.UpgradeCategoryRepository;
+import com.sentinovo.carbuildervin.service.cache.CacheInvalidationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +24,21 @@ import java.util.Optional;
 @Slf4j
 public class UpgradeCategoryService {
 
+    public static final List<String> DEFAULT_CATEGORIES = List.of(
+            "Engine",
+            "Suspension",
+            "Brakes",
+            "Wheels & Tires",
+            "Exhaust",
+            "Interior",
+            "Exterior",
+            "Electronics",
+            "Maintenance"
+    );
+
     private final UpgradeCategoryRepository upgradeCategoryRepository;
     private final UpgradeCategoryMapper upgradeCategoryMapper;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Transactional(readOnly = true)
     public UpgradeCategory findById(Integer id) {
@@ -78,16 +94,18 @@ public class UpgradeCategoryService {
         return upgradeCategoryMapper.toDto(category);
     }
 
+    @Cacheable(cacheNames = CacheConfig.UPGRADE_CATEGORIES, key = "'all'")
     @Transactional(readOnly = true)
     public List<UpgradeCategoryDto> getAllUpgradeCategories() {
         List<UpgradeCategory> categories = findAllCategories();
-        return upgradeCategoryMapper.toDtoList(categories);
+        return List.copyOf(upgradeCategoryMapper.toDtoList(categories));
     }
 
+    @Cacheable(cacheNames = CacheConfig.UPGRADE_CATEGORIES, key = "'active'")
     @Transactional(readOnly = true)
     public List<UpgradeCategoryDto> getActiveUpgradeCategories() {
         List<UpgradeCategory> categories = findActiveCategories();
-        return upgradeCategoryMapper.toDtoList(categories);
+        return List.copyOf(upgradeCategoryMapper.toDtoList(categories));
     }
 
     @Transactional(readOnly = true)
@@ -104,11 +122,8 @@ public class UpgradeCategoryService {
         Integer maxSortOrder = upgradeCategoryRepository.findMaxSortOrder();
         Integer sortOrder = (maxSortOrder != null) ? maxSortOrder + 1 : 1;
         
-        String key = name.toLowerCase().replaceAll("[^a-z0-9]", "_").replaceAll("_+", "_");
-        if (key.endsWith("_")) {
-            key = key.substring(0, key.length() - 1);
-        }
-        
+        String key = toKey(name);
+
         UpgradeCategory category = UpgradeCategory.builder()
                 .name(name)
                 .key(key)
@@ -118,6 +133,7 @@ public class UpgradeCategoryService {
                 .build();
 
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully created upgrade category with id: {}", savedCategory.getId());
         return savedCategory;
     }
@@ -130,16 +146,14 @@ public class UpgradeCategoryService {
         Integer maxSortOrder = upgradeCategoryRepository.findMaxSortOrder();
         Integer sortOrder = (maxSortOrder != null) ? maxSortOrder + 1 : 1;
         
-        String key = createDto.getName().toLowerCase().replaceAll("[^a-z0-9]", "_").replaceAll("_+", "_");
-        if (key.endsWith("_")) {
-            key = key.substring(0, key.length() - 1);
-        }
-        
+        String key = toKey(createDto.getName());
+
         UpgradeCategory category = upgradeCategoryMapper.toEntity(createDto);
         category.setKey(key);
         category.setSortOrder(sortOrder);
         
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully created upgrade category with id: {}", savedCategory.getId());
         return upgradeCategoryMapper.toDto(savedCategory);
     }
@@ -163,6 +177,7 @@ public class UpgradeCategoryService {
         }
 
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully updated upgrade category with id: {}", savedCategory.getId());
         return savedCategory;
     }
@@ -179,6 +194,7 @@ public class UpgradeCategoryService {
         upgradeCategoryMapper.updateEntity(category, updateDto);
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
         
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully updated upgrade category with id: {}", savedCategory.getId());
         return upgradeCategoryMapper.toDto(savedCategory);
     }
@@ -190,6 +206,7 @@ public class UpgradeCategoryService {
         category.setSortOrder(sortOrder);
         
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully updated sort order for upgrade category with id: {}", savedCategory.getId());
         return savedCategory;
     }
@@ -201,6 +218,7 @@ public class UpgradeCategoryService {
         category.setIsActive(true);
         
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully activated upgrade category with id: {}", savedCategory.getId());
         return savedCategory;
     }
@@ -212,6 +230,7 @@ public class UpgradeCategoryService {
         category.setIsActive(false);
         
         UpgradeCategory savedCategory = upgradeCategoryRepository.save(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully deactivated upgrade category with id: {}", savedCategory.getId());
         return savedCategory;
     }
@@ -230,6 +249,7 @@ public class UpgradeCategoryService {
         }
         
         upgradeCategoryRepository.delete(category);
+        cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         log.info("Successfully deleted upgrade category with id: {}", categoryId);
     }
 
@@ -240,26 +260,21 @@ public class UpgradeCategoryService {
 
     public void ensureDefaultCategories() {
         log.info("Ensuring default upgrade categories exist");
-        
-        String[] defaultCategories = {
-            "Engine",
-            "Suspension", 
-            "Brakes",
-            "Wheels & Tires",
-            "Exhaust",
-            "Interior",
-            "Exterior",
-            "Electronics",
-            "Maintenance"
-        };
-        
-        for (String categoryName : defaultCategories) {
-            if (findByName(categoryName).isEmpty()) {
-                createCategory(categoryName, "Default " + categoryName.toLowerCase() + " category", true);
-            }
+
+        int inserted = upgradeCategoryRepository.insertMissing(
+                DEFAULT_CATEGORIES.stream().map(this::toKey).toArray(String[]::new),
+                DEFAULT_CATEGORIES.toArray(String[]::new),
+                DEFAULT_CATEGORIES.stream().map(name -> "Default " + name.toLowerCase() + " category").toArray(String[]::new));
+
+        if (inserted > 0) {
+            cacheInvalidationPublisher.evictAll(CacheConfig.UPGRADE_CATEGORIES);
         }
-        
-        log.info("Default upgrade categories ensured");
+        log.info("Default upgrade categories ensured ({} inserted)", inserted);
+    }
+
+    private String toKey(String name) {
+        String key = name.toLowerCase().replaceAll("[^a-z0-9]", "_").replaceAll("_+", "_");
+        return key.endsWith("_") ? key.substring(0, key.length() - 1) : key;
     }
 
     private void validateCategoryCreation(String name) {
@@ -31,6 +31,14 @@ public class VinValidator {
     }
 
     private static boolean validateCheckDigit(String vin) {
+        return vin.charAt(8) == computeCheckDigit(vin);
+    }
+
+    /**
+     * Check digit (position 9) for a 17-character VIN; the character currently at that
+     * position is ignored.
+     */
+    public static char computeCheckDigit(String vin) {
         int sum = 0;
         
         for (int i = 0; i < 17; i++) {
@@ -41,10 +49,7 @@ public class VinValidator {
             sum += value * VIN_WEIGHTS[i];
         }
         
-        int checkDigit = sum % 11;
-        char expectedCheckDigit = VIN_CHECK_DIGITS.charAt(checkDigit);
-        
-        return vin.charAt(8) == expectedCheckDigit;
+        return VIN_CHECK_DIGITS.charAt(sum % 11);
     }
 
     private static int getCharacterValue(char c) {
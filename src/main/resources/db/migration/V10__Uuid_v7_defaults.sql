@@ -0,0 +1,27 @@
+-- Car Builder VIN Database Schema - Time-ordered UUIDv7 keys
+-- The application assigns UUIDv7 ids itself; the column defaults are switched too so rows
+-- inserted directly in SQL (seeding, INSERT ... SELECT copies) are time-ordered as well.
+-- Existing v4 ids are left as they are.
+
+-- 48-bit Unix millisecond timestamp over a random v4 UUID, with the version nibble set to 7
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE app_user ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE vehicle ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE vehicle_upgrade ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE part ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE sub_part ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE oauth_client ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE oauth_authorization ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE oauth_authorization_code ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE oauth_refresh_token ALTER COLUMN id SET DEFAULT uuid_generate_v7();
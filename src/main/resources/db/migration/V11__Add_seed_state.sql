@@ -0,0 +1,13 @@
+-- Car Builder VIN Database Schema - Seed bookkeeping
+-- Stores a checksum of the reference data definitions seeded at startup, so the
+-- seeding queries only run when those definitions change.
+
+-- ================================
+-- Seed State
+-- ================================
+
+CREATE TABLE seed_state (
+    name VARCHAR(100) PRIMARY KEY,
+    checksum VARCHAR(64) NOT NULL,
+    applied_at TIMESTAMPTZ DEFAULT now() NOT NULL
+);
@@ -0,0 +1,9 @@
+-- Car Builder VIN Database Schema - Keyset pagination indexes
+-- Parts and sub-parts are paged by (sort_order, name, id) within their parent.
+-- sort_order is nullable, so the key uses COALESCE(sort_order, 0) to match the queries.
+
+CREATE INDEX ix_part_upgrade_keyset
+    ON part (vehicle_upgrade_id, (COALESCE(sort_order, 0)), name, id);
+
+CREATE INDEX ix_sub_part_parent_keyset
+    ON sub_part (parent_part_id, (COALESCE(sort_order, 0)), name, id);
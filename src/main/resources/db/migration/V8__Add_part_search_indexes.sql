@@ -0,0 +1,38 @@
+-- Car Builder VIN Database Schema - Full-text and trigram search for parts
+-- Ranked search uses a generated tsvector (name > brand > notes);
+-- substring and typo-tolerant matching use pg_trgm GIN indexes.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ================================
+-- Full-text search vectors
+-- ================================
+
+ALTER TABLE part ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(brand, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(notes, '')), 'C')
+    ) STORED;
+
+ALTER TABLE sub_part ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(brand, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(notes, '')), 'C')
+    ) STORED;
+
+CREATE INDEX ix_part_search_vector ON part USING GIN (search_vector);
+CREATE INDEX ix_sub_part_search_vector ON sub_part USING GIN (search_vector);
+
+-- ================================
+-- Trigram indexes (ILIKE substring and similarity matching)
+-- ================================
+
+CREATE INDEX ix_part_name_trgm ON part USING GIN (name gin_trgm_ops);
+CREATE INDEX ix_part_brand_trgm ON part USING GIN (brand gin_trgm_ops) WHERE brand IS NOT NULL;
+CREATE INDEX ix_part_notes_trgm ON part USING GIN (notes gin_trgm_ops) WHERE notes IS NOT NULL;
+
+CREATE INDEX ix_sub_part_name_trgm ON sub_part USING GIN (name gin_trgm_ops);
+CREATE INDEX ix_sub_part_brand_trgm ON sub_part USING GIN (brand gin_trgm_ops) WHERE brand IS NOT NULL;
+CREATE INDEX ix_sub_part_notes_trgm ON sub_part USING GIN (notes gin_trgm_ops) WHERE notes IS NOT NULL;
@@ -0,0 +1,136 @@
+-- Car Builder VIN Database Schema - Denormalized owner on parts
+-- part.owner_id and sub_part.owner_id mirror vehicle.owner_id so user-scoped
+-- queries and ownership checks hit a single table. Triggers keep them in sync
+-- on insert and whenever a part, build or vehicle changes hands.
+
+-- ================================
+-- Columns & Backfill
+-- ================================
+
+ALTER TABLE part ADD COLUMN owner_id UUID;
+ALTER TABLE sub_part ADD COLUMN owner_id UUID;
+
+UPDATE part p
+SET owner_id = v.owner_id
+FROM vehicle_upgrade vu
+JOIN vehicle v ON v.id = vu.vehicle_id
+WHERE vu.id = p.vehicle_upgrade_id;
+
+UPDATE sub_part sp
+SET owner_id = p.owner_id
+FROM part p
+WHERE p.id = sp.parent_part_id;
+
+ALTER TABLE part ALTER COLUMN owner_id SET NOT NULL;
+ALTER TABLE sub_part ALTER COLUMN owner_id SET NOT NULL;
+
+ALTER TABLE part ADD CONSTRAINT fk_part_owner
+    FOREIGN KEY (owner_id) REFERENCES app_user(id) ON DELETE CASCADE;
+ALTER TABLE sub_part ADD CONSTRAINT fk_sub_part_owner
+    FOREIGN KEY (owner_id) REFERENCES app_user(id) ON DELETE CASCADE;
+
+-- ================================
+-- Indexes
+-- ================================
+
+CREATE INDEX ix_part_owner_id ON part (owner_id);
+CREATE INDEX ix_part_owner_status ON part (owner_id, status);
+
+CREATE INDEX ix_sub_part_owner_id ON sub_part (owner_id);
+CREATE INDEX ix_sub_part_owner_status ON sub_part (owner_id, status);
+
+-- ================================
+-- Consistency Triggers
+-- ================================
+
+-- New or moved part: take the owner of its build's vehicle
+CREATE OR REPLACE FUNCTION set_part_owner_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    SELECT v.owner_id INTO NEW.owner_id
+    FROM vehicle_upgrade vu
+    JOIN vehicle v ON v.id = vu.vehicle_id
+    WHERE vu.id = NEW.vehicle_upgrade_id;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER set_part_owner_id_on_insert
+    BEFORE INSERT ON part
+    FOR EACH ROW EXECUTE FUNCTION set_part_owner_id();
+
+CREATE TRIGGER set_part_owner_id_on_move
+    BEFORE UPDATE OF vehicle_upgrade_id ON part
+    FOR EACH ROW
+    WHEN (OLD.vehicle_upgrade_id IS DISTINCT FROM NEW.vehicle_upgrade_id)
+    EXECUTE FUNCTION set_part_owner_id();
+
+-- New or moved sub-part: take the owner of its parent part
+CREATE OR REPLACE FUNCTION set_sub_part_owner_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    SELECT p.owner_id INTO NEW.owner_id
+    FROM part p
+    WHERE p.id = NEW.parent_part_id;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER set_sub_part_owner_id_on_insert
+    BEFORE INSERT ON sub_part
+    FOR EACH ROW EXECUTE FUNCTION set_sub_part_owner_id();
+
+CREATE TRIGGER set_sub_part_owner_id_on_move
+    BEFORE UPDATE OF parent_part_id ON sub_part
+    FOR EACH ROW
+    WHEN (OLD.parent_part_id IS DISTINCT FROM NEW.parent_part_id)
+    EXECUTE FUNCTION set_sub_part_owner_id();
+
+-- Part owner changed: carry it down to its sub-parts
+CREATE OR REPLACE FUNCTION propagate_part_owner_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE sub_part SET owner_id = NEW.owner_id WHERE parent_part_id = NEW.id;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER propagate_part_owner_id
+    AFTER UPDATE OF owner_id ON part
+    FOR EACH ROW
+    WHEN (OLD.owner_id IS DISTINCT FROM NEW.owner_id)
+    EXECUTE FUNCTION propagate_part_owner_id();
+
+-- Build moved to another vehicle: re-derive the owner of its parts
+CREATE OR REPLACE FUNCTION propagate_vehicle_upgrade_owner_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE part
+    SET owner_id = (SELECT v.owner_id FROM vehicle v WHERE v.id = NEW.vehicle_id)
+    WHERE vehicle_upgrade_id = NEW.id;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER propagate_vehicle_upgrade_owner_id
+    AFTER UPDATE OF vehicle_id ON vehicle_upgrade
+    FOR EACH ROW
+    WHEN (OLD.vehicle_id IS DISTINCT FROM NEW.vehicle_id)
+    EXECUTE FUNCTION propagate_vehicle_upgrade_owner_id();
+
+-- Vehicle transferred to another user: carry the owner down to its parts
+CREATE OR REPLACE FUNCTION propagate_vehicle_owner_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE part
+    SET owner_id = NEW.owner_id
+    WHERE vehicle_upgrade_id IN (SELECT vu.id FROM vehicle_upgrade vu WHERE vu.vehicle_id = NEW.id);
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER propagate_vehicle_owner_id
+    AFTER UPDATE OF owner_id ON vehicle
+    FOR EACH ROW
+    WHEN (OLD.owner_id IS DISTINCT FROM NEW.owner_id)
+    EXECUTE FUNCTION propagate_vehicle_owner_id();
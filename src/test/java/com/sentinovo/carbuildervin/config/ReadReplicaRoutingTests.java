@@ -0,0 +1,64 @@
+package com.sentinovo.carbuildervin.config;
+
+import com.sentinovo.carbuildervin.repository.parts.PartCategoryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Both pools point at the same local database; which pool hands out the connection shows
+ * where a transaction was routed.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.jdbc-url=${spring.datasource.url}",
+        "app.datasource.replica.username=${spring.datasource.username}",
+        "app.datasource.replica.password=${spring.datasource.password}"
+})
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PartCategoryRepository partCategoryRepository;
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            partCategoryRepository.count();
+            assertThat(replicaDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        long replicaActiveBefore = activeConnections(replicaDataSource);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            partCategoryRepository.count();
+            assertThat(primaryDataSource.getHikariPoolMXBean().getActiveConnections()).isPositive();
+            assertThat(activeConnections(replicaDataSource)).isEqualTo(replicaActiveBefore);
+        });
+    }
+
+    private long activeConnections(HikariDataSource dataSource) {
+        return dataSource.getHikariPoolMXBean() == null ? 0 : dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+}
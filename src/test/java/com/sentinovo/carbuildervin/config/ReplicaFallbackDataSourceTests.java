@@ -0,0 +1,77 @@
+package com.sentinovo.carbuildervin.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReplicaFallbackDataSourceTests {
+
+    private final DataSource replica = mock(DataSource.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+    }
+
+    @Test
+    void usesTheReplicaWhileItIsUp() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(replica, primary, Duration.ofSeconds(30), meterRegistry);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(fallbacks()).isZero();
+    }
+
+    @Test
+    void fallsBackToThePrimaryAndSkipsTheReplicaUntilTheRetryInterval() throws Exception {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(replica, primary, Duration.ofSeconds(30), meterRegistry);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        verify(replica, times(1)).getConnection();
+        assertThat(fallbacks()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesTheReplicaAfterTheInterval() throws Exception {
+        when(replica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica down"))
+                .thenReturn(replicaConnection);
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(replica, primary, Duration.ZERO, meterRegistry);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void passesExplicitCredentialsToWhicheverPoolServesTheRead() throws Exception {
+        when(replica.getConnection("reader", "secret")).thenThrow(new SQLTransientConnectionException("replica down"));
+        when(primary.getConnection("reader", "secret")).thenReturn(primaryConnection);
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(replica, primary, Duration.ofSeconds(30), meterRegistry);
+
+        assertThat(dataSource.getConnection("reader", "secret")).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection("reader", "secret")).isSameAs(primaryConnection);
+
+        verify(replica, times(1)).getConnection("reader", "secret");
+        assertThat(fallbacks()).isEqualTo(2);
+    }
+
+    private double fallbacks() {
+        return meterRegistry.counter("app.datasource.replica.fallbacks").count();
+    }
+}
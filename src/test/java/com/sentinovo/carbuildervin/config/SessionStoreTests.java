@@ -0,0 +1,105 @@
+package com.sentinovo.carbuildervin.config;
+
+import com.sentinovo.carbuildervin.entities.user.Role;
+import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.service.user.CustomUserDetailsService.CustomUserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.session.touch-interval=60s")
+class SessionStoreTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // JdbcIndexedSessionRepository's session type is package-private
+    private FindByIndexNameSessionRepository<Session> sessionRepository;
+
+    private String sessionId;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    void setSessionRepository(FindByIndexNameSessionRepository<? extends Session> sessionRepository) {
+        this.sessionRepository = (FindByIndexNameSessionRepository<Session>) sessionRepository;
+    }
+
+    @AfterEach
+    void deleteSession() {
+        if (sessionId != null) {
+            sessionRepository.deleteById(sessionId);
+        }
+    }
+
+    @Test
+    void principalSurvivesTheRoundTripWithoutItsPasswordHash() {
+        User user = User.builder()
+                .username("session-user")
+                .email("session-user@example.com")
+                .passwordHash("$2a$10$hash")
+                .roles(Set.of(Role.builder().name("USER").build()))
+                .build();
+        user.setId(UUID.randomUUID());
+        CustomUserPrincipal principal = new CustomUserPrincipal(user);
+        principal.eraseCredentials();
+
+        Session session = sessionRepository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())));
+        sessionRepository.save(session);
+        sessionId = session.getId();
+
+        SecurityContext loaded = sessionRepository.findById(sessionId)
+                .getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        CustomUserPrincipal loadedPrincipal = (CustomUserPrincipal) loaded.getAuthentication().getPrincipal();
+
+        assertThat(loadedPrincipal.getUserId()).isEqualTo(user.getId());
+        assertThat(loadedPrincipal.getUsername()).isEqualTo("session-user");
+        assertThat(loadedPrincipal.getEmail()).isEqualTo("session-user@example.com");
+        assertThat(loadedPrincipal.isEnabled()).isTrue();
+        assertThat(loadedPrincipal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(loadedPrincipal.getPassword()).isNull();
+    }
+
+    @Test
+    void lastAccessTimeIsOnlyWrittenOnceTheTouchIntervalHasPassed() {
+        Session session = sessionRepository.createSession();
+        sessionRepository.save(session);
+        sessionId = session.getId();
+        long stored = storedLastAccessTime();
+
+        touch(Instant.ofEpochMilli(stored).plusSeconds(30));
+        assertThat(storedLastAccessTime()).isEqualTo(stored);
+
+        Instant afterInterval = Instant.ofEpochMilli(stored).plus(Duration.ofSeconds(61)).truncatedTo(ChronoUnit.MILLIS);
+        touch(afterInterval);
+        assertThat(storedLastAccessTime()).isEqualTo(afterInterval.toEpochMilli());
+    }
+
+    private void touch(Instant lastAccessedTime) {
+        Session session = sessionRepository.findById(sessionId);
+        session.setLastAccessedTime(lastAccessedTime);
+        sessionRepository.save(session);
+    }
+
+    private long storedLastAccessTime() {
+        return jdbcTemplate.queryForObject(
+                "SELECT LAST_ACCESS_TIME FROM SPRING_SESSION WHERE SESSION_ID = ?", Long.class, sessionId);
+    }
+}
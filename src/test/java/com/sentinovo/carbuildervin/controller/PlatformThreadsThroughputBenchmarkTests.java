@@ -0,0 +1,13 @@
+package com.sentinovo.carbuildervin.controller;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link RequestThroughputBenchmark} with Tomcat on its platform thread pool (200 threads).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PlatformThreadsThroughputBenchmarkTests extends RequestThroughputBenchmark {
+}
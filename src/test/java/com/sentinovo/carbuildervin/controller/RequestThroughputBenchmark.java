@@ -0,0 +1,193 @@
+package com.sentinovo.carbuildervin.controller;
+
+import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.support.BuildFixtures;
+import com.sentinovo.carbuildervin.support.BuildFixtures.BuildFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop HTTP load against a running server: a fixed number of concurrent clients
+ * fetch a build's parts through a real session, and throughput and latency percentiles are
+ * printed. Subclasses start the server with and without virtual threads, so one run gives
+ * both sets of numbers:
+ * <pre>./mvnw test -Dtest='*ThreadsThroughputBenchmarkTests' -Dbenchmark=true [-Dbenchmark.concurrency=400] [-Dbenchmark.requests=20000]</pre>
+ * Add -Djdk.tracePinnedThreads=short to the surefire argLine to log carrier-thread pinning.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.com.sentinovo.carbuildervin=WARN"
+})
+abstract class RequestThroughputBenchmark {
+
+    private static final String PASSWORD = "Benchmark-Passw0rd!";
+    private static final int PARTS = 25;
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private BuildFixtures buildFixtures;
+
+    private String username;
+    private UUID userId;
+    private UUID buildId;
+
+    @BeforeEach
+    void createFixtures() {
+        BuildFixture fixture = buildFixtures.createBuild("bench", PARTS, 0, new BuildFixtures.Customizer() {
+            @Override
+            public void user(User user) {
+                user.setPasswordHash(passwordEncoder.encode(PASSWORD));
+            }
+        });
+
+        username = fixture.user().getUsername();
+        userId = fixture.userId();
+        buildId = fixture.buildId();
+    }
+
+    @AfterEach
+    void deleteFixtures() {
+        buildFixtures.delete(userId);
+    }
+
+    @Test
+    void measureRequestThroughput() throws Exception {
+        int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+        int requests = Integer.getInteger("benchmark.requests", 20_000);
+
+        HttpClient client = login();
+        URI uri = URI.create(baseUrl() + "/api/v1/builds/" + buildId + "/parts");
+
+        // Warm up the JIT, connection pool and caches before measuring
+        run(client, uri, Math.min(concurrency, 50), Math.min(requests, 2_000));
+
+        Result result = run(client, uri, concurrency, requests);
+
+        System.out.printf("Request throughput (%s threads, %d concurrent clients, %d requests)%n",
+                Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform", concurrency, requests);
+        System.out.printf("  %,10.0f req/s, p50 %,.1f ms, p99 %,.1f ms, max %,.1f ms, %d errors%n",
+                result.requestsPerSecond(), result.p50Millis(), result.p99Millis(), result.maxMillis(), result.errors());
+
+        assertThat(result.errors()).isLessThan(requests);
+    }
+
+    private HttpClient login() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        String loginPage = client.send(HttpRequest.newBuilder(URI.create(baseUrl() + "/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF_INPUT.matcher(loginPage);
+        assertThat(csrf.find()).as("CSRF token on login page").isTrue();
+
+        String form = "usernameOrEmail=" + encode(username)
+                + "&password=" + encode(PASSWORD)
+                + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl() + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.headers().firstValue("Location")).hasValueSatisfying(
+                location -> assertThat(location).doesNotContain("error"));
+        return client;
+    }
+
+    private Result run(HttpClient client, URI uri, int concurrency, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                permits.acquire();
+                int index = i;
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sent;
+                        permits.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(
+                requests * 1_000_000_000.0 / elapsed,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0,
+                errors.get());
+    }
+
+    private double percentile(long[] sorted, double fraction) {
+        int index = Math.max(0, (int) Math.ceil(fraction * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Result(double requestsPerSecond, double p50Millis, double p99Millis, double maxMillis, int errors) {
+    }
+}
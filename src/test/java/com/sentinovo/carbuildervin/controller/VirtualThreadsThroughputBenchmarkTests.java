@@ -0,0 +1,13 @@
+package com.sentinovo.carbuildervin.controller;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link RequestThroughputBenchmark} with Tomcat on virtual threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadsThroughputBenchmarkTests extends RequestThroughputBenchmark {
+}
@@ -0,0 +1,135 @@
+package com.sentinovo.carbuildervin.controller.web;
+
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.vehicle.Vehicle;
+import com.sentinovo.carbuildervin.service.user.CustomUserDetailsService.CustomUserPrincipal;
+import com.sentinovo.carbuildervin.support.BuildFixtures;
+import com.sentinovo.carbuildervin.support.BuildFixtures.BuildFixture;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Renders every data-backed web page and HTMX fragment with open-session-in-view disabled.
+ * The fixtures are committed up front and the test itself is not transactional, so any lazy
+ * association touched outside a service transaction surfaces as a LazyInitializationException.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebPagesWithoutOpenSessionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BuildFixtures buildFixtures;
+
+    private CustomUserPrincipal principal;
+    private UUID userId;
+    private UUID vehicleId;
+    private UUID buildId;
+    private UUID partId;
+
+    @BeforeEach
+    void createFixtures() {
+        BuildFixture fixture = buildFixtures.createBuild("osiv", 1, 1, new BuildFixtures.Customizer() {
+            @Override
+            public void vehicle(Vehicle vehicle) {
+                vehicle.setNickname("Trail Rig");
+            }
+
+            @Override
+            public void part(Part part, int index) {
+                part.setBrand("Old Man Emu");
+                part.setTargetPurchaseDate(LocalDate.now().minusDays(1));
+            }
+        });
+
+        principal = new CustomUserPrincipal(fixture.user());
+        userId = fixture.userId();
+        vehicleId = fixture.vehicleId();
+        buildId = fixture.buildId();
+        partId = fixture.partIds().get(0);
+    }
+
+    @AfterEach
+    void deleteFixtures() {
+        buildFixtures.delete(userId);
+    }
+
+    @Test
+    void buildsPagesRenderWithoutLazyLoading() throws Exception {
+        render("/builds");
+        render("/builds/vehicle/" + vehicleId + "/builds");
+        render("/builds/" + buildId + "/parts-table");
+        render("/builds/modals/add-build?vehicleId=" + vehicleId);
+        render("/builds/modals/add-part?buildId=" + buildId);
+        render("/builds/modals/edit-build?buildId=" + buildId);
+        render("/builds/modals/edit-part?partId=" + partId);
+    }
+
+    @Test
+    void vehiclePagesRenderWithoutLazyLoading() throws Exception {
+        render("/vehicles");
+        render("/vehicles/" + vehicleId);
+        render("/vehicles/" + vehicleId + "/edit");
+        render("/vehicles/" + vehicleId + "/card");
+    }
+
+    @Test
+    void statusPagesRenderWithoutLazyLoading() throws Exception {
+        render("/status");
+        render("/status/fragment/overview");
+        render("/status/build/" + buildId);
+        render("/status/fragment/build-summary/" + buildId);
+        render("/status/fragment/build-kanban/" + buildId);
+        render("/status/fragment/build-detail/" + buildId);
+    }
+
+    @Test
+    void budgetPagesRenderWithoutLazyLoading() throws Exception {
+        render("/budget");
+        render("/budget/fragment/overview");
+        render("/budget/build/" + buildId);
+        render("/budget/build/" + buildId + "/fragment/results");
+        render("/budget/build/" + buildId + "/fragment/line-items");
+        render("/budget/build/" + buildId + "/fragment/budget");
+    }
+
+    private void render(String url) throws Exception {
+        MvcResult result;
+        try {
+            result = mockMvc.perform(get(url).with(user(principal))).andReturn();
+        } catch (Exception e) {
+            failOnLazyLoad(url, e);
+            throw e;
+        }
+
+        failOnLazyLoad(url, result.getResolvedException());
+        assertThat(result.getResponse().getStatus())
+                .as("GET %s", url)
+                .isBetween(200, 299);
+    }
+
+    private void failOnLazyLoad(String url, Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof LazyInitializationException) {
+                fail("GET " + url + " touched a lazy association outside a transaction", cause);
+            }
+        }
+    }
+}
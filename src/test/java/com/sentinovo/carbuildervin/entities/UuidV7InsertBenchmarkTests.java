@@ -0,0 +1,93 @@
+package com.sentinovo.carbuildervin.entities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk-insert throughput of random v4 keys versus time-ordered v7 keys into a
+ * UUID primary key. Opt-in, since it needs the database and takes a while:
+ * <pre>./mvnw test -Dtest=UuidV7InsertBenchmarkTests -Dbenchmark=true [-Dbenchmark.rows=500000]</pre>
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UuidV7InsertBenchmarkTests {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void compareBulkInsertThroughput() throws Exception {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            // Warm up the connection and JIT before measuring
+            run(connection, "uuid_bench_warmup", Math.min(rows, 20_000), UUID::randomUUID);
+
+            Result v4 = run(connection, "uuid_bench_v4", rows, UUID::randomUUID);
+            Result v7 = run(connection, "uuid_bench_v7", rows, UuidV7Generator::next);
+
+            System.out.printf("UUID insert benchmark (%d rows, batch %d)%n", rows, BATCH_SIZE);
+            System.out.printf("  v4: %,10.0f rows/s, pkey index %,d kB%n", v4.rowsPerSecond(), v4.indexBytes() / 1024);
+            System.out.printf("  v7: %,10.0f rows/s, pkey index %,d kB%n", v7.rowsPerSecond(), v7.indexBytes() / 1024);
+
+            assertThat(v7.rowsPerSecond()).isPositive();
+        }
+    }
+
+    private Result run(Connection connection, String table, int rows, Supplier<UUID> ids) throws Exception {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE TEMP TABLE " + table + " (id UUID PRIMARY KEY, name VARCHAR(255), created_at TIMESTAMPTZ DEFAULT NOW())");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, name) VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "Part " + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long indexBytes;
+        try (Statement query = connection.createStatement();
+             ResultSet rs = query.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            indexBytes = rs.getLong(1);
+        }
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+
+        return new Result(rows * 1_000_000_000.0 / elapsed, indexBytes);
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.sentinovo.carbuildervin.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and error count of one endpoint, recorded by a single virtual user and merged
+ * into a run-wide total at the end.
+ */
+final class EndpointSamples {
+
+    private long[] latencies = new long[256];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void addAll(EndpointSamples other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    Summary summarize(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(
+                endpoint,
+                count,
+                errors,
+                count == 0 ? 0 : (double) errors / count,
+                count / seconds,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.95),
+                percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = Math.max(0, (int) Math.ceil(fraction * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+
+    /**
+     * One endpoint's row in the report; latencies are in milliseconds.
+     */
+    record Summary(String endpoint, long requests, long errors, double errorRate, double throughputPerSecond,
+                   double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
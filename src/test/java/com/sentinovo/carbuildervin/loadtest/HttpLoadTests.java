@@ -0,0 +1,144 @@
+package com.sentinovo.carbuildervin.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sentinovo.carbuildervin.service.dataset.SyntheticDatasetGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test against an already running instance loaded with the synthetic dataset
+ * (see the dataset profile). Each synthetic user is one virtual-thread client with its own
+ * session that logs in, then drives the HTMX fragments, the REST parts API and MCP tool calls
+ * until the run ends. Throughput, p50/p95/p99 latency and error rate per endpoint are printed
+ * and written as JSON for comparison between runs:
+ * <pre>./mvnw test -Dtest=HttpLoadTests -Dloadtest=true [-Dloadtest.base-url=http://localhost:8080]
+ *     [-Dloadtest.seed=42] [-Dloadtest.users=50] [-Dloadtest.warmup-seconds=15] [-Dloadtest.duration-seconds=60]
+ *     [-Dloadtest.think-time-ms=0] [-Dloadtest.mcp=true] [-Dloadtest.output=target/load-test/report.json]</pre>
+ * The seed must match the dataset's app.dataset.seed. Each user's MCP API key is regenerated
+ * at the start of a run.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class HttpLoadTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void measureEndpointThroughputAndLatency() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Instant startedAt = Instant.now();
+
+        List<LoadTestUser> users = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(new LoadTestUser(settings, objectMapper,
+                    SyntheticDatasetGenerator.username(settings.seed(), i), settings.seed() * 31 + i));
+        }
+
+        List<LoadTestUser> active;
+        long warmupEnd;
+        long measuredNanos;
+        try {
+            active = prepare(users);
+            assertThat(active).as("synthetic users with at least one build").isNotEmpty();
+
+            warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+            long end = warmupEnd + settings.duration().toNanos();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> running = new ArrayList<>();
+                for (LoadTestUser user : active) {
+                    running.add(executor.submit(() -> {
+                        user.run(warmupEnd, end);
+                        return null;
+                    }));
+                }
+                for (Future<?> user : running) {
+                    user.get();
+                }
+            }
+            measuredNanos = System.nanoTime() - warmupEnd;
+        } finally {
+            users.forEach(LoadTestUser::close);
+        }
+
+        double seconds = measuredNanos / 1_000_000_000.0;
+        Map<String, EndpointSamples> merged = new TreeMap<>();
+        EndpointSamples all = new EndpointSamples();
+        for (LoadTestUser user : active) {
+            user.samples().forEach((endpoint, samples) -> {
+                merged.computeIfAbsent(endpoint, key -> new EndpointSamples()).addAll(samples);
+                all.addAll(samples);
+            });
+        }
+
+        List<EndpointSamples.Summary> endpoints = merged.entrySet().stream()
+                .map(entry -> entry.getValue().summarize(entry.getKey(), seconds))
+                .toList();
+        Report report = new Report(startedAt.toString(), settings.baseUrl(), settings.seed(), active.size(),
+                settings.warmup().toSeconds(), seconds, all.summarize("total", seconds), endpoints);
+        write(report, settings.output());
+        print(report, settings.output());
+
+        assertThat(report.total().requests()).isPositive();
+    }
+
+    /**
+     * Logs users in and opens their MCP sessions in parallel, since BCrypt makes logins slow.
+     * Users without builds are left out of the run.
+     */
+    private List<LoadTestUser> prepare(List<LoadTestUser> users) throws Exception {
+        List<LoadTestUser> active = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> prepared = new ArrayList<>();
+            for (LoadTestUser user : users) {
+                prepared.add(executor.submit(user::prepare));
+            }
+            for (int i = 0; i < users.size(); i++) {
+                if (prepared.get(i).get()) {
+                    active.add(users.get(i));
+                }
+            }
+        }
+        return active;
+    }
+
+    private void write(Report report, Path output) throws Exception {
+        Path directory = output.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+    }
+
+    private void print(Report report, Path output) {
+        System.out.printf("Load test against %s (%d users, %.0f s measured after %d s warm-up)%n",
+                report.baseUrl(), report.users(), report.measuredSeconds(), report.warmupSeconds());
+        System.out.printf("  %-26s %9s %10s %9s %9s %9s %8s%n", "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "errors");
+        for (EndpointSamples.Summary summary : report.endpoints()) {
+            printRow(summary);
+        }
+        printRow(report.total());
+        System.out.printf("  Report written to %s%n", output.toAbsolutePath());
+    }
+
+    private void printRow(EndpointSamples.Summary summary) {
+        System.out.printf("  %-26s %,9d %,10.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+                summary.endpoint(), summary.requests(), summary.throughputPerSecond(),
+                summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.errorRate() * 100);
+    }
+
+    private record Report(String startedAt, String baseUrl, long seed, int users, long warmupSeconds,
+                          double measuredSeconds, EndpointSamples.Summary total, List<EndpointSamples.Summary> endpoints) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.sentinovo.carbuildervin.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from loadtest.* system properties.
+ */
+record LoadTestSettings(
+        String baseUrl,
+        long seed,
+        int users,
+        String password,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Duration requestTimeout,
+        boolean mcp,
+        String mcpApiKeyHeader,
+        Path output) {
+
+    static LoadTestSettings fromSystemProperties() {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+        return new LoadTestSettings(
+                baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl,
+                Long.getLong("loadtest.seed", 42),
+                Integer.getInteger("loadtest.users", 50),
+                System.getProperty("loadtest.password", "synthetic-password"),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Duration.ofMillis(Long.getLong("loadtest.think-time-ms", 0)),
+                Duration.ofSeconds(Long.getLong("loadtest.timeout-seconds", 30)),
+                Boolean.parseBoolean(System.getProperty("loadtest.mcp", "true")),
+                System.getProperty("loadtest.mcp-api-key-header", "X-MCP-API-Key"),
+                Path.of(System.getProperty("loadtest.output", "target/load-test/report.json")));
+    }
+}
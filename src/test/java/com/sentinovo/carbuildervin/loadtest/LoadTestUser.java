@@ -0,0 +1,246 @@
+package com.sentinovo.carbuildervin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One synthetic user driving the application through a real session: form login, the build
+ * status and budget HTMX fragments, the REST parts API and MCP tool calls over an SSE session,
+ * picked at random by weight in a closed loop. Samples are kept per user and merged afterwards,
+ * so recording needs no synchronization.
+ */
+final class LoadTestUser {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final List<String> SEARCH_TERMS = List.of(
+            "brake", "coilover", "exhaust", "turbo", "intake", "wheels", "oil", "Bilstein", "Brembo", "clutch");
+    private static final int MAX_PART_IDS = 200;
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final String username;
+    private final SplittableRandom random;
+    private final HttpClient client;
+    private final Map<String, EndpointSamples> samples = new TreeMap<>();
+    private final List<String> buildIds = new ArrayList<>();
+    private final List<String> partIds = new ArrayList<>();
+
+    private McpSseClient mcp;
+
+    LoadTestUser(LoadTestSettings settings, ObjectMapper objectMapper, String username, long seed) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.username = username;
+        this.random = new SplittableRandom(seed);
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(settings.requestTimeout())
+                .build();
+    }
+
+    /**
+     * Logs in, collects the user's build and part ids and opens the MCP session. Returns
+     * false when the user has no builds to work with.
+     */
+    boolean prepare() throws IOException, InterruptedException {
+        login();
+
+        JsonNode builds = getJson("/api/v1/builds?size=100").path("data").path("items");
+        builds.forEach(build -> buildIds.add(build.path("id").asText()));
+        if (buildIds.isEmpty()) {
+            return false;
+        }
+
+        for (String buildId : buildIds) {
+            getJson("/api/v1/builds/" + buildId + "/parts?size=100").path("data").path("items")
+                    .forEach(part -> partIds.add(part.path("id").asText()));
+            if (partIds.size() >= MAX_PART_IDS) {
+                break;
+            }
+        }
+
+        if (settings.mcp()) {
+            String apiKey = postJson("/api/v1/me/mcp-api-key").path("data").path("apiKey").asText();
+            mcp = McpSseClient.connect(client, objectMapper, settings.baseUrl(),
+                    settings.mcpApiKeyHeader(), apiKey, settings.requestTimeout());
+        }
+        return true;
+    }
+
+    /**
+     * Sends requests until endNanos; only requests started after warmupEndNanos are recorded.
+     */
+    void run(long warmupEndNanos, long endNanos) throws InterruptedException {
+        List<Endpoint> endpoints = Arrays.stream(Endpoint.values())
+                .filter(endpoint -> settings.mcp() || !endpoint.mcp)
+                .filter(endpoint -> !partIds.isEmpty() || !endpoint.needsPart)
+                .toList();
+        int totalWeight = endpoints.stream().mapToInt(endpoint -> endpoint.weight).sum();
+
+        while (System.nanoTime() < endNanos) {
+            Endpoint endpoint = pick(endpoints, totalWeight);
+
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                success = send(endpoint);
+            } catch (IOException e) {
+                success = false;
+            }
+            long latency = System.nanoTime() - started;
+
+            if (started >= warmupEndNanos) {
+                samples.computeIfAbsent(endpoint.key, key -> new EndpointSamples()).record(latency, success);
+            }
+            if (!settings.thinkTime().isZero()) {
+                Thread.sleep(settings.thinkTime());
+            }
+        }
+    }
+
+    Map<String, EndpointSamples> samples() {
+        return samples;
+    }
+
+    void close() {
+        if (mcp != null) {
+            mcp.close();
+        }
+        client.close();
+    }
+
+    private boolean send(Endpoint endpoint) throws IOException, InterruptedException {
+        String buildId = any(buildIds);
+        return switch (endpoint) {
+            case STATUS_OVERVIEW -> get("/status/fragment/overview", true);
+            case BUDGET_RESULTS -> get("/budget/build/" + buildId + "/fragment/results", true);
+            case BUILD_PARTS -> get("/api/v1/builds/" + buildId + "/parts?size=50", false);
+            case BUILD_PARTS_CURSOR -> get("/api/v1/builds/" + buildId + "/parts/cursor?limit=50", false);
+            case PART -> get("/api/v1/parts/" + any(partIds), false);
+            case PART_SEARCH -> get("/api/v1/parts/search?q=" + encode(any(SEARCH_TERMS)) + "&size=20", false);
+            case MCP_LIST_PARTS -> mcp.callTool("listParts", Map.of("buildId", buildId));
+            case MCP_GET_BUILD -> mcp.callTool("getBuild", Map.of("buildId", buildId));
+            case MCP_BUILD_COST -> mcp.callTool("calculateBuildCost", Map.of("buildId", buildId));
+        };
+    }
+
+    private void login() throws IOException, InterruptedException {
+        HttpResponse<String> loginPage = client.send(request("/login").GET().build(), HttpResponse.BodyHandlers.ofString());
+        Matcher csrf = CSRF_INPUT.matcher(loginPage.body());
+        if (!csrf.find()) {
+            throw new IOException("No CSRF token on the login page");
+        }
+
+        String form = "usernameOrEmail=" + encode(username)
+                + "&password=" + encode(settings.password())
+                + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<Void> response = client.send(request("/login")
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IOException("Login failed for " + username + " (is the synthetic dataset loaded with this seed?)");
+        }
+    }
+
+    /**
+     * Anything but a 2xx counts as an error, including the redirect to /login a lost session
+     * would produce.
+     */
+    private boolean get(String path, boolean htmx) throws IOException, InterruptedException {
+        HttpRequest.Builder request = request(path).GET();
+        if (htmx) {
+            request.header("HX-Request", "true");
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        return json(client.send(request(path).header("Accept", "application/json").GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray()), path);
+    }
+
+    private JsonNode postJson(String path) throws IOException, InterruptedException {
+        return json(client.send(request(path).header("Accept", "application/json").POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofByteArray()), path);
+    }
+
+    private JsonNode json(HttpResponse<byte[]> response, String path) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IOException(path + " returned HTTP " + response.statusCode() + " for " + username);
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path)).timeout(settings.requestTimeout());
+    }
+
+    private Endpoint pick(List<Endpoint> endpoints, int totalWeight) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight;
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.getLast();
+    }
+
+    private <T> T any(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The request mix. Keys are the endpoint names in the report, so keep them stable for
+     * comparisons between runs.
+     */
+    enum Endpoint {
+        STATUS_OVERVIEW("web.status-overview", 15, false, false),
+        BUDGET_RESULTS("web.budget-results", 15, false, false),
+        BUILD_PARTS("rest.build-parts", 15, false, false),
+        BUILD_PARTS_CURSOR("rest.build-parts-cursor", 10, false, false),
+        PART("rest.part", 10, false, true),
+        PART_SEARCH("rest.part-search", 10, false, false),
+        MCP_LIST_PARTS("mcp.listParts", 10, true, false),
+        MCP_GET_BUILD("mcp.getBuild", 5, true, false),
+        MCP_BUILD_COST("mcp.calculateBuildCost", 10, true, false);
+
+        private final String key;
+        private final int weight;
+        private final boolean mcp;
+        private final boolean needsPart;
+
+        Endpoint(String key, int weight, boolean mcp, boolean needsPart) {
+            this.key = key;
+            this.weight = weight;
+            this.mcp = mcp;
+            this.needsPart = needsPart;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.sentinovo.carbuildervin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Minimal MCP client for the server's SSE transport: JSON-RPC requests are POSTed to the
+ * message endpoint announced on the event stream, and replies arrive on the stream, matched
+ * by request id. Authenticates every request with the user's MCP API key.
+ */
+final class McpSseClient implements AutoCloseable {
+
+    private static final String PROTOCOL_VERSION = "2024-11-05";
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final String apiKeyHeader;
+    private final String apiKey;
+    private final Duration timeout;
+    private final CompletableFuture<URI> messageEndpoint = new CompletableFuture<>();
+    private final Map<Long, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong requestIds = new AtomicLong();
+
+    private Stream<String> events;
+    private Thread reader;
+
+    private McpSseClient(HttpClient client, ObjectMapper objectMapper, URI baseUri,
+                         String apiKeyHeader, String apiKey, Duration timeout) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKey = apiKey;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Opens the event stream and completes the initialize handshake.
+     */
+    static McpSseClient connect(HttpClient client, ObjectMapper objectMapper, String baseUrl,
+                                String apiKeyHeader, String apiKey, Duration timeout)
+            throws IOException, InterruptedException {
+        McpSseClient mcp = new McpSseClient(client, objectMapper, URI.create(baseUrl + "/"), apiKeyHeader, apiKey, timeout);
+        try {
+            mcp.open(baseUrl + "/mcp/sse");
+            mcp.call("initialize", Map.of(
+                    "protocolVersion", PROTOCOL_VERSION,
+                    "capabilities", Map.of(),
+                    "clientInfo", Map.of("name", "car-builder-vin-load-test", "version", "1.0")));
+            mcp.notify("notifications/initialized");
+            return mcp;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            mcp.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Calls a tool and returns whether it succeeded, i.e. neither a JSON-RPC error nor a
+     * tool result flagged isError.
+     */
+    boolean callTool(String name, Map<String, Object> arguments) throws IOException, InterruptedException {
+        JsonNode reply = call("tools/call", Map.of("name", name, "arguments", arguments));
+        return !reply.has("error") && !reply.path("result").path("isError").asBoolean(false);
+    }
+
+    private void open(String sseUrl) throws IOException, InterruptedException {
+        HttpResponse<Stream<String>> response = client.send(HttpRequest.newBuilder(URI.create(sseUrl))
+                        .header("Accept", "text/event-stream")
+                        .header(apiKeyHeader, apiKey)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("MCP event stream rejected with HTTP " + response.statusCode());
+        }
+
+        events = response.body();
+        reader = Thread.ofVirtual().name("mcp-sse-reader").start(this::readEvents);
+    }
+
+    private JsonNode call(String method, Object params) throws IOException, InterruptedException {
+        long id = requestIds.incrementAndGet();
+        CompletableFuture<JsonNode> reply = new CompletableFuture<>();
+        pending.put(id, reply);
+        try {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("jsonrpc", "2.0");
+            message.put("id", id);
+            message.put("method", method);
+            message.put("params", params);
+            post(message);
+            return reply.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IOException(method + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("No reply to " + method + " within " + timeout, e);
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    private void notify(String method) throws IOException, InterruptedException {
+        post(Map.of("jsonrpc", "2.0", "method", method));
+    }
+
+    private void post(Map<String, Object> message) throws IOException, InterruptedException {
+        URI endpoint;
+        try {
+            endpoint = messageEndpoint.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IOException("MCP message endpoint was not announced", e);
+        }
+
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(endpoint)
+                        .timeout(timeout)
+                        .header("Content-Type", "application/json")
+                        .header(apiKeyHeader, apiKey)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(message)))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("MCP message rejected with HTTP " + response.statusCode());
+        }
+    }
+
+    private void readEvents() {
+        String event = "message";
+        StringBuilder data = new StringBuilder();
+        try {
+            Iterator<String> lines = events.iterator();
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.isEmpty()) {
+                    dispatch(event, data.toString());
+                    event = "message";
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    event = line.substring("event:".length()).trim();
+                } else if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring("data:".length()).stripLeading());
+                }
+            }
+        } catch (UncheckedIOException e) {
+            // Stream closed or connection lost; fail whatever is still waiting below
+        } finally {
+            IOException closed = new IOException("MCP event stream closed");
+            messageEndpoint.completeExceptionally(closed);
+            pending.values().forEach(reply -> reply.completeExceptionally(closed));
+        }
+    }
+
+    private void dispatch(String event, String data) {
+        if (data.isEmpty()) {
+            return;
+        }
+        if ("endpoint".equals(event)) {
+            messageEndpoint.complete(baseUri.resolve(data));
+            return;
+        }
+
+        try {
+            JsonNode message = objectMapper.readTree(data);
+            if (message.has("id")) {
+                CompletableFuture<JsonNode> reply = pending.get(message.get("id").asLong());
+                if (reply != null) {
+                    reply.complete(message);
+                }
+            }
+        } catch (IOException e) {
+            // Not JSON-RPC; ignore it like any other unknown event
+        }
+    }
+
+    @Override
+    public void close() {
+        if (events != null) {
+            events.close();
+        }
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+}
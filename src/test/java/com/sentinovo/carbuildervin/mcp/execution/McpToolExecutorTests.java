@@ -0,0 +1,112 @@
+package com.sentinovo.carbuildervin.mcp.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class McpToolExecutorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void cleanUp() {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void callsOverTheSessionLimitWaitForASlot() throws Exception {
+        McpToolExecutor executor = executor(1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<CallToolResult> slow = executor.submit("slow", () -> {
+            started.countDown();
+            release.await();
+            return text("slow");
+        }).toFuture();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<CallToolResult> fast = executor.submit("fast", () -> text("fast")).toFuture();
+        awaitGauge("app.mcp.tool.calls.queued", 1);
+        assertThat(gauge("app.mcp.tool.calls.running")).isEqualTo(1);
+        assertThat(fast).isNotDone();
+
+        release.countDown();
+
+        assertThat(textOf(fast.get(5, TimeUnit.SECONDS))).isEqualTo("fast");
+        assertThat(textOf(slow.get(5, TimeUnit.SECONDS))).isEqualTo("slow");
+        awaitGauge("app.mcp.tool.calls.running", 0);
+        assertThat(gauge("app.mcp.tool.calls.queued")).isZero();
+    }
+
+    @Test
+    void callsBeyondTheQueueCapacityAreRejected() throws Exception {
+        McpToolExecutor executor = executor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.submit("slow", () -> {
+            started.countDown();
+            release.await();
+            return text("slow");
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit("waiting", () -> text("waiting"));
+        awaitGauge("app.mcp.tool.calls.queued", 1);
+
+        CallToolResult rejected = executor.submit("rejected", () -> text("rejected")).block(Duration.ofSeconds(5));
+
+        assertThat(rejected.isError()).isTrue();
+        assertThat(meterRegistry.get("app.mcp.tool.calls.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void toolsRunWithTheCallersSecurityContext() {
+        McpToolExecutor executor = executor(4, 10);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("mcp-user", null));
+
+        CallToolResult result = executor.submit("whoami",
+                () -> text(SecurityContextHolder.getContext().getAuthentication().getName())).block(Duration.ofSeconds(5));
+
+        assertThat(textOf(result)).isEqualTo("mcp-user");
+    }
+
+    private McpToolExecutor executor(int maxConcurrentPerSession, int maxQueued) {
+        McpExecutionProperties properties = new McpExecutionProperties();
+        properties.setMaxConcurrentPerSession(maxConcurrentPerSession);
+        properties.setMaxQueued(maxQueued);
+        return new McpToolExecutor(properties, meterRegistry);
+    }
+
+    private CallToolResult text(String text) {
+        return CallToolResult.builder().addTextContent(text).build();
+    }
+
+    private String textOf(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(gauge(name)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,102 @@
+package com.sentinovo.carbuildervin.mcp.ratelimit;
+
+import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.mcp.security.McpApiKeyAuthentication;
+import com.sentinovo.carbuildervin.mcp.security.OAuthBearerTokenAuthentication;
+import com.sentinovo.carbuildervin.service.user.McpUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class McpRateLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requestsBeyondTheBurstAreThrottledWithRetryAfter() throws Exception {
+        McpRateLimitFilter filter = filter(60, 3);
+        Authentication caller = new McpApiKeyAuthentication(user(), "key");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(call(filter, "/mcp/message", caller).getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse throttled = call(filter, "/api/v1/mcp/tools", caller);
+
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(throttled.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("app.mcp.rate-limit.throttled")
+                .tag("scope", McpRateLimitFilter.SCOPE_API_KEY).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void eachOAuthClientOfAUserHasItsOwnBucket() throws Exception {
+        McpRateLimitFilter filter = filter(60, 1);
+        McpUserPrincipal user = user();
+        Authentication desktop = new OAuthBearerTokenAuthentication(user, "desktop", "token-1", "mcp");
+        Authentication ide = new OAuthBearerTokenAuthentication(user, "ide", "token-2", "mcp");
+
+        assertThat(call(filter, "/mcp/message", desktop).getStatus()).isEqualTo(200);
+        assertThat(call(filter, "/mcp/message", ide).getStatus()).isEqualTo(200);
+        assertThat(call(filter, "/mcp/message", desktop).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void otherPathsAreNotLimited() throws Exception {
+        McpRateLimitFilter filter = filter(60, 1);
+        Authentication caller = new McpApiKeyAuthentication(user(), "key");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(call(filter, "/api/v1/builds", caller).getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void bucketRefillsAtTheSustainedRate() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(2, 10, now);
+
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isPositive();
+    }
+
+    private McpRateLimitFilter filter(int requestsPerMinute, int burst) {
+        McpRateLimitProperties properties = new McpRateLimitProperties();
+        properties.setApiKey(new McpRateLimitProperties.Limit(requestsPerMinute, burst));
+        properties.setOauthClient(new McpRateLimitProperties.Limit(requestsPerMinute, burst));
+        return new McpRateLimitFilter(properties, meterRegistry);
+    }
+
+    private MockHttpServletResponse call(McpRateLimitFilter filter, String path, Authentication caller) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(caller);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private McpUserPrincipal user() {
+        User user = User.builder().username("rate-" + UUID.randomUUID()).build();
+        user.setId(UUID.randomUUID());
+        return McpUserPrincipal.of(user);
+    }
+}
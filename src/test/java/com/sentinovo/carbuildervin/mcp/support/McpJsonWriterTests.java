@@ -0,0 +1,97 @@
+package com.sentinovo.carbuildervin.mcp.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sentinovo.carbuildervin.dto.build.BuildCostRollupDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildPartDto;
+import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.common.CursorPageResponseDto;
+import com.sentinovo.carbuildervin.dto.parts.PartDto;
+import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class McpJsonWriterTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final McpJsonWriter jsonWriter = new McpJsonWriter(objectMapper);
+
+    @Test
+    void payloadsAreCompactWithoutNullOrEmptyValues() throws Exception {
+        String json = jsonWriter.write(part("Coilovers"));
+
+        assertThat(json).doesNotContain("\n", ": ");
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.has("name")).isTrue();
+        assertThat(node.has("description")).isFalse();
+        assertThat(node.has("notes")).isFalse();
+        assertThat(node.get("isRequired").asBoolean()).isFalse();
+    }
+
+    @Test
+    void fieldSelectionTrimsEntitiesButNotTheirWrappers() throws Exception {
+        CursorPageResponseDto<PartDto> page = CursorPageResponseDto.<PartDto>builder()
+                .items(List.of(part("Coilovers"), part("Bumper")))
+                .pageSize(50)
+                .nextCursor("abc")
+                .hasNext(true)
+                .build();
+
+        JsonNode node = objectMapper.readTree(jsonWriter.write(page, " price , name,name"));
+
+        assertThat(node.get("nextCursor").asText()).isEqualTo("abc");
+        assertThat(node.get("hasNext").asBoolean()).isTrue();
+        assertThat(node.get("items")).hasSize(2).allSatisfy(item ->
+                assertThat(item.properties()).extracting(Map.Entry::getKey).containsExactlyInAnyOrder("id", "name", "price"));
+    }
+
+    @Test
+    void fieldSelectionReachesUnwrappedPartsAndNestedSubParts() throws Exception {
+        PartDto part = part("Coilovers");
+        FullBuildDto fullBuild = FullBuildDto.builder()
+                .build(VehicleUpgradeDto.builder().id(UUID.randomUUID()).name("Overland").status("PLANNED").build())
+                .vehicleLabel("Trail Rig")
+                .costs(BuildCostRollupDto.builder().currencyCode("USD").combinedCost(new BigDecimal("10.00")).build())
+                .parts(List.of(FullBuildPartDto.builder()
+                        .part(part)
+                        .subParts(List.of(SubPartDto.builder()
+                                .id(UUID.randomUUID())
+                                .partId(part.getId())
+                                .name("Spring")
+                                .status("PLANNED")
+                                .build()))
+                        .build()))
+                .build();
+
+        JsonNode node = objectMapper.readTree(jsonWriter.write(fullBuild, "name"));
+
+        assertThat(node.get("vehicleLabel").asText()).isEqualTo("Trail Rig");
+        assertThat(node.get("costs").has("combinedCost")).isTrue();
+        assertThat(node.get("build").has("status")).isFalse();
+        JsonNode first = node.get("parts").get(0);
+        assertThat(first.get("name").asText()).isEqualTo("Coilovers");
+        assertThat(first.has("price")).isFalse();
+        assertThat(first.get("subParts").get(0).properties()).extracting(Map.Entry::getKey)
+                .containsExactlyInAnyOrder("id", "name");
+    }
+
+    private PartDto part(String name) {
+        return PartDto.builder()
+                .id(UUID.randomUUID())
+                .vehicleUpgradeId(UUID.randomUUID())
+                .name(name)
+                .status("PLANNED")
+                .isRequired(false)
+                .price(new BigDecimal("199.99"))
+                .description("")
+                .build();
+    }
+}
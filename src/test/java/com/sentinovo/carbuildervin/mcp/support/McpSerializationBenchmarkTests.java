@@ -0,0 +1,156 @@
+package com.sentinovo.carbuildervin.mcp.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sentinovo.carbuildervin.dto.build.BuildCostRollupDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildPartDto;
+import com.sentinovo.carbuildervin.dto.build.VehicleUpgradeDto;
+import com.sentinovo.carbuildervin.dto.parts.PartDto;
+import com.sentinovo.carbuildervin.dto.parts.SubPartDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and serialization time of a large full build: the pretty-printed default writer
+ * the MCP resources used before, the compact writer and the compact writer with a field list.
+ * Opt-in, since it only prints numbers:
+ * <pre>./mvnw test -Dtest=McpSerializationBenchmarkTests -Dbenchmark=true [-Dbenchmark.parts=1000]</pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class McpSerializationBenchmarkTests {
+
+    private static final int SUB_PARTS_PER_PART = 4;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final McpJsonWriter jsonWriter = new McpJsonWriter(objectMapper);
+
+    @Test
+    void compareSerializers() {
+        int parts = Integer.getInteger("benchmark.parts", 500);
+        FullBuildDto fullBuild = fullBuild(parts);
+        ObjectWriter pretty = objectMapper.writerWithDefaultPrettyPrinter();
+
+        Result baseline = run(value -> {
+            try {
+                return pretty.writeValueAsString(value);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, fullBuild);
+        Result compact = run(jsonWriter::write, fullBuild);
+        Result selected = run(value -> jsonWriter.write(value, "name,status,price,isRequired"), fullBuild);
+
+        System.out.printf("MCP serialization benchmark (%d parts, %d sub-parts, %d iterations)%n",
+                parts, parts * SUB_PARTS_PER_PART, ITERATIONS);
+        print("pretty (before)", baseline, baseline);
+        print("compact", compact, baseline);
+        print("compact + fields", selected, baseline);
+
+        assertThat(compact.bytes()).isLessThan(baseline.bytes());
+        assertThat(selected.bytes()).isLessThan(compact.bytes());
+    }
+
+    private Result run(Function<Object, String> serializer, Object value) {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bytes = serializer.apply(value).getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.apply(value);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(bytes, elapsed / (double) ITERATIONS / 1_000_000);
+    }
+
+    private void print(String name, Result result, Result baseline) {
+        System.out.printf("  %-18s %,10d bytes (%5.1f%%)  %8.3f ms/op (%5.1f%%)%n",
+                name, result.bytes(), 100.0 * result.bytes() / baseline.bytes(),
+                result.millisPerOp(), 100.0 * result.millisPerOp() / baseline.millisPerOp());
+    }
+
+    private FullBuildDto fullBuild(int partCount) {
+        UUID buildId = UUID.randomUUID();
+        List<FullBuildPartDto> parts = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            UUID partId = UUID.randomUUID();
+            List<SubPartDto> subParts = new ArrayList<>(SUB_PARTS_PER_PART);
+            for (int j = 0; j < SUB_PARTS_PER_PART; j++) {
+                subParts.add(SubPartDto.builder()
+                        .id(UUID.randomUUID())
+                        .partId(partId)
+                        .name("Component " + i + "." + j)
+                        .categoryCode("SUSPENSION")
+                        .categoryName("Suspension")
+                        .tierCode("MID")
+                        .tierName("Mid")
+                        .isRequired(true)
+                        .status("PLANNED")
+                        .price(new BigDecimal("24.99"))
+                        .sortOrder(j)
+                        .createdAt(OffsetDateTime.now())
+                        .updatedAt(OffsetDateTime.now())
+                        .build());
+            }
+            parts.add(FullBuildPartDto.builder()
+                    .part(PartDto.builder()
+                            .id(partId)
+                            .vehicleUpgradeId(buildId)
+                            .categoryCode("SUSPENSION")
+                            .categoryName("Suspension")
+                            .tierCode("MID")
+                            .tierName("Mid")
+                            .name("Part " + i)
+                            .brand("Old Man Emu")
+                            .partNumber("OME-" + i)
+                            .productUrl("https://example.com/parts/" + i)
+                            .isRequired(i % 3 != 0)
+                            .targetPurchaseDate(LocalDate.now().plusDays(i % 90))
+                            .sortOrder(i)
+                            .status("PLANNED")
+                            .price(new BigDecimal("199.99"))
+                            .currencyCode("USD")
+                            .quantity(1)
+                            .createdAt(OffsetDateTime.now())
+                            .updatedAt(OffsetDateTime.now())
+                            .build())
+                    .subParts(subParts)
+                    .build());
+        }
+
+        return FullBuildDto.builder()
+                .build(VehicleUpgradeDto.builder().id(buildId).name("Overland Build").status("PLANNED").build())
+                .vehicleLabel("Trail Rig")
+                .costs(BuildCostRollupDto.builder()
+                        .currencyCode("USD")
+                        .requiredCost(BigDecimal.ZERO)
+                        .optionalCost(BigDecimal.ZERO)
+                        .combinedCost(BigDecimal.ZERO)
+                        .partCount(partCount)
+                        .subPartCount((long) partCount * SUB_PARTS_PER_PART)
+                        .partsByStatus(Map.of("PLANNED", (long) partCount))
+                        .build())
+                .parts(parts)
+                .build();
+    }
+
+    private record Result(int bytes, double millisPerOp) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.sentinovo.carbuildervin.service.cache;
+
+import com.sentinovo.carbuildervin.config.CacheConfig;
+import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.mcp.security.McpApiKeyAuthenticationFilter;
+import com.sentinovo.carbuildervin.mcp.security.McpSecurityProperties;
+import com.sentinovo.carbuildervin.repository.user.UserRepository;
+import com.sentinovo.carbuildervin.service.parts.PartTierService;
+import com.sentinovo.carbuildervin.service.user.RoleService;
+import com.sentinovo.carbuildervin.service.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Another node is simulated by sending NOTIFY on a connection of our own.
+ */
+@SpringBootTest(properties = "app.cache.invalidation.poll-timeout=100ms")
+class CacheInvalidationTests {
+
+    @Autowired
+    private PartTierService partTierService;
+
+    @Autowired
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private McpApiKeyAuthenticationFilter mcpApiKeyAuthenticationFilter;
+
+    @Autowired
+    private McpSecurityProperties mcpSecurityProperties;
+
+    @Test
+    void notificationFromAnotherNodeEvictsTheCache() throws InterruptedException {
+        assertThat(evictedByRemoteNotification()).isTrue();
+    }
+
+    @Test
+    void rolledBackInvalidationIsNotDelivered() throws InterruptedException {
+        assertThat(evictedByRemoteNotification()).isTrue();
+        // Let any NOTIFY still in flight from the loop above arrive first
+        Thread.sleep(500);
+        partTierService.getAllPartTiers();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS);
+            status.setRollbackOnly();
+        });
+
+        Thread.sleep(1_000);
+        assertThat(partTiersCache().get(SimpleKey.EMPTY)).isNotNull();
+    }
+
+    @Test
+    void committedInvalidationEvictsLocallyRightAway() {
+        partTierService.getAllPartTiers();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                cacheInvalidationPublisher.evictAll(CacheConfig.PART_TIERS));
+
+        assertThat(partTiersCache().get(SimpleKey.EMPTY)).isNull();
+    }
+
+    @Test
+    void deactivatedUsersApiKeyIsRejectedRightAway() throws Exception {
+        UUID userId = new TransactionTemplate(transactionManager).execute(status -> {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            User user = User.builder()
+                    .username("key-" + suffix)
+                    .email("key-" + suffix + "@example.com")
+                    .passwordHash("not-used")
+                    .isActive(true)
+                    .build();
+            user.addRole(roleService.findUserRole());
+            return userRepository.save(user).getId();
+        });
+        try {
+            String apiKey = userService.generateMcpApiKey(userId);
+            assertThat(callWithApiKey(apiKey).getStatus()).isEqualTo(200);
+            assertThat(cacheManager.getCache(CacheConfig.MCP_API_KEY_USERS).get(apiKey)).isNotNull();
+
+            userService.deactivateUser(userId);
+
+            assertThat(callWithApiKey(apiKey).getStatus()).isEqualTo(401);
+        } finally {
+            userRepository.deleteById(userId);
+        }
+    }
+
+    private MockHttpServletResponse callWithApiKey(String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/mcp/message");
+        request.addHeader(mcpSecurityProperties.getApiKeyHeader(), apiKey);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            mcpApiKeyAuthenticationFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    /**
+     * Repeats the NOTIFY because the listener connects in the background after startup.
+     */
+    private boolean evictedByRemoteNotification() throws InterruptedException {
+        partTierService.getAllPartTiers();
+        assertThat(partTiersCache().get(SimpleKey.EMPTY)).isNotNull();
+
+        for (int attempt = 0; attempt < 100; attempt++) {
+            jdbcTemplate.execute("NOTIFY " + CacheInvalidationPublisher.CHANNEL + ", '" + CacheConfig.PART_TIERS + "'");
+            Thread.sleep(100);
+            if (partTiersCache().get(SimpleKey.EMPTY) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Cache partTiersCache() {
+        return cacheManager.getCache(CacheConfig.PART_TIERS);
+    }
+}
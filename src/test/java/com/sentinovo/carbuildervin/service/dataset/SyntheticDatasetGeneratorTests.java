@@ -0,0 +1,85 @@
+package com.sentinovo.carbuildervin.service.dataset;
+
+import com.sentinovo.carbuildervin.config.SyntheticDatasetProperties;
+import com.sentinovo.carbuildervin.validation.VinValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SyntheticDatasetGeneratorTests {
+
+    private static final long SEED = 9_001;
+    private static final String USERNAME_PATTERN = SyntheticDatasetGenerator.usernamePrefix(SEED) + "%";
+
+    @Autowired
+    private SyntheticDatasetGenerator syntheticDatasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteDataset() {
+        jdbcTemplate.update("DELETE FROM app_user WHERE username LIKE ?", USERNAME_PATTERN);
+    }
+
+    @Test
+    void writesTheRequestedShapeWithValidVins() {
+        SyntheticDatasetGenerator.Summary summary = syntheticDatasetGenerator.generate(settings());
+
+        assertThat(count("SELECT count(*) FROM app_user u WHERE u.username LIKE ?")).isEqualTo(summary.users());
+        assertThat(count("SELECT count(*) FROM vehicle v JOIN app_user u ON u.id = v.owner_id WHERE u.username LIKE ?"))
+                .isEqualTo(summary.vehicles());
+        assertThat(count("SELECT count(*) FROM part p JOIN app_user u ON u.id = p.owner_id WHERE u.username LIKE ?"))
+                .isEqualTo(summary.parts());
+        assertThat(count("SELECT count(*) FROM sub_part s JOIN app_user u ON u.id = s.owner_id WHERE u.username LIKE ?"))
+                .isEqualTo(summary.subParts());
+        assertThat(summary.parts()).isPositive();
+
+        List<String> vins = jdbcTemplate.queryForList(
+                "SELECT v.vin FROM vehicle v JOIN app_user u ON u.id = v.owner_id "
+                        + "WHERE u.username LIKE ? AND v.vin IS NOT NULL", String.class, USERNAME_PATTERN);
+        assertThat(vins).isNotEmpty().allMatch(VinValidator::isValidVin);
+    }
+
+    @Test
+    void sameSeedProducesTheSameRows() {
+        syntheticDatasetGenerator.generate(settings());
+        String first = fingerprint();
+
+        syntheticDatasetGenerator.generate(settings());
+
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    private SyntheticDatasetProperties settings() {
+        SyntheticDatasetProperties settings = new SyntheticDatasetProperties();
+        settings.setSeed(SEED);
+        settings.setUsers(5);
+        settings.setVehiclesPerUser(2);
+        settings.setBuildsPerVehicle(2);
+        settings.setPartsPerBuild(5);
+        settings.setSubPartsPerPart(1);
+        settings.setUsersPerBatch(2);
+        return settings;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, USERNAME_PATTERN);
+    }
+
+    private String fingerprint() {
+        return jdbcTemplate.queryForObject(
+                "SELECT md5(string_agg(p.id::text || p.name || coalesce(p.price::text, '') || p.status || v.id::text "
+                        + "|| coalesce(v.vin, ''), ',' ORDER BY p.id)) "
+                        + "FROM part p JOIN vehicle_upgrade vu ON vu.id = p.vehicle_upgrade_id "
+                        + "JOIN vehicle v ON v.id = vu.vehicle_id JOIN app_user u ON u.id = v.owner_id "
+                        + "WHERE u.username LIKE ?", String.class, USERNAME_PATTERN);
+    }
+}
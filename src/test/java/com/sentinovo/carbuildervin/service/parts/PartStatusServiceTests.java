@@ -0,0 +1,158 @@
+package com.sentinovo.carbuildervin.service.parts;
+
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateDto;
+import com.sentinovo.carbuildervin.dto.parts.BulkStatusUpdateResultDto;
+import com.sentinovo.carbuildervin.dto.parts.StatusChangeDto;
+import com.sentinovo.carbuildervin.dto.status.BuildStatusCountsDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.support.BuildFixtures;
+import com.sentinovo.carbuildervin.support.BuildFixtures.BuildFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The transition rules of a bulk status change (INSTALLED stays INSTALLED, CANCELLED only goes
+ * back to PLANNED) and the owner check live in the UPDATE statements, so they are checked
+ * against committed rows.
+ */
+@SpringBootTest
+class PartStatusServiceTests {
+
+    private static final List<String> PART_STATUSES = List.of("INSTALLED", "CANCELLED", "PLANNED", "PLANNED");
+
+    @Autowired
+    private PartStatusService partStatusService;
+
+    @Autowired
+    private BuildFixtures buildFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BuildFixture mine;
+    private BuildFixture theirs;
+
+    @BeforeEach
+    void createFixtures() {
+        // Part i has status PART_STATUSES[i]; each part has one sub-part with its parent's status
+        mine = buildFixtures.createBuild("status", PART_STATUSES.size(), 1, new BuildFixtures.Customizer() {
+            @Override
+            public void part(Part part, int index) {
+                part.setStatus(PART_STATUSES.get(index));
+            }
+
+            @Override
+            public void subPart(SubPart subPart, int partIndex, int index) {
+                subPart.setStatus(PART_STATUSES.get(partIndex));
+            }
+        });
+        theirs = buildFixtures.createBuild("status-other", 1, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(mine.user().getUsername(), null, List.of()));
+    }
+
+    @AfterEach
+    void deleteFixtures() {
+        SecurityContextHolder.clearContext();
+        buildFixtures.delete(mine.userId());
+        buildFixtures.delete(theirs.userId());
+    }
+
+    @Test
+    void forbiddenTransitionsAndOtherOwnersItemsAreSkipped() {
+        UUID installedPart = mine.partIds().get(0);
+        UUID cancelledPart = mine.partIds().get(1);
+        UUID plannedPart = mine.partIds().get(2);
+        UUID installedSubPart = mine.subPartIds().get(0);
+        UUID plannedSubPart = mine.subPartIds().get(2);
+        UUID otherOwnersPart = theirs.partIds().get(0);
+
+        BulkStatusUpdateResultDto result = partStatusService.updateStatuses(BulkStatusUpdateDto.builder()
+                .changes(List.of(
+                        change(installedPart, "PART", "ORDERED"),
+                        change(cancelledPart, "PART", "ORDERED"),
+                        change(plannedPart, "PART", "DELIVERED"),
+                        change(installedSubPart, "SUB_PART", "PLANNED"),
+                        change(plannedSubPart, "SUB_PART", "ORDERED"),
+                        change(otherOwnersPart, "PART", "ORDERED")))
+                .build());
+
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+        assertThat(result.getSkippedIds())
+                .containsExactlyInAnyOrder(installedPart, cancelledPart, installedSubPart, otherOwnersPart);
+
+        assertThat(partStatus(installedPart)).isEqualTo("INSTALLED");
+        assertThat(partStatus(cancelledPart)).isEqualTo("CANCELLED");
+        assertThat(partStatus(plannedPart)).isEqualTo("DELIVERED");
+        assertThat(subPartStatus(installedSubPart)).isEqualTo("INSTALLED");
+        assertThat(subPartStatus(plannedSubPart)).isEqualTo("ORDERED");
+        assertThat(partStatus(otherOwnersPart)).isEqualTo("PLANNED");
+    }
+
+    @Test
+    void cancelledItemsCanOnlyGoBackToPlanned() {
+        UUID cancelledPart = mine.partIds().get(1);
+        UUID cancelledSubPart = mine.subPartIds().get(1);
+
+        BulkStatusUpdateResultDto result = partStatusService.updateStatuses(BulkStatusUpdateDto.builder()
+                .changes(List.of(
+                        change(cancelledPart, "PART", "PLANNED"),
+                        change(cancelledSubPart, "SUB_PART", "INSTALLED")))
+                .build());
+
+        assertThat(result.getSkippedIds()).containsExactly(cancelledSubPart);
+        assertThat(partStatus(cancelledPart)).isEqualTo("PLANNED");
+        assertThat(subPartStatus(cancelledSubPart)).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void returnedCountsMatchTheDatabase() {
+        BulkStatusUpdateResultDto result = partStatusService.updateStatuses(BulkStatusUpdateDto.builder()
+                .changes(List.of(
+                        change(mine.partIds().get(2), "PART", "ORDERED"),
+                        change(mine.partIds().get(3), "PART", "INSTALLED"),
+                        change(theirs.partIds().get(0), "PART", "ORDERED")))
+                .build());
+
+        assertThat(result.getBuilds()).extracting(BuildStatusCountsDto::getBuildId).containsExactly(mine.buildId());
+        BuildStatusCountsDto counts = result.getBuilds().get(0);
+
+        Map<String, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) AS parts FROM part WHERE vehicle_upgrade_id = ? GROUP BY status",
+                rs -> {
+                    stored.put(rs.getString("status"), rs.getLong("parts"));
+                }, mine.buildId());
+        Map<String, Long> returned = new HashMap<>(counts.getStatusCounts());
+        returned.values().removeIf(count -> count == 0);
+
+        assertThat(returned).isEqualTo(stored)
+                .isEqualTo(Map.of("INSTALLED", 2L, "CANCELLED", 1L, "ORDERED", 1L));
+        assertThat(counts.getTotalParts()).isEqualTo(PART_STATUSES.size());
+    }
+
+    private StatusChangeDto change(UUID id, String type, String status) {
+        return StatusChangeDto.builder().id(id).type(type).status(status).build();
+    }
+
+    private String partStatus(UUID partId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM part WHERE id = ?", String.class, partId);
+    }
+
+    private String subPartStatus(UUID subPartId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM sub_part WHERE id = ?", String.class, subPartId);
+    }
+}
@@ -0,0 +1,129 @@
+package com.sentinovo.carbuildervin.service.vehicle;
+
+import com.sentinovo.carbuildervin.dto.build.BuildCloneResultDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.support.BuildFixtures;
+import com.sentinovo.carbuildervin.support.BuildFixtures.BuildFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Clones a committed build and checks the copied rows in the database, since the clone is
+ * written with native INSERT ... SELECT statements that bypass the entities.
+ */
+@SpringBootTest
+class BuildCloneServiceTests {
+
+    private static final int PARTS = 4;
+    private static final int SUB_PARTS_PER_PART = 3;
+
+    private static final String PART_ROWS =
+            "SELECT id, name, status, owner_id FROM part WHERE vehicle_upgrade_id = ? ORDER BY id";
+    private static final String SUB_PART_ROWS =
+            "SELECT sp.id, sp.name, sp.status, sp.owner_id, p.id AS parent_id, p.name AS parent_name " +
+            "FROM sub_part sp JOIN part p ON p.id = sp.parent_part_id " +
+            "WHERE p.vehicle_upgrade_id = ? ORDER BY sp.id";
+
+    @Autowired
+    private BuildCloneService buildCloneService;
+
+    @Autowired
+    private BuildFixtures buildFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BuildFixture fixture;
+
+    @BeforeEach
+    void createFixtures() {
+        fixture = buildFixtures.createBuild("clone", PARTS, SUB_PARTS_PER_PART, new BuildFixtures.Customizer() {
+            @Override
+            public void part(Part part, int index) {
+                part.setStatus("ORDERED");
+            }
+
+            @Override
+            public void subPart(SubPart subPart, int partIndex, int index) {
+                subPart.setStatus("DELIVERED");
+            }
+        });
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(fixture.user().getUsername(), null, List.of()));
+    }
+
+    @AfterEach
+    void deleteFixtures() {
+        SecurityContextHolder.clearContext();
+        buildFixtures.delete(fixture.userId());
+    }
+
+    @Test
+    void clonedSubPartsHangOffTheCopiesOfTheirParents() {
+        BuildCloneResultDto result = buildCloneService.cloneBuild(fixture.buildId(), null);
+        UUID cloneId = result.getBuild().getId();
+
+        assertThat(result.getPartCount()).isEqualTo(PARTS);
+        assertThat(result.getSubPartCount()).isEqualTo(PARTS * SUB_PARTS_PER_PART);
+
+        List<Map<String, Object>> clonedParts = jdbcTemplate.queryForList(PART_ROWS, cloneId);
+        assertThat(clonedParts).hasSize(PARTS);
+        assertThat(clonedParts).extracting(row -> row.get("id")).doesNotContainAnyElementsOf(fixture.partIds());
+        assertThat(clonedParts).extracting(row -> row.get("name"))
+                .containsExactlyInAnyOrder("Part 0", "Part 1", "Part 2", "Part 3");
+
+        // Fixture sub-parts are named "Sub-part <part index>.<index>" after their parent "Part <part index>"
+        List<Map<String, Object>> clonedSubParts = jdbcTemplate.queryForList(SUB_PART_ROWS, cloneId);
+        assertThat(clonedSubParts).hasSize(PARTS * SUB_PARTS_PER_PART);
+        assertThat(clonedSubParts).extracting(row -> row.get("id")).doesNotContainAnyElementsOf(fixture.subPartIds());
+        assertThat(clonedSubParts).allSatisfy(row -> {
+            String partIndex = ((String) row.get("name")).replaceAll("^Sub-part (\\d+)\\.\\d+$", "$1");
+            assertThat(row.get("parent_name")).as("parent of %s", row.get("name")).isEqualTo("Part " + partIndex);
+        });
+    }
+
+    @Test
+    void clonedRowsBelongToTheOwnerAndStartPlanned() {
+        UUID cloneId = buildCloneService.cloneBuild(fixture.buildId(), null).getBuild().getId();
+
+        assertThat(jdbcTemplate.queryForList(PART_ROWS, cloneId)).allSatisfy(row -> {
+            assertThat(row.get("owner_id")).isEqualTo(fixture.userId());
+            assertThat(row.get("status")).isEqualTo("PLANNED");
+        });
+        assertThat(jdbcTemplate.queryForList(SUB_PART_ROWS, cloneId)).allSatisfy(row -> {
+            assertThat(row.get("owner_id")).isEqualTo(fixture.userId());
+            assertThat(row.get("status")).isEqualTo("PLANNED");
+        });
+
+        Map<String, Object> source = jdbcTemplate.queryForMap("SELECT name, slug FROM vehicle_upgrade WHERE id = ?", fixture.buildId());
+        Map<String, Object> clone = jdbcTemplate.queryForMap("SELECT name, slug FROM vehicle_upgrade WHERE id = ?", cloneId);
+        assertThat(clone.get("name")).isEqualTo(source.get("name") + " (copy)");
+        assertThat(clone.get("slug")).isNotEqualTo(source.get("slug"));
+    }
+
+    @Test
+    void sourceBuildIsUnchanged() {
+        List<Map<String, Object>> partsBefore = jdbcTemplate.queryForList(PART_ROWS, fixture.buildId());
+        List<Map<String, Object>> subPartsBefore = jdbcTemplate.queryForList(SUB_PART_ROWS, fixture.buildId());
+
+        buildCloneService.cloneBuild(fixture.buildId(), null);
+
+        assertThat(jdbcTemplate.queryForList(PART_ROWS, fixture.buildId())).isEqualTo(partsBefore);
+        assertThat(jdbcTemplate.queryForList(SUB_PART_ROWS, fixture.buildId())).isEqualTo(subPartsBefore);
+        assertThat(partsBefore).extracting(row -> row.get("status")).containsOnly("ORDERED");
+        assertThat(subPartsBefore).extracting(row -> row.get("status")).containsOnly("DELIVERED");
+    }
+}
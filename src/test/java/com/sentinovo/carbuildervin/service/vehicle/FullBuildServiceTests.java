@@ -0,0 +1,115 @@
+package com.sentinovo.carbuildervin.service.vehicle;
+
+import com.sentinovo.carbuildervin.dto.build.FullBuildDto;
+import com.sentinovo.carbuildervin.dto.build.FullBuildPartDto;
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.exception.ResourceNotFoundException;
+import com.sentinovo.carbuildervin.support.BuildFixtures;
+import com.sentinovo.carbuildervin.support.BuildFixtures.BuildFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Loads a build with several parts and sub-parts and checks the full build comes back in three
+ * statements, whatever the number of parts.
+ */
+@SpringBootTest
+class FullBuildServiceTests {
+
+    private static final int PARTS = 5;
+    private static final int SUB_PARTS_PER_PART = 3;
+
+    @Autowired
+    private FullBuildService fullBuildService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BuildFixtures buildFixtures;
+
+    private UUID userId;
+    private UUID buildId;
+
+    @BeforeEach
+    void createFixtures() {
+        // Even parts are required: 3 x 100 required, 2 x 100 optional, 15 x 10 required sub-parts
+        BuildFixture fixture = buildFixtures.createBuild("full", PARTS, SUB_PARTS_PER_PART, new BuildFixtures.Customizer() {
+            @Override
+            public void part(Part part, int index) {
+                part.setPrice(new BigDecimal("100.00"));
+                part.setIsRequired(index % 2 == 0);
+            }
+
+            @Override
+            public void subPart(SubPart subPart, int partIndex, int index) {
+                subPart.setPrice(new BigDecimal("10.00"));
+            }
+        });
+
+        userId = fixture.userId();
+        buildId = fixture.buildId();
+    }
+
+    @AfterEach
+    void deleteFixtures() {
+        buildFixtures.delete(userId);
+    }
+
+    @Test
+    void fullBuildIsLoadedInThreeStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            FullBuildDto fullBuild = fullBuildService.getFullBuild(buildId, userId, FullBuildService.DEPTH_SUB_PARTS);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(fullBuild.getVehicleLabel()).isEqualTo("2021 Toyota 4Runner");
+            assertThat(fullBuild.getParts()).hasSize(PARTS);
+            assertThat(fullBuild.getParts()).extracting(part -> part.getPart().getName())
+                    .containsExactly("Part 0", "Part 1", "Part 2", "Part 3", "Part 4");
+            for (FullBuildPartDto part : fullBuild.getParts()) {
+                assertThat(part.getSubParts()).hasSize(SUB_PARTS_PER_PART)
+                        .allSatisfy(subPart -> assertThat(subPart.getPartId()).isEqualTo(part.getPart().getId()));
+            }
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void costRollupCoversTheWholeBuildAtEveryDepth() {
+        FullBuildDto fullBuild = fullBuildService.getFullBuild(buildId, userId, FullBuildService.DEPTH_BUILD);
+
+        assertThat(fullBuild.getParts()).isNull();
+        assertThat(fullBuild.getCosts().getPartCount()).isEqualTo(PARTS);
+        assertThat(fullBuild.getCosts().getSubPartCount()).isEqualTo(PARTS * SUB_PARTS_PER_PART);
+        assertThat(fullBuild.getCosts().getRequiredCost()).isEqualByComparingTo("450.00");
+        assertThat(fullBuild.getCosts().getOptionalCost()).isEqualByComparingTo("200.00");
+        assertThat(fullBuild.getCosts().getCombinedCost()).isEqualByComparingTo("650.00");
+        assertThat(fullBuild.getCosts().getPartsByStatus()).containsEntry("PLANNED", (long) PARTS);
+
+        FullBuildDto withParts = fullBuildService.getFullBuild(buildId, userId, FullBuildService.DEPTH_PARTS);
+        assertThat(withParts.getParts()).hasSize(PARTS).allSatisfy(part -> assertThat(part.getSubParts()).isNull());
+    }
+
+    @Test
+    void otherUsersBuildIsNotFound() {
+        assertThatThrownBy(() -> fullBuildService.getFullBuild(buildId, UUID.randomUUID(), FullBuildService.DEPTH_SUB_PARTS))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.sentinovo.carbuildervin.support;
+
+import com.sentinovo.carbuildervin.entities.parts.Part;
+import com.sentinovo.carbuildervin.entities.parts.PartCategory;
+import com.sentinovo.carbuildervin.entities.parts.PartTier;
+import com.sentinovo.carbuildervin.entities.parts.SubPart;
+import com.sentinovo.carbuildervin.entities.user.User;
+import com.sentinovo.carbuildervin.entities.vehicle.Vehicle;
+import com.sentinovo.carbuildervin.entities.vehicle.VehicleUpgrade;
+import com.sentinovo.carbuildervin.repository.parts.PartCategoryRepository;
+import com.sentinovo.carbuildervin.repository.parts.PartRepository;
+import com.sentinovo.carbuildervin.repository.parts.PartTierRepository;
+import com.sentinovo.carbuildervin.repository.parts.SubPartRepository;
+import com.sentinovo.carbuildervin.repository.user.UserRepository;
+import com.sentinovo.carbuildervin.repository.vehicle.UpgradeCategoryRepository;
+import com.sentinovo.carbuildervin.repository.vehicle.VehicleRepository;
+import com.sentinovo.carbuildervin.repository.vehicle.VehicleUpgradeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Commits a user with one vehicle (a 2021 Toyota 4Runner), one build and a number of parts and
+ * sub-parts, for tests that need real rows outside their own transaction. Every part gets the
+ * first category and tier, a price of 100.00 and its index as sort order; every sub-part gets its
+ * parent's category and tier and a price of 10.00. A {@link Customizer} adjusts the entities
+ * before they are saved.
+ */
+@Component
+@RequiredArgsConstructor
+public class BuildFixtures {
+
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final VehicleRepository vehicleRepository;
+    private final VehicleUpgradeRepository vehicleUpgradeRepository;
+    private final UpgradeCategoryRepository upgradeCategoryRepository;
+    private final PartRepository partRepository;
+    private final SubPartRepository subPartRepository;
+    private final PartCategoryRepository partCategoryRepository;
+    private final PartTierRepository partTierRepository;
+
+    public BuildFixture createBuild(String prefix, int parts, int subPartsPerPart) {
+        return createBuild(prefix, parts, subPartsPerPart, new Customizer() {
+        });
+    }
+
+    /**
+     * @param prefix start of the username and email, followed by a random suffix
+     */
+    public BuildFixture createBuild(String prefix, int parts, int subPartsPerPart, Customizer customizer) {
+        return transactionTemplate.execute(status -> {
+            String username = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+            User user = User.builder()
+                    .username(username)
+                    .email(username + "@example.com")
+                    .passwordHash("not-used")
+                    .build();
+            customizer.user(user);
+            user = userRepository.save(user);
+
+            Vehicle vehicle = Vehicle.builder()
+                    .owner(user)
+                    .year(2021)
+                    .make("Toyota")
+                    .model("4Runner")
+                    .build();
+            customizer.vehicle(vehicle);
+            vehicle = vehicleRepository.save(vehicle);
+
+            VehicleUpgrade build = VehicleUpgrade.builder()
+                    .vehicle(vehicle)
+                    .upgradeCategory(upgradeCategoryRepository.findAllOrderBySortOrderAndName().get(0))
+                    .name("Test Build")
+                    .build();
+            customizer.build(build);
+            build = vehicleUpgradeRepository.save(build);
+
+            PartCategory category = partCategoryRepository.findAllOrderBySortOrderAndLabel().get(0);
+            PartTier tier = partTierRepository.findAllOrderByRank().get(0);
+            List<UUID> partIds = new ArrayList<>();
+            List<UUID> subPartIds = new ArrayList<>();
+            for (int i = 0; i < parts; i++) {
+                Part part = Part.builder()
+                        .vehicleUpgrade(build)
+                        .name("Part " + i)
+                        .partCategory(category)
+                        .partTier(tier)
+                        .price(new BigDecimal("100.00"))
+                        .sortOrder(i)
+                        .build();
+                customizer.part(part, i);
+                part = partRepository.save(part);
+                partIds.add(part.getId());
+
+                for (int j = 0; j < subPartsPerPart; j++) {
+                    SubPart subPart = SubPart.builder()
+                            .parentPart(part)
+                            .name("Sub-part " + i + "." + j)
+                            .partCategory(part.getPartCategory())
+                            .partTier(part.getPartTier())
+                            .price(new BigDecimal("10.00"))
+                            .sortOrder(j)
+                            .build();
+                    customizer.subPart(subPart, i, j);
+                    subPartIds.add(subPartRepository.save(subPart).getId());
+                }
+            }
+
+            return new BuildFixture(user, vehicle.getId(), build.getId(), List.copyOf(partIds), List.copyOf(subPartIds));
+        });
+    }
+
+    /**
+     * Deletes a fixture's user. Vehicles, builds, parts and sub-parts go with the user through
+     * ON DELETE CASCADE, so this removes everything {@link #createBuild} committed.
+     */
+    public void delete(UUID userId) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    /**
+     * Adjusts fixture entities before they are saved; every method does nothing by default.
+     */
+    public interface Customizer {
+
+        default void user(User user) {
+        }
+
+        default void vehicle(Vehicle vehicle) {
+        }
+
+        default void build(VehicleUpgrade build) {
+        }
+
+        default void part(Part part, int index) {
+        }
+
+        default void subPart(SubPart subPart, int partIndex, int index) {
+        }
+    }
+
+    /**
+     * Ids of the committed rows; parts and sub-parts in creation order.
+     */
+    public record BuildFixture(User user, UUID vehicleId, UUID buildId, List<UUID> partIds, List<UUID> subPartIds) {
+
+        public UUID userId() {
+            return user.getId();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+#!/bin/bash
+
+# Startup Time Benchmark
+# Builds the Docker image and compares cold-start time of its three startup modes:
+#   jar      - plain JVM start
+#   cds      - Class Data Sharing archive from the image's training run (the image default)
+#   aot+cds  - CDS plus Spring AOT bean definitions (opt-in; conditions frozen at build time)
+# Uses the same .env as compose.prod.yaml (DB_URL, DB_USER, DB_PASSWORD, ...).
+#
+# Usage: ./startup-benchmark.sh [runs-per-mode]
+
+set -e
+
+RUNS=${1:-5}
+IMAGE=car-builder-vin:startup-benchmark
+ENV_FILE=${ENV_FILE:-.env}
+TIMEOUT_SECONDS=180
+
+if [ ! -f "$ENV_FILE" ]; then
+    echo "❌ $ENV_FILE not found. Copy .env.example to .env and fill in your database credentials"
+    exit 1
+fi
+
+echo "🔨 Building $IMAGE..."
+docker build -q -t "$IMAGE" . > /dev/null
+
+# Prints the "process running for" seconds from the Spring Boot startup line
+measure() {
+    local startup_opts=$1
+    local container
+    container=$(docker run -d --env-file "$ENV_FILE" \
+        -e SPRING_PROFILES_ACTIVE=neon \
+        -e STARTUP_OPTS="$startup_opts" \
+        "$IMAGE")
+
+    local seconds=""
+    for _ in $(seq 1 $((TIMEOUT_SECONDS * 2))); do
+        seconds=$(docker logs "$container" 2>&1 \
+            | sed -n 's/.*Started CarBuilderVinApplication in .* (process running for \([0-9.]*\)).*/\1/p')
+        if [ -n "$seconds" ]; then
+            break
+        fi
+        sleep 0.5
+    done
+
+    docker rm -f "$container" > /dev/null
+    if [ -z "$seconds" ]; then
+        echo "❌ Application did not start within ${TIMEOUT_SECONDS}s" >&2
+        exit 1
+    fi
+    echo "$seconds"
+}
+
+run_mode() {
+    local name=$1
+    local startup_opts=$2
+    local times=""
+
+    for i in $(seq 1 "$RUNS"); do
+        times="$times $(measure "$startup_opts")"
+    done
+
+    echo "$times" | tr ' ' '\n' | grep -v '^$' | sort -n | awk -v name="$name" '
+        { t[NR] = $1; sum += $1 }
+        END { printf "  %-8s mean %6.2fs  median %6.2fs  min %6.2fs  max %6.2fs\n",
+              name, sum / NR, t[int((NR + 1) / 2)], t[1], t[NR] }'
+}
+
+echo "⏱  Startup time over $RUNS runs per mode (JVM start to application ready)"
+run_mode "jar" ""
+run_mode "cds" "-XX:SharedArchiveFile=application.jsa"
+run_mode "aot+cds" "-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true"